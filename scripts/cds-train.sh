@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+#
+# Genera un archivo de Class Data Sharing (AppCDS) con una ejecución de entrenamiento de AuthEventosApplication.
+#
+# El jar ejecutable se descomprime porque CDS solo archiva clases cargadas desde jars del classpath,
+# no desde el cargador anidado de Spring Boot. La ejecución de entrenamiento arranca el contexto completo
+# (requiere la base de datos configurada) y termina tras el refresh con spring.context.exit=onRefresh.
+#
+# Uso:    scripts/cds-train.sh
+# Salida: target/cds/ (aplicación descomprimida + application.jsa) y el comando de arranque.
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+OUT="target/cds"
+JAR="target/auth_eventos-0.0.1-SNAPSHOT.jar"
+
+./mvnw -B -q -DskipTests package
+
+rm -rf "$OUT" && mkdir -p "$OUT/app"
+(cd "$OUT/app" && jar -xf "../../../$JAR")
+(cd "$OUT/app/BOOT-INF/classes" && jar -cf ../../../application.jar .)
+
+CP="$OUT/application.jar:$(ls "$OUT"/app/BOOT-INF/lib/*.jar | grep -v spring-boot-devtools | paste -sd:)"
+echo "$CP" > "$OUT/classpath"
+
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" -Dspring.context.exit=onRefresh \
+    -cp "$CP" edu.unc.auth_eventos.AuthEventosApplication
+
+echo
+echo "Arranque con CDS (añadir -Dspring.main.lazy-initialization=true para diferir los beans no críticos):"
+echo "  java -XX:SharedArchiveFile=$OUT/application.jsa -cp \"\$(cat $OUT/classpath)\" edu.unc.auth_eventos.AuthEventosApplication"
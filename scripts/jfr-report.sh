@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+#
+# Resume una grabación de JDK Flight Recorder en un informe de latencias de los eventos de autenticación
+# (inicio de sesión, verificación de token y búsqueda de usuario), con percentiles por resultado y por fuente.
+#
+# La grabación se obtiene con el perfil scripts/auth-eventos.jfc, por ejemplo:
+#   java -XX:StartFlightRecording=settings=default,settings=scripts/auth-eventos.jfc,filename=auth.jfr -jar ...
+#   jcmd <pid> JFR.start settings=default settings=scripts/auth-eventos.jfc duration=5m filename=auth.jfr
+#
+# Uso:    scripts/jfr-report.sh auth.jfr
+# Salida: una tabla por la salida estándar.
+#
+set -euo pipefail
+
+if [ $# -ne 1 ]; then
+    echo "Uso: $0 <grabacion.jfr>" >&2
+    exit 2
+fi
+RECORDING="$(cd "$(dirname "$1")" && pwd)/$(basename "$1")"
+
+cd "$(dirname "$0")/.."
+if [ ! -f target/classes/edu/unc/auth_eventos/jfr/JfrReport.class ]; then
+    ./mvnw -B -q compile
+fi
+
+java -cp target/classes edu.unc.auth_eventos.jfr.JfrReport "$RECORDING"
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+#
+# Prueba de humo de la imagen nativa y comparación de arranque/RSS con la JVM.
+#
+# Requisitos: GraalVM 21 (native-image) y la base de datos configurada en application.properties
+# (o sobrescrita con SPRING_DATASOURCE_URL / USERNAME / PASSWORD).
+#
+# Uso:   scripts/native-smoke.sh [--skip-build]
+# Salida: target/startup-report.md
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT="${PORT:-18001}"
+REPORT="target/startup-report.md"
+NATIVE_BIN="target/auth_eventos"
+JAR="target/auth_eventos-0.0.1-SNAPSHOT.jar"
+
+if [[ "${1:-}" != "--skip-build" ]]; then
+    ./mvnw -B -q -DskipTests package
+    cp "$JAR" target/auth_eventos-jvm.jar
+    ./mvnw -B -q -Pnative -DskipTests native:compile
+fi
+
+SERVER_PID=""
+
+# Detiene el servidor en curso. Se registra en EXIT para no dejarlo vivo si la prueba falla.
+stop_server() {
+    if [[ -n "$SERVER_PID" ]]; then
+        kill "$SERVER_PID" 2>/dev/null || true
+        wait "$SERVER_PID" 2>/dev/null || true
+        SERVER_PID=""
+    fi
+}
+trap stop_server EXIT
+
+# Ejecuta un binario, espera a que responda y mide tiempo de arranque, RSS y el flujo de registro/login.
+run() {
+    local name="$1"; shift
+    local log="target/smoke-${name}.log"
+    local start end rss startup email body token ready=0
+
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" > "$log" 2>&1 &
+    SERVER_PID=$!
+
+    for _ in $(seq 1 600); do
+        if curl -s -o /dev/null "http://localhost:${PORT}/auth/login"; then
+            ready=1
+            break
+        fi
+        if ! kill -0 "$SERVER_PID" 2>/dev/null; then
+            echo "El proceso ${name} terminó antes de estar listo, ver ${log}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    (( ready )) || { echo "El proceso ${name} no respondió a tiempo, ver ${log}" >&2; exit 1; }
+    end=$(date +%s%N)
+
+    email="smoke-${name}-$(date +%s)@unc.edu.pe"
+    body="{\"email\":\"${email}\",\"password\":\"secreto123\"}"
+    token=$(curl -sf -H 'Api-Version: 1' -H 'Content-Type: application/json' -d "$body" \
+        "http://localhost:${PORT}/auth/register" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+    [[ -n "$token" ]] || { echo "Registro fallido en ${name}" >&2; exit 1; }
+    curl -sf -H 'Api-Version: 1' -H 'Content-Type: application/json' -d "$body" \
+        "http://localhost:${PORT}/auth/login" > /dev/null || { echo "Login fallido en ${name}" >&2; exit 1; }
+    curl -sf -H 'Api-Version: 1' -H "Authorization: Bearer ${token}" \
+        "http://localhost:${PORT}/roles" > /dev/null || { echo "GET /roles fallido en ${name}" >&2; exit 1; }
+
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/${SERVER_PID}/status")
+    startup=$(sed -n 's/.*Started AuthEventosApplication in \([0-9.]*\) seconds.*/\1/p' "$log" | head -1)
+    printf '| %s | %s s | %d ms | %d MB |\n' "$name" "${startup:-?}" $(((end - start) / 1000000)) $((rss / 1024)) >> "$REPORT"
+    stop_server
+}
+
+mkdir -p target
+{
+    echo "# Arranque: imagen nativa vs JVM"
+    echo
+    echo "| Build | Arranque de Spring | Hasta primera respuesta | RSS tras login |"
+    echo "|---|---|---|---|"
+} > "$REPORT"
+
+run native "$NATIVE_BIN"
+run jvm java -jar target/auth_eventos-jvm.jar
+
+cat "$REPORT"
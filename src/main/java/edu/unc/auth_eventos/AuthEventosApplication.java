@@ -1,13 +1,21 @@
 package edu.unc.auth_eventos;
 
+import edu.unc.auth_eventos.config.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AuthEventosApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(AuthEventosApplication.class, args);
+        SpringApplication application = new SpringApplication(AuthEventosApplication.class);
+        if (StartupReport.isEnabled()) {
+            application.setApplicationStartup(new BufferingApplicationStartup(StartupReport.CAPACITY));
+        }
+        application.run(args);
     }
 
 }
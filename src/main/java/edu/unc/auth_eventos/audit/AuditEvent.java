@@ -0,0 +1,35 @@
+/**
+ * @file: AuditEvent.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:04:37 AM
+ */
+package edu.unc.auth_eventos.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Clase que representa un evento de auditoría.
+ * <p>
+ * Es inmutable para poder publicarse desde cualquier hilo sin sincronización adicional.
+ */
+@Getter
+@AllArgsConstructor
+public class AuditEvent {
+    /**
+     * Momento del evento, en milisegundos desde la época.
+     */
+    private final long timestamp;
+    /**
+     * El tipo de evento.
+     */
+    private final AuditEventType tipo;
+    /**
+     * El email del usuario involucrado.
+     */
+    private final String email;
+    /**
+     * Detalle adicional del evento, puede ser nulo.
+     */
+    private final String detalle;
+}
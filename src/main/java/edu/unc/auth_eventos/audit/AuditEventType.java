@@ -0,0 +1,18 @@
+/**
+ * @file: AuditEventType.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:02:11 AM
+ */
+package edu.unc.auth_eventos.audit;
+
+/**
+ * Tipos de eventos de autenticación que se registran en la auditoría.
+ */
+public enum AuditEventType {
+    LOGIN_EXITOSO,
+    LOGIN_FALLIDO,
+    REGISTRO,
+    USUARIO_CREADO,
+    USUARIO_ACTUALIZADO,
+    USUARIO_ELIMINADO
+}
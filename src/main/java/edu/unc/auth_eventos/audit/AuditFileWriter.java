@@ -0,0 +1,128 @@
+/**
+ * @file: AuditFileWriter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:20:02 AM
+ */
+package edu.unc.auth_eventos.audit;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Escritor de solo anexado para los eventos de auditoría.
+ * <p>
+ * Escribe una línea JSON por evento en {@code audit-<fecha>.<n>.log} y rota el archivo al cambiar de día
+ * o al superar el tamaño máximo configurado. No es seguro para múltiples hilos: solo lo usa el consumidor.
+ */
+public class AuditFileWriter implements Closeable {
+    private final Path directory;
+    private final long maxFileSize;
+    private BufferedWriter writer;
+    private LocalDate currentDate;
+    private int currentIndex;
+    private long currentSize;
+
+    /**
+     * Constructor de la clase AuditFileWriter.
+     *
+     * @param directory   Directorio donde se escriben los archivos.
+     * @param maxFileSize Tamaño máximo de cada archivo en bytes.
+     */
+    public AuditFileWriter(Path directory, long maxFileSize) {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Escribe un lote de eventos y vacía el buffer del archivo.
+     *
+     * @param events Los eventos a escribir.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public void write(List<AuditEvent> events) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        for (AuditEvent event : events) {
+            line.setLength(0);
+            format(event, line);
+            rotateIfNeeded(event.getTimestamp(), line.length());
+            writer.append(line);
+            currentSize += line.length();
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void rotateIfNeeded(long timestamp, int nextLength) throws IOException {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC).toLocalDate();
+        if (writer != null && date.equals(currentDate) && currentSize + nextLength <= maxFileSize) {
+            return;
+        }
+        close();
+        Files.createDirectories(directory);
+        if (!date.equals(currentDate)) {
+            currentDate = date;
+            currentIndex = 0;
+        }
+        Path file = directory.resolve("audit-" + date + "." + currentIndex + ".log");
+        while (Files.exists(file) && Files.size(file) + nextLength > maxFileSize) {
+            file = directory.resolve("audit-" + date + "." + (++currentIndex) + ".log");
+        }
+        currentSize = Files.exists(file) ? Files.size(file) : 0;
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    private static void format(AuditEvent event, StringBuilder out) {
+        out.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.getTimestamp()))
+                .append("\",\"tipo\":\"").append(event.getTipo().name())
+                .append("\",\"email\":");
+        quote(event.getEmail(), out);
+        out.append(",\"detalle\":");
+        quote(event.getDetalle(), out);
+        out.append("}\n");
+    }
+
+    private static void quote(String value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
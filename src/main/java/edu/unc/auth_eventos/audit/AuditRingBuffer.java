@@ -0,0 +1,115 @@
+/**
+ * @file: AuditRingBuffer.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:08:24 AM
+ */
+package edu.unc.auth_eventos.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular acotado y sin bloqueos para múltiples productores y un único consumidor.
+ * <p>
+ * Cada celda tiene un número de secuencia que indica si está libre para el productor de la vuelta
+ * actual o lista para el consumidor. Los productores reservan una celda con un CAS sobre la cola;
+ * el consumidor avanza la cabeza sin contención.
+ *
+ * @param <E> Tipo de los elementos.
+ */
+public class AuditRingBuffer<E> {
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Constructor de la clase AuditRingBuffer.
+     *
+     * @param capacity Capacidad del buffer, se redondea a la siguiente potencia de dos.
+     */
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 2.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Intenta insertar un elemento sin bloquear.
+     *
+     * @param element El elemento a insertar.
+     * @return true si se insertó, false si el buffer está lleno.
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Extrae hasta {@code max} elementos en orden de publicación. Solo debe llamarlo el consumidor.
+     *
+     * @param target Lista donde se agregan los elementos.
+     * @param max    Número máximo de elementos a extraer.
+     * @return El número de elementos extraídos.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super E> target, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add((E) buffer[index]);
+            buffer[index] = null;
+            sequences.set(index, position + buffer.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * Obtiene el número aproximado de elementos pendientes.
+     *
+     * @return El número de elementos pendientes.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Obtiene la capacidad real del buffer.
+     *
+     * @return La capacidad.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
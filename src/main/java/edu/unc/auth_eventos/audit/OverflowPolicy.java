@@ -0,0 +1,20 @@
+/**
+ * @file: OverflowPolicy.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:05:50 AM
+ */
+package edu.unc.auth_eventos.audit;
+
+/**
+ * Política a aplicar cuando el buffer de auditoría está lleno.
+ */
+public enum OverflowPolicy {
+    /**
+     * Descarta el evento y lo contabiliza.
+     */
+    DROP,
+    /**
+     * Bloquea al productor hasta que haya espacio disponible.
+     */
+    BLOCK
+}
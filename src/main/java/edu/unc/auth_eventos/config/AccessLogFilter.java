@@ -0,0 +1,106 @@
+/**
+ * @file: AccessLogFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:44:57 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que registra una muestra de las solicitudes en el log de acceso, y siempre las lentas y las fallidas
+ * (estado 5xx o excepción), junto con las sentencias SQL que ejecutaron.
+ * <p>
+ * La decisión se toma al terminar la solicitud, así que las sentencias se retienen en {@link RequestLogContext}
+ * mientras tanto. Con el logger de acceso desactivado el filtro no hace nada.
+ */
+@Slf4j(topic = "edu.unc.auth_eventos.access")
+public class AccessLogFilter extends OncePerRequestFilter {
+    private final double sampleRate;
+    private final long slowRequestNanos;
+    private final int maxStatements;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param sampleRate    La fracción de solicitudes registradas, entre 0 y 1.
+     * @param slowRequestMs El umbral en milisegundos a partir del cual una solicitud siempre se registra, o 0
+     *                      para no tenerlo en cuenta.
+     * @param maxStatements El máximo de sentencias SQL registradas por solicitud.
+     */
+    public AccessLogFilter(double sampleRate, long slowRequestMs, int maxStatements) {
+        this.sampleRate = sampleRate;
+        this.slowRequestNanos = slowRequestMs > 0 ? TimeUnit.MILLISECONDS.toNanos(slowRequestMs) : Long.MAX_VALUE;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestLogContext context = RequestLogContext.start(maxStatements);
+        long begin = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - begin;
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            boolean slow = nanos >= slowRequestNanos;
+            if (slow || status >= 500 || sampled()) {
+                write(request, status, nanos, slow, failure, context);
+            }
+            context.clear();
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static void write(HttpServletRequest request, int status, long nanos, boolean slow, Throwable failure,
+                              RequestLogContext context) {
+        StringBuilder line = new StringBuilder(256)
+                .append(request.getMethod()).append(' ').append(request.getRequestURI())
+                .append(' ').append(status)
+                .append(' ').append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms")
+                .append(" sql=").append(context.statements().size() + context.dropped());
+        if (slow) {
+            line.append(" lenta");
+        }
+        if (failure != null) {
+            line.append(" error=").append(failure.getClass().getSimpleName());
+        }
+        for (String sql : context.statements()) {
+            line.append("\n  ").append(sql);
+        }
+        if (context.dropped() > 0) {
+            line.append("\n  ... ").append(context.dropped()).append(" más");
+        }
+        if (slow || status >= 500) {
+            log.warn("{}", line);
+        } else {
+            log.info("{}", line);
+        }
+    }
+}
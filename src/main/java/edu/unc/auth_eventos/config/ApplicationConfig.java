@@ -5,11 +5,22 @@
  */
 package edu.unc.auth_eventos.config;
 
+import edu.unc.auth_eventos.dto.RolDTO;
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
 import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.invalidation.InvalidationBus;
+import edu.unc.auth_eventos.invalidation.InvalidationListener;
+import edu.unc.auth_eventos.invalidation.VersionedCache;
+import edu.unc.auth_eventos.jfr.UserLookupEvent;
 import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.CredentialIndexService;
+import edu.unc.auth_eventos.service.LoginAttemptService;
+import edu.unc.auth_eventos.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +31,11 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Clase de configuración de la aplicación.
@@ -41,17 +57,49 @@ public class ApplicationConfig {
     @Autowired
     private UsuarioRepository userRepository;
 
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CredentialIndexService credentialIndexService;
+
+    @Value("${app.usuarios.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${app.usuarios.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${app.usuarios.cache.ttl-ms:30000}")
+    private long cacheTtlMillis;
+
     /**
      * {@code ModelMapper} es una biblioteca que simplifica el mapeo de objetos en Java.
      * Se utiliza a menudo para convertir entre objetos de dominio y DTOs.
      * <p>
      * La anotación {@code @Bean} indica que este método produce un bean que debe ser gestionado por el contenedor de Spring.
      *
+     * Cada conversión suma su tiempo a la fase {@code map} de {@link edu.unc.auth_eventos.util.RequestTiming}.
+     * Los permisos de un rol se convierten entre el mapa de bits de la entidad y el conjunto del DTO.
+     *
      * @return una nueva instancia de {@code ModelMapper}.
      */
     @Bean
+    @SuppressWarnings("unchecked")
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new TimedModelMapper();
+        modelMapper.typeMap(Rol.class, RolDTO.class).addMappings(mapper -> mapper
+                .using(context -> Permiso.fromBits((Long) context.getSource()))
+                .map(Rol::getPermisos, RolDTO::setPermisos));
+        modelMapper.typeMap(RolDTO.class, Rol.class).addMappings(mapper -> mapper
+                .using(context -> Permiso.toBits((Set<Permiso>) context.getSource()))
+                .map(RolDTO::getPermisos, Rol::setPermisos));
+        return modelMapper;
     }
 
     /**
@@ -84,28 +132,73 @@ public class ApplicationConfig {
     /**
      * Crea una nueva instancia de BCryptPasswordEncoder.
      * BCryptPasswordEncoder es un codificador de contraseñas que utiliza el algoritmo de hash BCrypt.
+     * Cada hash y cada comprobación suman su tiempo a la fase {@code hash} de
+     * {@link edu.unc.auth_eventos.util.RequestTiming}.
      *
      * @return una nueva instancia de BCryptPasswordEncoder.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     /**
      * Crea una nueva instancia de UserDetailsService.
      * UserDetailsService es una interfaz que se utiliza para recuperar información del usuario.
+     * <p>
+     * La consulta se ejecuta en una transacción de solo lectura para que, con la separación de lecturas activada,
+     * la búsqueda del filtro JWT (que corre fuera de cualquier transacción) se envíe a una réplica.
+     * Las búsquedas concurrentes del mismo email comparten una sola consulta (ver {@link SingleFlight}), salvo
+     * en un hilo que ya escribió en la solicitud actual, que necesita leer de la principal.
+     * <p>
+     * Con {@code app.usuarios.cache.enabled} los usuarios se guardan en una {@link VersionedCache} por email, que el
+     * {@link InvalidationBus} invalida cuando esta u otra instancia modifica el usuario, y vacía cuando cambia un
+     * rol (los usuarios guardados llevan el suyo con sus permisos).
+     * <p>
+     * Con {@code app.credential-index.enabled} la búsqueda pasa antes por el {@link CredentialIndexService}, fuera del
+     * heap, y solo las cuentas que no están en él llegan a la base de datos.
+     * <p>
+     * Cada capa anota en el {@link UserLookupEvent} de JFR en curso que va a resolver la búsqueda; la última que lo
+     * anota es la que sirvió al usuario.
      *
      * @return una nueva instancia de UserDetailsService.
      */
     @Bean
     public UserDetailsService userDetailService() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        SingleFlight<String, Usuario> lookups = new SingleFlight<>();
+        Function<String, Usuario> database = email -> {
+            UserLookupEvent.servedBy(UserLookupEvent.BASE_DE_DATOS);
+            return lookups.execute(email, () -> readOnly.execute(status -> userRepository.findByEmail(email)));
+        };
+        Function<String, Usuario> shared = email -> {
+            UserLookupEvent.servedBy(UserLookupEvent.INDICE);
+            return credentialIndexService.findByEmail(email, database);
+        };
+        Function<String, Usuario> lookup = shared;
+        if (cacheEnabled) {
+            VersionedCache<Usuario> cache = new VersionedCache<>(cacheMaxEntries, cacheTtlMillis);
+            invalidationBus.subscribe(InvalidationBus.REGION_USUARIOS, cache);
+            invalidationBus.subscribe(InvalidationBus.REGION_ROLES, InvalidationListener.onAny(cache::reset));
+            lookup = email -> {
+                UserLookupEvent.servedBy(UserLookupEvent.CACHE);
+                return cache.get(email, shared, Usuario::getVersion);
+            };
+        }
+        Function<String, Usuario> cached = lookup;
         return email -> {
-            Usuario usuario = userRepository.findByEmail(email);
+            Usuario usuario;
+            if (ReplicationContext.hasWritten()) {
+                UserLookupEvent.servedBy(UserLookupEvent.PRINCIPAL);
+                usuario = readOnly.execute(status -> userRepository.findByEmail(email));
+            } else {
+                usuario = cached.apply(email);
+            }
             if (usuario == null) {
                 throw new UsernameNotFoundException("Usuario no encontrado.");
             }
-            return new CustomUserDetails(usuario);
+            return new CustomUserDetails(usuario, loginAttemptService.getLockRemaining(email, usuario) == 0);
         };
     }
 }
@@ -0,0 +1,67 @@
+/**
+ * @file: ConcurrencyLimitConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 02:30:09 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.util.AdaptiveLimit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de los límites de concurrencia adaptativos de las rutas {@code /auth/**}
+ * ({@code app.concurrency.auth.*}) y de las autenticadas ({@code app.concurrency.api.*}).
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+    @Value("${app.concurrency.auth.initial-limit:16}")
+    private int authInitialLimit;
+
+    @Value("${app.concurrency.auth.min-limit:8}")
+    private int authMinLimit;
+
+    @Value("${app.concurrency.auth.max-limit:256}")
+    private int authMaxLimit;
+
+    @Value("${app.concurrency.api.initial-limit:32}")
+    private int apiInitialLimit;
+
+    @Value("${app.concurrency.api.min-limit:16}")
+    private int apiMinLimit;
+
+    @Value("${app.concurrency.api.max-limit:1000}")
+    private int apiMaxLimit;
+
+    /**
+     * Crea el filtro de concurrencia, que {@link SecurityConfig} añade antes de la autenticación JWT.
+     *
+     * @param objectMapper El mapeador de la aplicación.
+     * @return El filtro.
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ObjectMapper objectMapper) {
+        return new ConcurrencyLimitFilter(
+                new AdaptiveLimit(authInitialLimit, authMinLimit, authMaxLimit),
+                new AdaptiveLimit(apiInitialLimit, apiMinLimit, apiMaxLimit),
+                objectMapper);
+    }
+
+    /**
+     * Evita que el filtro se registre también en la cadena de filtros del servidor, donde contaría dos veces cada
+     * solicitud.
+     *
+     * @param concurrencyLimitFilter El filtro.
+     * @return El registro desactivado del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
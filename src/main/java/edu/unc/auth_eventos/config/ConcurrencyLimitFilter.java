@@ -0,0 +1,93 @@
+/**
+ * @file: ConcurrencyLimitFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 02:21:47 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.exception.ErrorMessage;
+import edu.unc.auth_eventos.util.AdaptiveLimit;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que limita las solicitudes en curso con un {@link AdaptiveLimit} y rechaza con 503 las que lo superan.
+ * <p>
+ * Sin límite Tomcat encola las solicitudes sin cota y, por encima de la saturación, la latencia de todas crece
+ * con la cola. Rechazar pronto mantiene la latencia de las admitidas cerca de la de saturación; el cliente
+ * reintenta tras {@code Retry-After}. Las rutas {@code /auth/**} (dominadas por BCrypt) y las autenticadas tienen
+ * límites separados, para que una avalancha de inicios de sesión no deje sin servicio a los usuarios con token.
+ * <p>
+ * Va en la cadena de seguridad antes de {@code JwtAuthenticationFilter}, así que una solicitud rechazada no llega a
+ * validar el token ni a buscar al usuario.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String AUTH_PREFIX = "/auth/";
+
+    private final AdaptiveLimit authLimit;
+    private final AdaptiveLimit apiLimit;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param authLimit    El límite de las rutas {@code /auth/**}.
+     * @param apiLimit     El límite de las demás rutas.
+     * @param objectMapper El mapeador para escribir los errores.
+     */
+    public ConcurrencyLimitFilter(AdaptiveLimit authLimit, AdaptiveLimit apiLimit, ObjectMapper objectMapper) {
+        this.authLimit = authLimit;
+        this.apiLimit = apiLimit;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveLimit limit = request.getRequestURI().startsWith(AUTH_PREFIX, request.getContextPath().length())
+                ? authLimit : apiLimit;
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(HttpStatus.SERVICE_UNAVAILABLE,
+                    "El servicio está saturado, intente de nuevo.", "uri=" + request.getRequestURI()));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Obtiene el límite de las rutas {@code /auth/**}.
+     *
+     * @return El límite.
+     */
+    public AdaptiveLimit getAuthLimit() {
+        return authLimit;
+    }
+
+    /**
+     * Obtiene el límite de las rutas autenticadas.
+     *
+     * @return El límite.
+     */
+    public AdaptiveLimit getApiLimit() {
+        return apiLimit;
+    }
+}
@@ -1,23 +1,88 @@
 package edu.unc.auth_eventos.config;
 
+import edu.unc.auth_eventos.entity.Permiso;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import edu.unc.auth_eventos.entity.Usuario;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomUserDetails implements UserDetails {
+    /**
+     * Listas inmutables de autoridades compartidas por todos los usuarios con el mismo rol y los mismos permisos.
+     */
+    private static final ConcurrentHashMap<Clave, List<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+
     private final Usuario usuario;
+    private final boolean accountNonLocked;
+    private List<GrantedAuthority> authorities;
 
     public CustomUserDetails(Usuario usuario) {
+        this(usuario, true);
+    }
+
+    public CustomUserDetails(Usuario usuario, boolean accountNonLocked) {
         this.usuario = usuario;
+        this.accountNonLocked = accountNonLocked;
     }
 
+    /**
+     * Obtiene el rol como autoridad seguido de una autoridad {@code PERM_<nombre>} por cada permiso.
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(usuario.getRol().getNombre()));
+        List<GrantedAuthority> cached = authorities;
+        if (cached == null) {
+            cached = AUTHORITIES.computeIfAbsent(
+                    new Clave(usuario.getRol().getNombre(), usuario.getRol().getPermisos()), CustomUserDetails::build);
+            authorities = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Obtiene los permisos del rol del usuario como mapa de bits.
+     *
+     * @return El mapa de bits de {@link Permiso}.
+     */
+    public long getPermisos() {
+        return usuario.getRol().getPermisos();
+    }
+
+    /**
+     * Comprueba un permiso con una sola operación de bits.
+     *
+     * @param permiso El permiso.
+     * @return true si el rol del usuario lo concede.
+     */
+    public boolean tiene(Permiso permiso) {
+        return permiso.in(usuario.getRol().getPermisos());
+    }
+
+    /**
+     * Comprueba un permiso del usuario autenticado sin recorrer sus autoridades.
+     *
+     * @param authentication La autenticación actual, puede ser nula.
+     * @param permiso        El permiso.
+     * @return true si el principal es un {@code CustomUserDetails} cuyo rol concede el permiso.
+     */
+    public static boolean tiene(Authentication authentication, Permiso permiso) {
+        return authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user
+                && user.tiene(permiso);
+    }
+
+    private static List<GrantedAuthority> build(Clave clave) {
+        List<GrantedAuthority> list = new ArrayList<>();
+        list.add(new SimpleGrantedAuthority(clave.rol()));
+        for (Permiso permiso : Permiso.fromBits(clave.permisos())) {
+            list.add(permiso.authority());
+        }
+        return List.copyOf(list);
     }
 
     @Override
@@ -37,7 +102,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return accountNonLocked;
     }
 
     @Override
@@ -49,4 +114,7 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
+
+    private record Clave(String rol, long permisos) {
+    }
 }
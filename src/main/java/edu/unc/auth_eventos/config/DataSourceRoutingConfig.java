@@ -0,0 +1,125 @@
+/**
+ * @file: DataSourceRoutingConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:25:33 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de la separación de lecturas y escrituras entre la base de datos principal y sus réplicas.
+ * <p>
+ * Se activa con {@code app.datasource.routing.enabled=true}. La principal usa las propiedades
+ * {@code spring.datasource.*} y las réplicas se declaran en {@code app.datasource.replica.urls},
+ * separadas por comas. Cada destino tiene su propio pool de conexiones, que se cierra al detener el contexto.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements DisposableBean {
+    @Value("${app.datasource.routing.read-your-writes:true}")
+    private boolean readYourWrites;
+
+    @Value("${app.datasource.primary.pool-size:10}")
+    private int primaryPoolSize;
+
+    @Value("${app.datasource.replica.urls:}")
+    private String replicaUrls;
+
+    @Value("${app.datasource.replica.pool-size:20}")
+    private int replicaPoolSize;
+
+    /**
+     * Pools creados por esta configuración; el proxy enrutado no los cierra.
+     */
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    /**
+     * Crea el {@code DataSource} enrutado que utilizan JPA y los repositorios.
+     *
+     * @param properties Las propiedades de {@code spring.datasource}.
+     * @return El {@code DataSource} enrutado.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", primaryPoolSize, false);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+            if (StringUtils.hasText(url)) {
+                replicas.add(pool(properties, url.trim(), "replica-" + replicas.size(), replicaPoolSize, true));
+            }
+        }
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replicas, readYourWrites);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Registra el filtro que limpia el contexto de replicación al terminar cada solicitud.
+     *
+     * @return El registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ReplicationContextFilter> replicationContextFilter() {
+        FilterRegistrationBean<ReplicationContextFilter> registration = new FilterRegistrationBean<>(new ReplicationContextFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Cierra los pools de conexiones de la principal y de las réplicas.
+     */
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+
+    /**
+     * Crea un pool de conexiones Hikari para un destino.
+     *
+     * @param properties Las propiedades de {@code spring.datasource}.
+     * @param url        La URL JDBC del destino.
+     * @param name       El nombre del pool.
+     * @param poolSize   El tamaño máximo del pool.
+     * @param readOnly   Si las conexiones son de solo lectura.
+     * @return El pool de conexiones.
+     */
+    private HikariDataSource pool(DataSourceProperties properties, String url, String name, int poolSize, boolean readOnly) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(Math.max(1, poolSize / 4));
+        dataSource.setConnectionTimeout(readOnly ? 2000 : 5000);
+        dataSource.setReadOnly(readOnly);
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+        }
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
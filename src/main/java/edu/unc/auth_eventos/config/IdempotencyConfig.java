@@ -0,0 +1,71 @@
+/**
+ * @file: IdempotencyConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:57:06 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+
+/**
+ * Configuración de las claves de idempotencia para las rutas {@code app.idempotency.paths}.
+ * <p>
+ * Cada respuesta se guarda {@code app.idempotency.ttl-ms} milisegundos, con un máximo de
+ * {@code app.idempotency.max-entries} respuestas. Una repetición espera a la primera ejecución como mucho
+ * {@code app.idempotency.wait-ms} y el cuerpo de las solicitudes con clave se limita a
+ * {@code app.idempotency.max-body-bytes}.
+ */
+@Configuration
+public class IdempotencyConfig {
+    @Value("${app.idempotency.paths:/auth/register,/usuarios}")
+    private String paths;
+
+    @Value("${app.idempotency.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.idempotency.wait-ms:10000}")
+    private long waitMillis;
+
+    @Value("${app.idempotency.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    /**
+     * Crea el filtro de idempotencia, que {@link SecurityConfig} añade después de la autenticación JWT.
+     *
+     * @param objectMapper El mapeador de la aplicación.
+     * @return El filtro.
+     */
+    @Bean
+    public IdempotencyFilter idempotencyFilter(ObjectMapper objectMapper) {
+        return new IdempotencyFilter(
+                Arrays.stream(StringUtils.commaDelimitedListToStringArray(paths))
+                        .map(String::trim)
+                        .filter(StringUtils::hasText)
+                        .toList(),
+                ttlMillis, maxEntries, waitMillis, maxBodyBytes, objectMapper);
+    }
+
+    /**
+     * Evita que el filtro se registre también en la cadena de filtros del servidor, donde se ejecutaría antes de
+     * conocer al usuario autenticado.
+     *
+     * @param idempotencyFilter El filtro.
+     * @return El registro desactivado del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,380 @@
+/**
+ * @file: IdempotencyFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:48:20 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.exception.ErrorMessage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro que hace idempotentes las solicitudes POST de las rutas configuradas cuando traen el encabezado
+ * {@code Idempotency-Key}.
+ * <p>
+ * La primera solicitud con una clave se ejecuta y su respuesta (estado, encabezados y cuerpo) se guarda; las
+ * repeticiones reciben la respuesta guardada con {@code Idempotent-Replayed: true} sin volver a ejecutar la
+ * búsqueda por email ni el hash de BCrypt. Las repeticiones que llegan mientras la primera sigue en curso
+ * esperan su resultado como mucho {@code waitMillis}; si no llega a tiempo responden 409 con {@code Retry-After},
+ * sin ocupar el hilo más tiempo. Las respuestas 5xx y las excepciones no se guardan, así que un reintento vuelve a
+ * ejecutarse. Reutilizar una clave con otro cuerpo responde 422.
+ * <p>
+ * El cuerpo se lee entero para calcular su huella, así que se limita a {@code maxBodyBytes}: uno mayor (por
+ * {@code Content-Length} o al leerlo) responde 413 sin llegar al controlador.
+ * <p>
+ * Las claves se aíslan por método, ruta y usuario autenticado, por eso el filtro va en la cadena de seguridad
+ * después de {@code JwtAuthenticationFilter}. La caché tiene un máximo de entradas y cada entrada caduca a los
+ * {@code ttlMillis}; como todas viven lo mismo, el orden de inserción es el de caducidad y basta revisar la
+ * cabeza del mapa.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    /**
+     * Encabezado con la clave de idempotencia enviada por el cliente.
+     */
+    public static final String KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Encabezado que marca una respuesta repetida desde la caché.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Set<String> paths;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitMillis;
+    private final int maxBodyBytes;
+    private final ObjectMapper objectMapper;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Crea el filtro.
+     *
+     * @param paths        Las rutas cuyas solicitudes POST admiten la clave.
+     * @param ttlMillis    El tiempo durante el que se guarda cada respuesta.
+     * @param maxEntries   El máximo de respuestas guardadas; al superarlo se descartan las más antiguas.
+     * @param waitMillis   La espera máxima de una repetición por la respuesta de la primera ejecución.
+     * @param maxBodyBytes El tamaño máximo del cuerpo de las solicitudes con clave.
+     * @param objectMapper El mapeador para escribir los errores.
+     */
+    public IdempotencyFilter(Collection<String> paths, long ttlMillis, int maxEntries, long waitMillis,
+                             int maxBodyBytes, ObjectMapper objectMapper) {
+        this.paths = Set.copyOf(paths);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.waitMillis = waitMillis;
+        this.maxBodyBytes = maxBodyBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(KEY_HEADER) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            error(request, response, HttpStatus.BAD_REQUEST,
+                    "El encabezado " + KEY_HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres.");
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            error(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "El cuerpo de una solicitud con " + KEY_HEADER + " no puede superar " + maxBodyBytes + " bytes.");
+            return;
+        }
+        CachedBodyRequest cached = new CachedBodyRequest(request, body);
+        byte[] fingerprint = sha256(body);
+        String scope = request.getMethod() + ' ' + request.getRequestURI() + ' ' + principal() + ' ' + key;
+
+        while (true) {
+            Entry entry = new Entry(fingerprint, clock.millis() + ttlMillis);
+            Entry existing = claim(scope, entry);
+            if (existing == null) {
+                execute(scope, entry, cached, response, filterChain);
+                return;
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                error(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "La clave " + KEY_HEADER + " ya se usó con otro cuerpo.");
+                return;
+            }
+            StoredResponse stored;
+            try {
+                stored = existing.response.get(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                error(request, response, HttpStatus.CONFLICT,
+                        "La solicitud con la clave " + KEY_HEADER + " sigue en curso, intente de nuevo.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                // La respuesta nunca se completa con error; se trata como una ejecución sin respuesta guardada.
+                stored = null;
+            }
+            if (stored != null) {
+                stored.replay(response);
+                return;
+            }
+            // La primera ejecución falló sin guardar respuesta: se vuelve a intentar como primera.
+        }
+    }
+
+    /**
+     * Obtiene el número de respuestas guardadas o en curso.
+     *
+     * @return El número de entradas.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void execute(String scope, Entry entry, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 500) {
+                stored = StoredResponse.of(wrapper);
+            }
+        } finally {
+            if (stored == null) {
+                synchronized (entries) {
+                    entries.remove(scope, entry);
+                }
+            }
+            entry.response.complete(stored);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Registra la entrada si la clave no tiene una vigente.
+     *
+     * @return La entrada vigente de la clave, o {@code null} si se registró la nueva.
+     */
+    private Entry claim(String scope, Entry entry) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Iterator<Entry> oldest = entries.values().iterator();
+            while (oldest.hasNext()) {
+                Entry head = oldest.next();
+                if (head.expiresAt > now && entries.size() < maxEntries) {
+                    break;
+                }
+                oldest.remove();
+            }
+            Entry existing = entries.get(scope);
+            if (existing != null && existing.expiresAt > now) {
+                return existing;
+            }
+            entries.remove(scope);
+            entries.put(scope, entry);
+            return null;
+        }
+    }
+
+    /**
+     * Lee el cuerpo de la solicitud si no supera {@code maxBodyBytes}.
+     *
+     * @return El cuerpo, o {@code null} si es mayor que el límite.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "-";
+    }
+
+    private void error(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorMessage(status, message, "uri=" + request.getRequestURI()));
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Usado solo en pruebas.
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Clave registrada, con la huella del cuerpo y la respuesta que completa la primera ejecución.
+     */
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Respuesta guardada para repetirla.
+     */
+    private record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+        private static StoredResponse of(ContentCachingResponseWrapper wrapper) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                headers.put(name, new ArrayList<>(wrapper.getHeaders(name)));
+            }
+            if (wrapper.getContentType() != null) {
+                headers.put("Content-Type", List.of(wrapper.getContentType()));
+            }
+            return new StoredResponse(wrapper.getStatus(), headers, wrapper.getContentAsByteArray());
+        }
+
+        private void replay(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> {
+                for (int i = 0; i < values.size(); i++) {
+                    if (i == 0) {
+                        response.setHeader(name, values.get(i));
+                    } else {
+                        response.addHeader(name, values.get(i));
+                    }
+                }
+            });
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Solicitud con el cuerpo leído de antemano, para calcular su huella y volver a leerlo en el controlador.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                private ReadListener listener;
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * El cuerpo ya está en memoria: se avisa al instante de que hay datos, si quedan, y de que se
+                 * leyeron todos.
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    if (this.listener != null) {
+                        throw new IllegalStateException("El ReadListener ya se asignó.");
+                    }
+                    this.listener = listener;
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * @file: InvalidationConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 01:12:45 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.invalidation.InMemoryTransport;
+import edu.unc.auth_eventos.invalidation.InvalidationBus;
+import edu.unc.auth_eventos.invalidation.InvalidationTransport;
+import edu.unc.auth_eventos.invalidation.MulticastTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+
+/**
+ * Configuración del bus de invalidación de cachés entre instancias.
+ * <p>
+ * Con {@code app.invalidation.transport=memory} (por defecto) las invalidaciones no salen del proceso, lo que
+ * basta con una sola instancia. Con {@code multicast} todas las instancias de la red local que usen el mismo
+ * grupo y puerto se invalidan entre sí.
+ */
+@Configuration
+public class InvalidationConfig {
+    @Value("${app.invalidation.transport:memory}")
+    private String transport;
+
+    @Value("${app.invalidation.multicast.group:239.255.27.1}")
+    private String group;
+
+    @Value("${app.invalidation.multicast.port:45588}")
+    private int port;
+
+    @Value("${app.invalidation.multicast.interface:}")
+    private String interfaceName;
+
+    @Value("${app.invalidation.multicast.ttl:1}")
+    private int timeToLive;
+
+    @Value("${app.invalidation.flush-ms:20}")
+    private long flushMillis;
+
+    @Value("${app.invalidation.heartbeat-ms:1000}")
+    private long heartbeatMillis;
+
+    /**
+     * Crea y arranca el bus con el transporte configurado.
+     *
+     * @return El bus.
+     */
+    @Bean(destroyMethod = "close")
+    public InvalidationBus invalidationBus() {
+        InvalidationBus bus = new InvalidationBus(createTransport(), flushMillis, heartbeatMillis);
+        try {
+            bus.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el transporte de invalidación " + transport + ".", e);
+        }
+        return bus;
+    }
+
+    private InvalidationTransport createTransport() {
+        return switch (transport) {
+            case "memory" -> new InMemoryTransport(new InMemoryTransport.Hub());
+            case "multicast" -> {
+                try {
+                    NetworkInterface networkInterface = null;
+                    if (StringUtils.hasText(interfaceName)) {
+                        networkInterface = NetworkInterface.getByName(interfaceName);
+                        if (networkInterface == null) {
+                            throw new IllegalStateException("No existe la interfaz de red " + interfaceName + ".");
+                        }
+                    }
+                    yield new MulticastTransport(InetAddress.getByName(group), port, networkInterface, timeToLive);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            default -> throw new IllegalStateException("Transporte de invalidación desconocido: " + transport + ".");
+        };
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * @file: JacksonConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 01:30:44 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.Module;
+import edu.unc.auth_eventos.util.JsonSerializers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Clase de configuración de la serialización JSON.
+ * <p>
+ * Spring Boot registra automáticamente los beans {@code Module} en el {@code ObjectMapper} de la aplicación.
+ */
+@Configuration
+public class JacksonConfig {
+    /**
+     * Registra los serializadores escritos a mano para las respuestas de la API.
+     *
+     * @return El módulo de Jackson.
+     */
+    @Bean
+    public Module authEventosJsonModule() {
+        return JsonSerializers.module();
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * @file: LoggingConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:51:23 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuración del log de acceso y del log muestreado de sentencias SQL.
+ * <p>
+ * Una fracción {@code app.logging.sample-rate} de las solicitudes se registra, y siempre las que tardan al
+ * menos {@code app.logging.slow-request-ms} o fallan. Con {@code app.logging.sql.enabled=true} cada línea
+ * incluye hasta {@code app.logging.sql.max-statements} sentencias. Las líneas se escriben en los loggers
+ * {@code edu.unc.auth_eventos.access} y {@code edu.unc.auth_eventos.sql}, que el perfil {@code prod} de
+ * {@code logback-spring.xml} envía a appenders asíncronos.
+ */
+@Configuration
+public class LoggingConfig {
+    @Value("${app.logging.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${app.logging.slow-request-ms:1000}")
+    private long slowRequestMs;
+
+    @Value("${app.logging.sql.max-statements:50}")
+    private int maxStatements;
+
+    /**
+     * Registra el filtro del log de acceso dentro del filtro de {@code Server-Timing}, antes de seguridad.
+     *
+     * @return El registro del filtro.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.logging.access.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter() {
+        FilterRegistrationBean<AccessLogFilter> registration =
+                new FilterRegistrationBean<>(new AccessLogFilter(sampleRate, slowRequestMs, maxStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * Registra el inspector de sentencias SQL, salvo que {@code spring.jpa.properties} ya declare otro.
+     *
+     * @return El personalizador de las propiedades de Hibernate.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.logging.sql.enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer sampledSqlInspector() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR,
+                new SampledSqlInspector(sampleRate));
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * @file: NativeHintsConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 02:05:31 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.dto.ActividadDTO;
+import edu.unc.auth_eventos.dto.CambioDTO;
+import edu.unc.auth_eventos.dto.CuentaActivaDTO;
+import edu.unc.auth_eventos.dto.EliminacionUsuariosDTO;
+import edu.unc.auth_eventos.dto.LoginRequest;
+import edu.unc.auth_eventos.dto.LoginResponse;
+import edu.unc.auth_eventos.dto.ReasignacionRolDTO;
+import edu.unc.auth_eventos.dto.ResultadoMasivoDTO;
+import edu.unc.auth_eventos.dto.RolDTO;
+import edu.unc.auth_eventos.dto.UsuarioPatchDTO;
+import edu.unc.auth_eventos.dto.UsuarioPatchResponseDTO;
+import edu.unc.auth_eventos.dto.UsuarioRequestDTO;
+import edu.unc.auth_eventos.dto.UsuarioResponseDTO;
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.util.ApiResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Clase de configuración de los metadatos de alcanzabilidad para la imagen nativa de GraalVM.
+ * <p>
+ * Spring AOT genera los metadatos de los beans y de las entidades JPA; aquí se declaran los accesos por
+ * reflexión que hacen las bibliotecas en tiempo de ejecución y que el análisis estático no detecta.
+ * Los controladores de MySQL y MariaDB se cubren con el repositorio de metadatos de GraalVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AuthEventosRuntimeHints.class)
+public class NativeHintsConfig {
+    /**
+     * Clases que jjwt instancia por nombre a través de {@code io.jsonwebtoken.lang.Classes}.
+     */
+    private static final List<String> JJWT_IMPL = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    /**
+     * Clases que ModelMapper recorre e instancia por reflexión.
+     */
+    private static final List<Class<?>> MAPPED_TYPES = List.of(
+            Usuario.class, Rol.class, LoginRequest.class, LoginResponse.class,
+            RolDTO.class, UsuarioRequestDTO.class, UsuarioResponseDTO.class, ApiResponse.class,
+            Cambio.class, CambioDTO.class, UsuarioPatchDTO.class, UsuarioPatchResponseDTO.class,
+            ReasignacionRolDTO.class, EliminacionUsuariosDTO.class, ResultadoMasivoDTO.class,
+            ActividadDTO.class, CuentaActivaDTO.class);
+
+    /**
+     * Registrador de los metadatos de ejecución de la aplicación.
+     */
+    static class AuthEventosRuntimeHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_IMPL) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            for (Class<?> type : MAPPED_TYPES) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.reflection().registerType(TimingSessionEventListener.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            hints.reflection().registerType(TypeReference.of("com.mysql.cj.jdbc.Driver"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TypeReference.of("org.mariadb.jdbc.Driver"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * @file: ReadinessFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 06:32:14 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.exception.ErrorMessage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que rechaza con 503 las solicitudes mientras la aplicación no acepta tráfico.
+ * <p>
+ * Tomcat acepta conexiones en cuanto arranca, antes de que terminen los {@link org.springframework.boot.ApplicationRunner}
+ * (como {@link WarmupRunner}); Spring Boot mantiene el estado {@link ReadinessState#REFUSING_TRAFFIC} hasta
+ * después de ejecutarlos y lo vuelve a poner al cerrar el contexto. Este filtro hace cumplir ese estado: cualquier
+ * ruta sirve de sonda de disponibilidad para el balanceador y ninguna solicitud real llega a rutas sin calentar.
+ */
+public class ReadinessFilter extends OncePerRequestFilter {
+    private final ApplicationAvailability availability;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param availability El estado de disponibilidad de la aplicación.
+     * @param objectMapper El mapeador para escribir los errores.
+     */
+    public ReadinessFilter(ApplicationAvailability availability, ObjectMapper objectMapper) {
+        this.availability = availability;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(HttpStatus.SERVICE_UNAVAILABLE,
+                    "El servicio todavía no está listo, intente de nuevo.", "uri=" + request.getRequestURI()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * @file: ReplicationContext.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:10:12 AM
+ */
+package edu.unc.auth_eventos.config;
+
+/**
+ * Contexto de replicación asociado al hilo de la solicitud actual.
+ * <p>
+ * Registra si la solicitud ya escribió en la base de datos principal, para que las lecturas
+ * posteriores de la misma solicitud puedan fijarse a la principal (lectura después de escritura).
+ */
+public final class ReplicationContext {
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ReplicationContext() {
+    }
+
+    /**
+     * Marca que la solicitud actual realizó una escritura en la base de datos principal.
+     */
+    public static void markWrite() {
+        WRITTEN.set(Boolean.TRUE);
+    }
+
+    /**
+     * Indica si la solicitud actual ya escribió en la base de datos principal.
+     *
+     * @return true si hubo una escritura, false de lo contrario.
+     */
+    public static boolean hasWritten() {
+        return WRITTEN.get() != null;
+    }
+
+    /**
+     * Limpia el contexto al finalizar la solicitud.
+     */
+    public static void clear() {
+        WRITTEN.remove();
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * @file: ReplicationContextFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:21:05 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro que delimita el contexto de replicación a la duración de cada solicitud.
+ */
+public class ReplicationContextFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicationContext.clear();
+        }
+    }
+}
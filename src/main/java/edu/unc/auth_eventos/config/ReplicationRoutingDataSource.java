@@ -0,0 +1,77 @@
+/**
+ * @file: ReplicationRoutingDataSource.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:14:40 AM
+ */
+package edu.unc.auth_eventos.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code DataSource} que enruta las conexiones entre la base de datos principal y sus réplicas de lectura.
+ * <p>
+ * Las transacciones {@code @Transactional(readOnly = true)} se envían a las réplicas en orden rotativo;
+ * el resto de operaciones se envían a la principal. Debe envolverse en un
+ * {@code LazyConnectionDataSourceProxy} para que el indicador de solo lectura de la transacción
+ * ya esté establecido cuando se obtiene la conexión real.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    /**
+     * Clave de búsqueda de la base de datos principal.
+     */
+    public static final String PRIMARY = "primary";
+
+    private final int replicaCount;
+    private final boolean readYourWrites;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Constructor de la clase ReplicationRoutingDataSource.
+     *
+     * @param primary        La base de datos principal.
+     * @param replicas       Las réplicas de lectura; si está vacía todas las lecturas van a la principal.
+     * @param readYourWrites Si es true, las lecturas posteriores a una escritura en la misma solicitud van a la principal.
+     */
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicas, boolean readYourWrites) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+        this.replicaCount = replicas.size();
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReplicationContext.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (replicaCount == 0 || (readYourWrites && ReplicationContext.hasWritten())) {
+            return PRIMARY;
+        }
+        return replicaKey(Math.floorMod(nextReplica.getAndIncrement(), replicaCount));
+    }
+
+    /**
+     * Obtiene la clave de búsqueda de una réplica.
+     *
+     * @param index Índice de la réplica.
+     * @return La clave de búsqueda.
+     */
+    public static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+}
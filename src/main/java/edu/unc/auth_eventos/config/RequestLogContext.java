@@ -0,0 +1,87 @@
+/**
+ * @file: RequestLogContext.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:32:40 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sentencias SQL de la solicitud en curso, retenidas hasta saber si la solicitud se registra en el log.
+ * <p>
+ * Cada hilo reutiliza su propia lista y guarda como mucho un número fijo de sentencias; las demás solo se
+ * cuentan. Fuera de una solicitud registrada {@link #capture(String)} devuelve {@code false}.
+ */
+final class RequestLogContext {
+    private static final ThreadLocal<RequestLogContext> CURRENT = ThreadLocal.withInitial(RequestLogContext::new);
+
+    private final List<String> statements = new ArrayList<>();
+    private boolean active;
+    private int limit;
+    private int dropped;
+
+    private RequestLogContext() {
+    }
+
+    /**
+     * Empieza a retener las sentencias del hilo actual.
+     *
+     * @param limit El máximo de sentencias retenidas.
+     * @return El contexto del hilo.
+     */
+    static RequestLogContext start(int limit) {
+        RequestLogContext context = CURRENT.get();
+        context.statements.clear();
+        context.limit = limit;
+        context.dropped = 0;
+        context.active = true;
+        return context;
+    }
+
+    /**
+     * Retiene una sentencia si el hilo actual atiende una solicitud registrada.
+     *
+     * @param sql La sentencia.
+     * @return {@code true} si la sentencia pertenece a una solicitud.
+     */
+    static boolean capture(String sql) {
+        RequestLogContext context = CURRENT.get();
+        if (!context.active) {
+            return false;
+        }
+        if (context.statements.size() < context.limit) {
+            context.statements.add(sql);
+        } else {
+            context.dropped++;
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene las sentencias retenidas.
+     *
+     * @return Las sentencias, en orden de ejecución.
+     */
+    List<String> statements() {
+        return statements;
+    }
+
+    /**
+     * Obtiene el número de sentencias que no se retuvieron por superar el límite.
+     *
+     * @return El número de sentencias descartadas.
+     */
+    int dropped() {
+        return dropped;
+    }
+
+    /**
+     * Termina la retención y libera las sentencias.
+     */
+    void clear() {
+        active = false;
+        statements.clear();
+    }
+}
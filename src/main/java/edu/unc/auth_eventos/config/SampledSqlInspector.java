@@ -0,0 +1,41 @@
+/**
+ * @file: SampledSqlInspector.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 09:38:12 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Registro muestreado de las sentencias SQL, en sustitución del log {@code DEBUG} de {@code org.hibernate.SQL}.
+ * <p>
+ * Dentro de una solicitud la sentencia solo se retiene en {@link RequestLogContext}, y
+ * {@link AccessLogFilter} la escribe junto a la línea de acceso si la solicitud se registra. Fuera de una
+ * solicitud (bandeja de salida, volcado de intentos) se escribe una de cada tantas según la tasa de muestreo.
+ */
+@Slf4j(topic = "edu.unc.auth_eventos.sql")
+public class SampledSqlInspector implements StatementInspector {
+    private final double sampleRate;
+
+    /**
+     * Crea el inspector.
+     *
+     * @param sampleRate La fracción de sentencias registradas fuera de una solicitud, entre 0 y 1.
+     */
+    public SampledSqlInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (!RequestLogContext.capture(sql) && sampleRate > 0 && log.isInfoEnabled()
+                && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            log.info("{}", sql);
+        }
+        return sql;
+    }
+}
@@ -5,10 +5,13 @@
  */
 package edu.unc.auth_eventos.config;
 
+import edu.unc.auth_eventos.entity.Permiso;
 import edu.unc.auth_eventos.service.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -33,9 +36,26 @@ public class SecurityConfig {
      * El filtro de autenticación JWT.
      */
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    /**
+     * El filtro de claves de idempotencia.
+     */
+    private final IdempotencyFilter idempotencyFilter;
+    /**
+     * El filtro de límite de concurrencia.
+     */
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    /**
+     * El rol con acceso a los endpoints de operación bajo {@code /admin}.
+     */
+    @Value("${app.admin.rol:Administrador}")
+    private String adminRol;
 
     /**
      * Configuración de la seguridad.
+     * <p>
+     * Las escrituras de roles exigen el permiso {@link Permiso#GESTIONAR_ROLES} y las de usuarios, que pueden
+     * asignar cualquier rol, {@link Permiso#GESTIONAR_USUARIOS}; el rol de administración las tiene todas. Sin
+     * ellas cualquier usuario registrado podría crearse un rol con todos los permisos o asignárselo.
      *
      * @param http El objeto HttpSecurity.
      * @return El filtro de seguridad.
@@ -43,10 +63,22 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        String gestionarRoles = Permiso.GESTIONAR_ROLES.authority().getAuthority();
+        String gestionarUsuarios = Permiso.GESTIONAR_USUARIOS.authority().getAuthority();
         return http
                 .csrf(csrf -> csrf.disable())
                 .authorizeRequests(authRequests -> authRequests
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers("/admin/**").hasAuthority(adminRol)
+                        .requestMatchers(HttpMethod.POST, "/roles", "/roles/**")
+                        .hasAnyAuthority(gestionarRoles, adminRol)
+                        .requestMatchers(HttpMethod.PUT, "/roles/**").hasAnyAuthority(gestionarRoles, adminRol)
+                        .requestMatchers(HttpMethod.DELETE, "/roles/**").hasAnyAuthority(gestionarRoles, adminRol)
+                        .requestMatchers(HttpMethod.POST, "/usuarios", "/usuarios/**")
+                        .hasAnyAuthority(gestionarUsuarios, adminRol)
+                        .requestMatchers(HttpMethod.PUT, "/usuarios/**").hasAnyAuthority(gestionarUsuarios, adminRol)
+                        .requestMatchers(HttpMethod.PATCH, "/usuarios/**").hasAnyAuthority(gestionarUsuarios, adminRol)
+                        .requestMatchers(HttpMethod.DELETE, "/usuarios/**").hasAnyAuthority(gestionarUsuarios, adminRol)
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(sessionManagement -> sessionManagement
@@ -54,6 +86,8 @@ public class SecurityConfig {
                 )
                 .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 }
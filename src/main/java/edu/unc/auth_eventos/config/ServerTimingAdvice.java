@@ -0,0 +1,37 @@
+/**
+ * @file: ServerTimingAdvice.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:45:33 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.util.RequestTiming;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marca el inicio de la serialización del cuerpo de la respuesta para la fase {@code serialize} de
+ * {@link RequestTiming}; {@link ServerTimingFilter} la cierra al terminar la cadena.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.timing.enabled", havingValue = "true")
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming.beginSerialize();
+        return body;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * @file: ServerTimingConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:55:16 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuración del encabezado {@code Server-Timing} con el desglose del tiempo de cada solicitud.
+ * <p>
+ * Se activa con {@code app.timing.enabled=true}. Las solicitudes que tardan al menos
+ * {@code app.timing.slow-request-ms} se registran en el log (0 las desactiva) y las rutas de
+ * {@code app.timing.exclude}, separadas por comas, no se miden. Desactivada, los puntos de medición de los
+ * servicios solo consultan el registro del hilo y no miden nada.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+    @Value("${app.timing.slow-request-ms:1000}")
+    private long slowRequestMs;
+
+    @Value("${app.timing.exclude:/cambios/stream}")
+    private String exclude;
+
+    /**
+     * Registra el filtro de medición justo después del filtro de contexto de replicación, antes de seguridad.
+     *
+     * @return El registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        List<String> excludedPaths = Arrays.stream(StringUtils.commaDelimitedListToStringArray(exclude))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(slowRequestMs, excludedPaths));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Registra en cada sesión de Hibernate la escucha que mide el tiempo de las sentencias JDBC.
+     *
+     * @return El personalizador de las propiedades de Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer timingSessionEvents() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                TimingSessionEventListener.class.getName());
+    }
+}
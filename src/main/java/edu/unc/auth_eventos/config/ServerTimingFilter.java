@@ -0,0 +1,84 @@
+/**
+ * @file: ServerTimingFilter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:49:58 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.util.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que mide cada solicitud y añade a la respuesta el encabezado {@code Server-Timing} con el tiempo de
+ * cada fase (ver {@link RequestTiming}).
+ * <p>
+ * El cuerpo se retiene hasta terminar la cadena para poder escribir el encabezado después de serializarlo.
+ * Los flujos SSE y las rutas excluidas no se miden, porque retenerlos impediría enviar los eventos. Las
+ * solicitudes que superan el umbral configurado se registran en el log con su desglose.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String HEADER = "Server-Timing";
+
+    private final long slowRequestNanos;
+    private final List<String> excludedPaths;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param slowRequestMs  El umbral en milisegundos para registrar una solicitud lenta, o 0 para no registrarlas.
+     * @param excludedPaths  Los prefijos de ruta que no se miden.
+     */
+    public ServerTimingFilter(long slowRequestMs, List<String> excludedPaths) {
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMs);
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RequestTiming timing = RequestTiming.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            long total = timing.stop();
+            String header = timing.toServerTiming(total);
+            if (!request.isAsyncStarted()) {
+                wrapper.setHeader(HEADER, header);
+            }
+            if (slowRequestNanos > 0 && total >= slowRequestNanos) {
+                log.warn("Solicitud lenta {} {} -> {}: {}", request.getMethod(), request.getRequestURI(),
+                        wrapper.getStatus(), header);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * @file: ShardContext.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:02:41 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Partición de usuarios a la que está ligada la transacción del hilo actual.
+ * <p>
+ * Una transacción toma su conexión al ejecutar la primera sentencia, así que la partición debe fijarse antes y
+ * no puede cambiar hasta que la transacción termine. Al fijarla dentro de una transacción se registra su
+ * limpieza al completarse.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Obtiene la partición ligada a la transacción actual.
+     *
+     * @return El número de partición, o null si aún no se fijó.
+     */
+    public static Integer get() {
+        return SHARD.get();
+    }
+
+    /**
+     * Liga la transacción actual a una partición hasta que termine.
+     *
+     * @param shard El número de partición.
+     */
+    public static void bind(int shard) {
+        SHARD.set(shard);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    SHARD.remove();
+                }
+            });
+        }
+    }
+
+    /**
+     * Libera la partición del hilo actual.
+     */
+    public static void clear() {
+        SHARD.remove();
+    }
+}
@@ -0,0 +1,271 @@
+/**
+ * @file: ShardRouter.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:14:29 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Rol;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Reparto de los usuarios entre particiones (bases de datos independientes).
+ * <p>
+ * Cada usuario vive en la partición que indica un hash estable de su email (CRC32 del email en minúsculas,
+ * módulo el número de particiones), así que una búsqueda por email consulta una sola base. Los identificadores
+ * llevan la partición en los bits altos: la partición {@code s} asigna identificadores a partir de
+ * {@code s << 40}, de modo que una búsqueda por id también va directa, y los identificadores de la partición 0
+ * coinciden con los de una instalación sin particiones.
+ * <p>
+ * Los roles son datos de referencia: se escriben en la partición 0 y se replican al resto para que cada
+ * partición pueda resolver la relación de sus usuarios. Con una sola partición todas las operaciones se
+ * reducen a la base de datos habitual.
+ */
+public class ShardRouter implements DisposableBean {
+    /**
+     * Bits reservados al identificador local dentro de cada partición.
+     */
+    public static final int LOCAL_ID_BITS = 40;
+
+    /**
+     * Número máximo de particiones; mantiene los identificadores por debajo de 2^53.
+     */
+    public static final int MAX_SHARDS = 1 << 12;
+
+    private final List<DataSource> shards;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ExecutorService scatter;
+
+    /**
+     * Constructor de la clase ShardRouter.
+     *
+     * @param shards             Las particiones, en orden; vacía o con un elemento si no hay particionado.
+     * @param transactionManager El gestor de transacciones, resuelto de forma diferida.
+     */
+    public ShardRouter(List<DataSource> shards, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        if (shards.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("Se admiten como máximo " + MAX_SHARDS + " particiones.");
+        }
+        this.shards = List.copyOf(shards);
+        this.transactionManager = transactionManager;
+        if (this.shards.size() > 1) {
+            AtomicInteger threads = new AtomicInteger();
+            this.scatter = Executors.newFixedThreadPool(this.shards.size(), runnable -> {
+                Thread thread = new Thread(runnable, "shard-scatter-" + threads.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.scatter = null;
+        }
+    }
+
+    /**
+     * Obtiene el número de particiones.
+     *
+     * @return El número de particiones, al menos 1.
+     */
+    public int getShardCount() {
+        return Math.max(1, shards.size());
+    }
+
+    /**
+     * Calcula la partición de un email.
+     *
+     * @param email El email del usuario.
+     * @return El número de partición.
+     */
+    public int shardForEmail(String email) {
+        if (getShardCount() == 1 || email == null) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % getShardCount());
+    }
+
+    /**
+     * Obtiene la partición codificada en un identificador de usuario.
+     *
+     * @param id El identificador del usuario.
+     * @return El número de partición, que puede no existir si el identificador es ajeno.
+     */
+    public int shardForId(long id) {
+        return (int) (id >>> LOCAL_ID_BITS);
+    }
+
+    /**
+     * Indica si un identificador corresponde a una partición existente.
+     *
+     * @param id El identificador del usuario.
+     * @return true si la partición del identificador existe.
+     */
+    public boolean isKnownId(long id) {
+        return id >= 0 && shardForId(id) < getShardCount();
+    }
+
+    /**
+     * Obtiene el primer identificador que asigna una partición.
+     *
+     * @param shard El número de partición.
+     * @return El primer identificador.
+     */
+    public static long firstId(int shard) {
+        return ((long) shard << LOCAL_ID_BITS) + 1;
+    }
+
+    /**
+     * Liga la transacción actual a una partición antes de su primera sentencia. Si la transacción ya está
+     * ligada a otra partición la operación se rechaza, porque no hay transacciones entre particiones.
+     *
+     * @param shard El número de partición.
+     * @throws IllegalStateException si la transacción ya usa otra partición.
+     */
+    public void route(int shard) {
+        if (getShardCount() == 1) {
+            return;
+        }
+        Integer bound = ShardContext.get();
+        if (bound == null) {
+            ShardContext.bind(shard);
+        } else if (bound != shard) {
+            throw new IllegalStateException("La transacción ya usa la partición " + bound
+                    + " y no puede acceder a la partición " + shard + ".");
+        }
+    }
+
+    /**
+     * Ejecuta una acción en una transacción nueva ligada a una partición.
+     *
+     * @param shard    El número de partición.
+     * @param readOnly Si la transacción es de solo lectura.
+     * @param action   La acción a ejecutar.
+     * @param <T>      El tipo del resultado.
+     * @return El resultado de la acción.
+     */
+    public <T> T inShard(int shard, boolean readOnly, Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager.getObject());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(readOnly);
+        Integer previous = ShardContext.get();
+        ShardContext.clear();
+        try {
+            return template.execute(status -> {
+                route(shard);
+                return action.get();
+            });
+        } finally {
+            if (previous != null) {
+                ShardContext.bind(previous);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta una acción en todas las particiones en paralelo, cada una en su propia transacción.
+     *
+     * @param readOnly Si las transacciones son de solo lectura.
+     * @param action   La acción a ejecutar en cada partición.
+     * @param <T>      El tipo del resultado.
+     * @return Los resultados, en orden de partición.
+     */
+    public <T> List<T> onEachShard(boolean readOnly, Supplier<T> action) {
+        if (scatter == null) {
+            return Collections.singletonList(inShard(0, readOnly, action));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(getShardCount());
+        for (int shard = 0; shard < getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> inShard(target, readOnly, action), scatter));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Copia un rol de la partición 0 al resto de particiones.
+     *
+     * @param rol El rol, tal como quedó en la partición 0.
+     */
+    public void replicate(Rol rol) {
+        for (int shard = 1; shard < shards.size(); shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shards.get(shard));
+            int updated = jdbc.update("UPDATE rol SET nombre = ?, permisos = ?, version = ? WHERE id_rol = ?",
+                    rol.getNombre(), rol.getPermisos(), rol.getVersion(), rol.getIdRol());
+            if (updated == 0) {
+                jdbc.update("INSERT INTO rol (id_rol, nombre, permisos, version) VALUES (?, ?, ?, ?)",
+                        rol.getIdRol(), rol.getNombre(), rol.getPermisos(), rol.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Prepara las particiones al arrancar: sitúa el contador de identificadores de usuario de cada partición en
+     * su rango y copia los roles de la partición 0.
+     */
+    public void initialize() {
+        for (int shard = 1; shard < shards.size(); shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shards.get(shard));
+            Long max = jdbc.queryForObject("SELECT MAX(id_usuario) FROM usuario", Long.class);
+            if (max == null || max < firstId(shard)) {
+                jdbc.execute(restartIdentity(jdbc, firstId(shard)));
+            }
+        }
+        if (shards.size() > 1) {
+            new JdbcTemplate(shards.get(0)).query("SELECT id_rol, nombre, permisos, version FROM rol", row -> {
+                Rol rol = new Rol();
+                rol.setIdRol(row.getLong("id_rol"));
+                rol.setNombre(row.getString("nombre"));
+                rol.setPermisos(row.getLong("permisos"));
+                rol.setVersion(row.getLong("version"));
+                replicate(rol);
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scatter != null) {
+            scatter.shutdownNow();
+        }
+    }
+
+    private static String restartIdentity(JdbcTemplate jdbc, long next) {
+        String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            return "ALTER TABLE usuario ALTER COLUMN id_usuario RESTART WITH " + next;
+        }
+        return "ALTER TABLE usuario AUTO_INCREMENT = " + next;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * @file: ShardRoutingDataSource.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:08:15 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code DataSource} que enruta las conexiones a la partición ligada en {@link ShardContext}.
+ * <p>
+ * Sin partición ligada se usa la partición 0, que además guarda los roles y la bandeja de cambios de roles;
+ * dentro de una transacción esa elección queda ligada, para que un acceso posterior a otra partición falle en
+ * lugar de leer en la equivocada. Debe envolverse en un {@code LazyConnectionDataSourceProxy}.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Constructor de la clase ShardRoutingDataSource.
+     *
+     * @param shards Las particiones, en orden; la primera es la partición 0.
+     */
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.get();
+        if (shard == null) {
+            shard = 0;
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ShardContext.bind(shard);
+            }
+        }
+        return shard;
+    }
+}
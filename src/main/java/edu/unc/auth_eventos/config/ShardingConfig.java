@@ -0,0 +1,176 @@
+/**
+ * @file: ShardingConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:31:06 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.unc.auth_eventos.entity.Usuario;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuración del particionado de usuarios entre varias bases de datos (ver {@link ShardRouter}).
+ * <p>
+ * Se activa con {@code app.sharding.enabled=true}. La partición 0 usa las propiedades {@code spring.datasource.*}
+ * y el resto se declara en {@code app.sharding.urls}, separadas por comas y en orden: añadir o reordenar
+ * particiones cambia el reparto y exige migrar los usuarios. Con {@code app.sharding.schema-update=true} se
+ * aplica el esquema de las entidades a cada partición al arrancar. Sin particionado el enrutador trabaja con
+ * una sola partición y el {@code DataSource} es el habitual. No se combina con la separación de lecturas y
+ * escrituras de {@link DataSourceRoutingConfig}.
+ */
+@Configuration
+public class ShardingConfig implements DisposableBean {
+    @Value("${app.sharding.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.sharding.urls:}")
+    private String urls;
+
+    @Value("${app.sharding.pool-size:10}")
+    private int poolSize;
+
+    @Value("${app.datasource.routing.enabled:false}")
+    private boolean replicationRouting;
+
+    /**
+     * Pools creados por esta configuración; el proxy enrutado no los cierra.
+     */
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    /**
+     * Crea el enrutador de particiones y, si el particionado está activo, el pool de cada partición.
+     *
+     * @param properties         Las propiedades de {@code spring.datasource}.
+     * @param transactionManager El gestor de transacciones, resuelto de forma diferida.
+     * @return El enrutador de particiones.
+     */
+    @Bean
+    public ShardRouter shardRouter(DataSourceProperties properties,
+                                   ObjectProvider<PlatformTransactionManager> transactionManager) {
+        if (!enabled) {
+            return new ShardRouter(List.of(), transactionManager);
+        }
+        if (replicationRouting) {
+            throw new IllegalStateException(
+                    "app.sharding.enabled y app.datasource.routing.enabled no se pueden activar a la vez.");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(pool(properties, properties.determineUrl(), 0));
+        for (String url : StringUtils.commaDelimitedListToStringArray(urls)) {
+            if (StringUtils.hasText(url)) {
+                shards.add(pool(properties, url.trim(), shards.size()));
+            }
+        }
+        return new ShardRouter(shards, transactionManager);
+    }
+
+    /**
+     * Crea el {@code DataSource} enrutado por partición que utilizan JPA y los repositorios.
+     *
+     * @param shardRouter El enrutador de particiones.
+     * @return El {@code DataSource} enrutado.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public DataSource dataSource(ShardRouter shardRouter) {
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(new ArrayList<>(pools));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Prepara las particiones cuando el contexto ya creó el esquema de la partición 0 y antes de aceptar
+     * solicitudes.
+     *
+     * @param shardRouter          El enrutador de particiones.
+     * @param jpaProperties        Las propiedades de {@code spring.jpa}.
+     * @param hibernateProperties  Las propiedades de {@code spring.jpa.hibernate}.
+     * @param schemaUpdate         Si se aplica el esquema de las entidades a las particiones 1 en adelante.
+     * @return El inicializador.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public SmartInitializingSingleton shardInitializer(ShardRouter shardRouter, JpaProperties jpaProperties,
+                                                       HibernateProperties hibernateProperties,
+                                                       @Value("${app.sharding.schema-update:false}") boolean schemaUpdate) {
+        return () -> {
+            if (schemaUpdate) {
+                Map<String, Object> settings = hibernateProperties.determineHibernateProperties(
+                        jpaProperties.getProperties(), new HibernateSettings());
+                settings.put(AvailableSettings.HBM2DDL_AUTO, "update");
+                for (int i = 1; i < pools.size(); i++) {
+                    updateSchema(pools.get(i), settings);
+                }
+            }
+            shardRouter.initialize();
+        };
+    }
+
+    /**
+     * Cierra los pools de conexiones de las particiones.
+     */
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+
+    /**
+     * Aplica el esquema de las entidades a una partición con una unidad de persistencia temporal.
+     */
+    private static void updateSchema(DataSource shard, Map<String, Object> settings) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName("shard-schema");
+        factory.setDataSource(shard);
+        factory.setPackagesToScan(Usuario.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(settings);
+        factory.afterPropertiesSet();
+        factory.destroy();
+    }
+
+    /**
+     * Crea el pool de conexiones de una partición.
+     */
+    private HikariDataSource pool(DataSourceProperties properties, String url, int shard) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName("shard-" + shard);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(Math.max(1, poolSize / 4));
+        if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+        }
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
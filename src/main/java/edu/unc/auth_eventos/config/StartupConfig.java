@@ -0,0 +1,76 @@
+/**
+ * @file: StartupConfig.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 03:20:16 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.controller.AuthController;
+import edu.unc.auth_eventos.service.AuditService;
+import edu.unc.auth_eventos.service.AuthService;
+import edu.unc.auth_eventos.service.JwtAuthenticationFilter;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.service.LoginAttemptService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * Clase de configuración del arranque de la aplicación.
+ * <p>
+ * Con {@code spring.main.lazy-initialization=true} los beans se crean al usarse por primera vez. Este filtro
+ * mantiene la creación anticipada de los beans de la ruta de inicio de sesión y de los que arrancan tareas en
+ * segundo plano, para que el arranque más rápido no se traslade como latencia al primer login.
+ * <p>
+ * También registra el {@link ReadinessFilter}, que rechaza las solicitudes hasta que la aplicación acepta tráfico.
+ */
+@Configuration
+public class StartupConfig {
+    /**
+     * Beans que se crean siempre al arrancar, aunque la inicialización diferida esté activada.
+     *
+     * @return El filtro de exclusión de la inicialización diferida.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                EntityManagerFactory.class,
+                SecurityFilterChain.class,
+                JwtAuthenticationFilter.class,
+                AuthenticationManager.class,
+                PasswordEncoder.class,
+                JwtService.class,
+                AuthService.class,
+                AuthController.class,
+                LoginAttemptService.class,
+                AuditService.class);
+    }
+
+    /**
+     * Registra el filtro que rechaza las solicitudes mientras la aplicación no acepta tráfico, antes que
+     * cualquier otro filtro.
+     *
+     * @param availability El estado de disponibilidad de la aplicación.
+     * @param objectMapper El mapeador para escribir los errores.
+     * @return El registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadinessFilter> readinessFilter(ApplicationAvailability availability,
+                                                                   ObjectMapper objectMapper) {
+        FilterRegistrationBean<ReadinessFilter> registration =
+                new FilterRegistrationBean<>(new ReadinessFilter(availability, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
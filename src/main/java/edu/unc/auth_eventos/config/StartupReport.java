@@ -0,0 +1,128 @@
+/**
+ * @file: StartupReport.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 03:02:48 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Informe de arranque por fase y por bean.
+ * <p>
+ * Se activa con la propiedad del sistema {@code app.startup.report=true} (o la variable de entorno
+ * {@code APP_STARTUP_REPORT=true}), que hace que la aplicación registre los pasos de arranque en un
+ * {@link BufferingApplicationStartup}. Al quedar lista, se registra en el log el tiempo de cada fase y los
+ * beans más lentos según su tiempo propio (sin contar los beans que crean como dependencias).
+ */
+@Slf4j
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+    /**
+     * Número máximo de pasos de arranque que se conservan.
+     */
+    public static final int CAPACITY = 10_000;
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final int TOP_BEANS = 15;
+
+    /**
+     * Indica si el informe de arranque está activado.
+     *
+     * @return true si está activado, false de lo contrario.
+     */
+    public static boolean isEnabled() {
+        String value = System.getProperty("app.startup.report", System.getenv("APP_STARTUP_REPORT"));
+        return Boolean.parseBoolean(value);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            log.info("Informe de arranque (listo en {} ms):\n{}", event.getTimeTaken().toMillis(),
+                    format(summarize(startup.getBufferedTimeline())));
+        }
+    }
+
+    /**
+     * Resume la línea de tiempo de arranque en tiempos por fase y tiempos propios por bean.
+     *
+     * @param timeline La línea de tiempo de arranque.
+     * @return El resumen.
+     */
+    public static Summary summarize(StartupTimeline timeline) {
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        List<BeanTiming> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            if (BEAN_STEP.equals(step.getName())) {
+                long self = event.getDuration().toNanos() - childNanos.getOrDefault(step.getId(), 0L);
+                beans.add(new BeanTiming(beanName(step), Duration.ofNanos(Math.max(0, self)), event.getDuration()));
+            } else {
+                phases.merge(step.getName(), event.getDuration(), Duration::plus);
+            }
+        }
+        beans.sort(Comparator.comparing(BeanTiming::self).reversed());
+        return new Summary(phases, beans);
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static String format(Summary summary) {
+        StringBuilder out = new StringBuilder("  Fases:\n");
+        summary.phases().forEach((name, duration) ->
+                out.append(String.format("    %-55s %6d ms%n", name, duration.toMillis())));
+        out.append("  Beans más lentos (tiempo propio / total):\n");
+        summary.beans().stream().limit(TOP_BEANS).forEach(bean ->
+                out.append(String.format("    %-55s %6d ms / %6d ms%n", bean.name(), bean.self().toMillis(), bean.total().toMillis())));
+        return out.toString();
+    }
+
+    /**
+     * Resumen del arranque.
+     *
+     * @param phases Tiempo acumulado por fase, en orden de aparición.
+     * @param beans  Tiempos de creación de los beans, del más lento al más rápido.
+     */
+    public record Summary(Map<String, Duration> phases, List<BeanTiming> beans) {
+    }
+
+    /**
+     * Tiempo de creación de un bean.
+     *
+     * @param name  El nombre del bean.
+     * @param self  El tiempo propio, sin contar las dependencias creadas dentro.
+     * @param total El tiempo total.
+     */
+    public record BeanTiming(String name, Duration self, Duration total) {
+    }
+}
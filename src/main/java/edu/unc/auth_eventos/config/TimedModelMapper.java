@@ -0,0 +1,24 @@
+/**
+ * @file: TimedModelMapper.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:37:20 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.util.RequestTiming;
+import org.modelmapper.ModelMapper;
+
+/**
+ * {@code ModelMapper} que suma a la fase {@code map} de {@link RequestTiming} el tiempo de cada conversión.
+ */
+public class TimedModelMapper extends ModelMapper {
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+        long begin = RequestTiming.begin();
+        try {
+            return super.map(source, destinationType);
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.MAP, begin);
+        }
+    }
+}
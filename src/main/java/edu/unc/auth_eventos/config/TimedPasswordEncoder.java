@@ -0,0 +1,50 @@
+/**
+ * @file: TimedPasswordEncoder.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:34:52 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.util.RequestTiming;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Codificador de contraseñas que suma a la fase {@code hash} de {@link RequestTiming} el tiempo de otro codificador.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    /**
+     * Crea el codificador.
+     *
+     * @param delegate El codificador que hace el trabajo.
+     */
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long begin = RequestTiming.begin();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.HASH, begin);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long begin = RequestTiming.begin();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.HASH, begin);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * @file: TimingSessionEventListener.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:41:09 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.util.RequestTiming;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Escucha de sesión de Hibernate que suma a la fase {@code db} de {@link RequestTiming} el tiempo de cada
+ * sentencia y de cada lote JDBC.
+ * <p>
+ * Hibernate crea una instancia por sesión (ver {@link ServerTimingConfig}), así que el inicio pendiente no se
+ * comparte entre hilos.
+ */
+public class TimingSessionEventListener implements SessionEventListener {
+    private long statementBegin;
+    private long batchBegin;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementBegin = RequestTiming.begin();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming.end(RequestTiming.Phase.DB, statementBegin);
+        statementBegin = 0;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchBegin = RequestTiming.begin();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming.end(RequestTiming.Phase.DB, batchBegin);
+        batchBegin = 0;
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * @file: WarmupRunner.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 04:05:37 PM
+ */
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.controller.RolController;
+import edu.unc.auth_eventos.dto.LoginResponse;
+import edu.unc.auth_eventos.dto.UsuarioResponseDTO;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.util.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Calentamiento de la ruta de inicio de sesión antes de que la aplicación quede lista.
+ * <p>
+ * Spring Boot ejecuta los {@link ApplicationRunner} antes de publicar {@code ApplicationReadyEvent} y de pasar
+ * el estado de disponibilidad a {@code ACCEPTING_TRAFFIC}; hasta entonces {@link ReadinessFilter} responde 503 a
+ * todas las solicitudes. Durante ese tiempo se precarga la respuesta del catálogo de roles de {@link RolController},
+ * se comprueba una contraseña con BCrypt y se repiten vueltas sintéticas de firma y verificación de tokens,
+ * mapeo de DTOs y serialización JSON, para que el JIT compile esas rutas antes de la primera solicitud real.
+ * <p>
+ * Retrasa el arranque y ocupa la CPU mientras dura, así que está desactivado si no se indica lo contrario; se
+ * controla con {@code app.warmup.enabled}, {@code app.warmup.duration-ms} y {@code app.warmup.password-rounds}.
+ * Si falla, se registra y la aplicación arranca igual, sin calentar.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+    private static final String EMAIL = "warmup@auth-eventos.local";
+    private static final String PASSWORD = "warmup-password";
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RolController rolController;
+
+    @Value("${app.warmup.duration-ms:1500}")
+    private long durationMillis;
+
+    @Value("${app.warmup.password-rounds:2}")
+    private int passwordRounds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Report report = warmUp(Duration.ofMillis(durationMillis));
+            log.info("Calentamiento completado en {} ms: {} roles precargados, {} comprobaciones de contraseña, "
+                            + "{} vueltas de token (primera {} µs, última {} µs).",
+                    report.elapsed().toMillis(), report.roles(), report.passwordRounds(), report.iterations(),
+                    report.firstRoundNanos() / 1_000, report.lastRoundNanos() / 1_000);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("No se pudo completar el calentamiento: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ejecuta el calentamiento durante el tiempo indicado.
+     *
+     * @param duration Tiempo dedicado a las vueltas sintéticas de token.
+     * @return El informe del calentamiento.
+     * @throws JsonProcessingException si no se puede serializar una respuesta sintética.
+     */
+    public Report warmUp(Duration duration) throws JsonProcessingException {
+        long begin = System.nanoTime();
+
+        int roles = rolController.preload();
+
+        String hash = passwordEncoder.encode(PASSWORD);
+        for (int i = 0; i < passwordRounds; i++) {
+            passwordEncoder.matches(PASSWORD, hash);
+        }
+
+        Usuario usuario = syntheticUser(null, hash);
+        long deadline = begin + duration.toNanos();
+        long iterations = 0;
+        long firstRound = 0;
+        long lastRound = 0;
+        do {
+            long roundBegin = System.nanoTime();
+            tokenRound(usuario);
+            lastRound = System.nanoTime() - roundBegin;
+            if (iterations++ == 0) {
+                firstRound = lastRound;
+            }
+        } while (System.nanoTime() < deadline);
+
+        return new Report(roles, passwordRounds, iterations, firstRound, lastRound,
+                Duration.ofNanos(System.nanoTime() - begin));
+    }
+
+    /**
+     * Vuelta sintética de la ruta de inicio de sesión y de lectura autenticada: firma y verifica un token,
+     * mapea el usuario a su DTO y serializa ambas respuestas.
+     *
+     * @param usuario El usuario sintético.
+     * @throws JsonProcessingException si no se puede serializar la respuesta.
+     */
+    public void tokenRound(Usuario usuario) throws JsonProcessingException {
+        UserDetails userDetails = new CustomUserDetails(usuario);
+        String token = jwtService.getToken(userDetails);
+        jwtService.isTokenValid(token, userDetails);
+        objectMapper.writeValueAsBytes(new ApiResponse<>(
+                true,
+                "Token generado correctamente",
+                new LoginResponse(usuario.getEmail(), usuario.getRol().getNombre(), token)));
+        objectMapper.writeValueAsBytes(new ApiResponse<>(
+                true,
+                "Usuario encontrado",
+                modelMapper.map(usuario, UsuarioResponseDTO.class)));
+    }
+
+    /**
+     * Crea el usuario sintético, que nunca se persiste.
+     *
+     * @param rol  El rol a asignar, o null para usar uno sintético.
+     * @param hash La contraseña codificada.
+     * @return El usuario sintético.
+     */
+    public static Usuario syntheticUser(Rol rol, String hash) {
+        if (rol == null) {
+            rol = new Rol();
+            rol.setIdRol(0L);
+            rol.setNombre("Cliente");
+        }
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(0L);
+        usuario.setEmail(EMAIL);
+        usuario.setPassword(hash);
+        usuario.setRol(rol);
+        usuario.setVersion(0L);
+        return usuario;
+    }
+
+    /**
+     * Informe del calentamiento.
+     *
+     * @param roles           Roles precargados.
+     * @param passwordRounds  Comprobaciones de contraseña realizadas.
+     * @param iterations      Vueltas de token realizadas.
+     * @param firstRoundNanos Duración de la primera vuelta.
+     * @param lastRoundNanos  Duración de la última vuelta.
+     * @param elapsed         Duración total.
+     */
+    public record Report(int roles, int passwordRounds, long iterations, long firstRoundNanos, long lastRoundNanos,
+                         Duration elapsed) {
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * @file: AdminController.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:26:48 PM
+ */
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.dto.ActividadDTO;
+import edu.unc.auth_eventos.dto.CuentaActivaDTO;
+import edu.unc.auth_eventos.service.ActividadService;
+import edu.unc.auth_eventos.util.ApiResponse;
+import edu.unc.auth_eventos.util.HeavyHitters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST de operación, reservado al rol administrador (ver {@code SecurityConfig}).
+ * <p>Se mapea a la ruta '/admin' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.</p>
+ */
+@RestController
+@RequestMapping(value = "/admin", headers = "Api-Version=1")
+public class AdminController {
+    @Autowired
+    private ActividadService actividadService;
+
+    /**
+     * Obtiene los usuarios distintos y las cuentas más activas de la última hora y del último día.
+     *
+     * @return El resumen de actividad.
+     */
+    @GetMapping("/actividad")
+    public ResponseEntity<?> getActividad() {
+        ActividadService.ResumenActividad resumen = actividadService.getResumen();
+        return ResponseEntity.ok(new ApiResponse<>(
+                true,
+                "Actividad de usuarios",
+                new ActividadDTO(
+                        resumen.usuariosUltimaHora(),
+                        resumen.usuariosUltimoDia(),
+                        cuentas(resumen.masActivosUltimaHora()),
+                        cuentas(resumen.masActivosUltimoDia()),
+                        resumen.memoriaBytes())));
+    }
+
+    private static List<CuentaActivaDTO> cuentas(List<HeavyHitters.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new CuentaActivaDTO(entry.key(), entry.count()))
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * @file: CambioController.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:36:20 PM
+ */
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.dto.CambioDTO;
+import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.service.CambioService;
+import edu.unc.auth_eventos.util.ApiResponse;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Controlador REST que expone los cambios de usuarios y roles para mantener cachés externas.
+ * <p>Se mapea a la ruta '/cambios' y espera que todas las solicitudes incluyan el encabezado 'Api-Version=1'.
+ * Los consumidores pueden pedir los cambios desde una secuencia o suscribirse al flujo SSE y reanudarlo
+ * con el encabezado {@code Last-Event-ID}.</p>
+ */
+@RestController
+@RequestMapping(value = "/cambios", headers = "Api-Version=1")
+public class CambioController {
+    private static final int MAX_LIMITE = 1000;
+
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    /**
+     * Obtiene los cambios de una partición posteriores a una secuencia, en orden.
+     *
+     * @param particion La partición; sin particionado solo existe la 0.
+     * @param desde     La última secuencia conocida de la partición; 0 para empezar desde el inicio.
+     * @param limite    El número máximo de cambios, hasta 1000.
+     * @return Lista de cambios; si tiene menos elementos que el límite, el consumidor está al día.
+     * @throws IllegalOperationException Si la partición no existe.
+     */
+    @GetMapping
+    public ResponseEntity<?> getDesde(@RequestParam(defaultValue = "0") int particion,
+                                      @RequestParam(defaultValue = "0") long desde,
+                                      @RequestParam(defaultValue = "500") int limite) throws IllegalOperationException {
+        if (particion < 0 || particion >= cambioService.getParticiones()) {
+            throw new IllegalOperationException("La partición proporcionada no existe.");
+        }
+        List<CambioDTO> cambios = cambioService.getDesde(particion, desde, Math.max(1, Math.min(limite, MAX_LIMITE)))
+                .stream()
+                .map(cambio -> modelMapper.map(cambio, CambioDTO.class))
+                .toList();
+        return ResponseEntity.ok(new ApiResponse<>(
+                true,
+                "Lista de cambios",
+                cambios));
+    }
+
+    /**
+     * Suscribe al flujo de cambios de todas las particiones. Cada evento lleva como {@code id} las últimas
+     * secuencias de cada partición separadas por puntos, y la entidad como nombre.
+     *
+     * @param lastEventId El último {@code id} recibido, enviado por el cliente SSE al reconectarse.
+     * @param desde       La última secuencia conocida de la partición 0 si no hay {@code Last-Event-ID}.
+     * @return El flujo de eventos.
+     * @throws IllegalOperationException Si el {@code Last-Event-ID} no es válido.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                             @RequestParam(defaultValue = "0") long desde) throws IllegalOperationException {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return cambioService.suscribir(new long[]{desde});
+        }
+        String[] parts = lastEventId.trim().split("\\.");
+        long[] secuencias = new long[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                secuencias[i] = Long.parseLong(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalOperationException("El Last-Event-ID proporcionado no es válido.");
+        }
+        return cambioService.suscribir(secuencias);
+    }
+}
@@ -5,6 +5,8 @@
  */
 package edu.unc.auth_eventos.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.unc.auth_eventos.dto.RolDTO;
 import edu.unc.auth_eventos.entity.Rol;
 import edu.unc.auth_eventos.exception.EntityNotFoundException;
@@ -16,9 +18,11 @@ import jakarta.validation.Valid;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,21 +42,81 @@ public class RolController {
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Respuesta serializada del catálogo de roles junto con la versión del catálogo que representa.
+     */
+    private volatile CachedCatalog cachedCatalog;
+
     /**
      * Obtiene todos los roles en el sistema.
+     * <p>
+     * La respuesta lleva un ETag fuerte basado en la versión del catálogo. Si coincide con {@code If-None-Match}
+     * se responde 304 sin cargar ni serializar los roles; si no, se reutilizan los bytes serializados mientras
+     * el catálogo no cambie. Si el catálogo cambia mientras se carga, la respuesta se envía sin ETag ni caché.
      *
+     * @param request La solicitud web.
      * @return Lista de roles.
+     * @throws JsonProcessingException si no se puede serializar la respuesta.
      */
     @GetMapping
-    public ResponseEntity<?> getAll() {
+    public ResponseEntity<?> getAll(WebRequest request) throws JsonProcessingException {
+        String version = rolService.getCatalogVersion();
+        String etag = "\"roles-" + version + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CachedCatalog catalog = cachedCatalog;
+        if (catalog == null || !catalog.version().equals(version)) {
+            catalog = load(version);
+            if (!rolService.getCatalogVersion().equals(version)) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(catalog.body());
+            }
+            cachedCatalog = catalog;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.body());
+    }
+
+    /**
+     * Precarga la respuesta serializada del catálogo de roles, para que el primer {@code GET /roles} no pague la
+     * carga, el mapeo ni la serialización. Si el catálogo cambia mientras se carga, no se guarda.
+     *
+     * @return El número de roles del catálogo.
+     * @throws JsonProcessingException si no se puede serializar la respuesta.
+     */
+    public int preload() throws JsonProcessingException {
+        String version = rolService.getCatalogVersion();
+        CachedCatalog catalog = load(version);
+        if (rolService.getCatalogVersion().equals(version)) {
+            cachedCatalog = catalog;
+        }
+        return catalog.size();
+    }
+
+    /**
+     * Carga y serializa el catálogo de roles.
+     *
+     * @param version La versión del catálogo leída antes de cargarlo.
+     * @return El catálogo serializado.
+     * @throws JsonProcessingException si no se puede serializar la respuesta.
+     */
+    private CachedCatalog load(String version) throws JsonProcessingException {
         List<Rol> roles = rolService.getAll();
         List<RolDTO> rolDTOs = roles.stream()
                 .map(rol -> modelMapper.map(rol, RolDTO.class))
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(new ApiResponse<>(
+        return new CachedCatalog(version, rolDTOs.size(), objectMapper.writeValueAsBytes(new ApiResponse<>(
                 true,
                 "Lista de roles",
-                rolDTOs));
+                rolDTOs)));
     }
 
     /**
@@ -101,10 +165,20 @@ public class RolController {
 
         Rol rol = modelMapper.map(rolDTO, Rol.class);
         rol.setIdRol(id);
-        Rol rolUpdated = rolService.save(rol);
+        Rol rolUpdated = rolService.update(id, rol);
         return ResponseEntity.status(HttpStatus.OK).body(new ApiResponse<>(
                 true,
                 "Rol actualizado",
                 modelMapper.map(rolUpdated, RolDTO.class)));
     }
+
+    /**
+     * Catálogo de roles serializado.
+     *
+     * @param version La versión del catálogo.
+     * @param size    El número de roles.
+     * @param body    Los bytes de la respuesta.
+     */
+    private record CachedCatalog(String version, int size, byte[] body) {
+    }
 }
@@ -5,10 +5,16 @@
  */
 package edu.unc.auth_eventos.controller;
 
+import edu.unc.auth_eventos.dto.EliminacionUsuariosDTO;
+import edu.unc.auth_eventos.dto.ReasignacionRolDTO;
+import edu.unc.auth_eventos.dto.ResultadoMasivoDTO;
+import edu.unc.auth_eventos.dto.UsuarioPatchDTO;
+import edu.unc.auth_eventos.dto.UsuarioPatchResponseDTO;
 import edu.unc.auth_eventos.dto.UsuarioRequestDTO;
 import edu.unc.auth_eventos.dto.UsuarioResponseDTO;
 import edu.unc.auth_eventos.entity.Usuario;
 import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.service.RolService;
 import edu.unc.auth_eventos.service.UsuarioService;
 import edu.unc.auth_eventos.util.ApiResponse;
 import edu.unc.auth_eventos.util.EntityValidator;
@@ -20,6 +26,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +43,9 @@ public class UsuarioController {
     @Autowired
     private UsuarioService usuarioService;
 
+    @Autowired
+    private RolService rolService;
+
     @Autowired
     private ModelMapper modelMapper;
 
@@ -58,20 +68,43 @@ public class UsuarioController {
 
     /**
      * Obtiene un usuario por su identificador único.
+     * <p>
+     * La respuesta lleva un ETag fuerte basado en la versión del usuario y la del catálogo de roles.
+     * Si coincide con {@code If-None-Match} se responde 304 consultando solo la versión.
      *
-     * @param id Identificador único del usuario.
+     * @param id      Identificador único del usuario.
+     * @param request La solicitud web.
      * @return El usuario con el identificador proporcionado.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getById(Long id) {
+    public ResponseEntity<?> getById(@PathVariable Long id, WebRequest request) {
+        String catalogVersion = rolService.getCatalogVersion();
+        String etag = etag(id, usuarioService.getVersion(id), catalogVersion);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         Usuario usuario = usuarioService.getById(id);
+        etag = etag(id, usuario.getVersion(), catalogVersion);
         UsuarioRequestDTO usuarioDTO = modelMapper.map(usuario, UsuarioRequestDTO.class);
-        return ResponseEntity.ok(new ApiResponse<>(
+        return ResponseEntity.ok().eTag(etag).body(new ApiResponse<>(
                 true,
                 "Usuario encontrado",
                 usuarioDTO));
     }
 
+    /**
+     * Construye el ETag fuerte de un usuario.
+     *
+     * @param id             Identificador único del usuario.
+     * @param version        Versión del usuario.
+     * @param catalogVersion Versión del catálogo de roles.
+     * @return El ETag.
+     */
+    private static String etag(Long id, long version, String catalogVersion) {
+        return "\"usuario-" + id + "-" + version + "-" + catalogVersion + "\"";
+    }
+
     /**
      * Guarda un nuevo usuario en el sistema.
      *
@@ -110,6 +143,64 @@ public class UsuarioController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Actualiza solo los campos proporcionados de un usuario existente.
+     *
+     * @param id         Identificador único del usuario a actualizar.
+     * @param usuarioDTO Los campos a modificar; los omitidos conservan su valor.
+     * @return El usuario actualizado y los campos que cambiaron.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchUser(@PathVariable Long id, @RequestBody @Valid UsuarioPatchDTO usuarioDTO, BindingResult result)
+            throws EntityNotFoundException, IllegalOperationException {
+        if (result.hasErrors()) return new EntityValidator().validate(result);
+
+        UsuarioService.ActualizacionParcial actualizacion = usuarioService.patch(id, modelMapper.map(usuarioDTO, Usuario.class));
+        ApiResponse<UsuarioPatchResponseDTO> response = new ApiResponse<>(
+                true,
+                actualizacion.campos().isEmpty() ? "Usuario sin cambios" : "Usuario actualizado",
+                new UsuarioPatchResponseDTO(
+                        modelMapper.map(actualizacion.usuario(), UsuarioResponseDTO.class),
+                        actualizacion.campos()));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reasigna al rol destino todos los usuarios del rol origen.
+     *
+     * @param reasignacionDTO Los roles de origen y destino.
+     * @return Las filas actualizadas y los bloques ejecutados.
+     */
+    @PostMapping("/reasignar-rol")
+    public ResponseEntity<?> reassignRol(@RequestBody @Valid ReasignacionRolDTO reasignacionDTO, BindingResult result)
+            throws IllegalOperationException {
+        if (result.hasErrors()) return new EntityValidator().validate(result);
+
+        UsuarioService.ResultadoMasivo resultado = usuarioService.reassignRol(
+                reasignacionDTO.getIdRolOrigen(), reasignacionDTO.getIdRolDestino());
+        return ResponseEntity.ok(new ApiResponse<>(
+                true,
+                "Usuarios reasignados",
+                new ResultadoMasivoDTO(resultado.filas(), resultado.bloques())));
+    }
+
+    /**
+     * Elimina varios usuarios; los identificadores inexistentes se ignoran.
+     *
+     * @param eliminacionDTO Los identificadores de los usuarios a eliminar.
+     * @return Las filas eliminadas y los bloques ejecutados.
+     */
+    @PostMapping("/eliminar")
+    public ResponseEntity<?> deleteUsers(@RequestBody @Valid EliminacionUsuariosDTO eliminacionDTO, BindingResult result) {
+        if (result.hasErrors()) return new EntityValidator().validate(result);
+
+        UsuarioService.ResultadoMasivo resultado = usuarioService.deleteAll(eliminacionDTO.getIds());
+        return ResponseEntity.ok(new ApiResponse<>(
+                true,
+                "Usuarios eliminados",
+                new ResultadoMasivoDTO(resultado.filas(), resultado.bloques())));
+    }
+
     /**
      * Elimina un usuario existente en el sistema.
      *
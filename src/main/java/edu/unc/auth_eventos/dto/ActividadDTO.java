@@ -0,0 +1,48 @@
+/**
+ * @file: ActividadDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:23:02 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Clase que representa el DTO del resumen de actividad de los usuarios autenticados.
+ * <p>
+ * Las cifras son estimaciones de sketches de memoria fija.
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActividadDTO {
+    /**
+     * Los usuarios distintos en la última hora.
+     */
+    private long usuariosUltimaHora;
+
+    /**
+     * Los usuarios distintos en las últimas 24 horas.
+     */
+    private long usuariosUltimoDia;
+
+    /**
+     * Las cuentas más activas en la última hora.
+     */
+    private List<CuentaActivaDTO> masActivosUltimaHora;
+
+    /**
+     * Las cuentas más activas en las últimas 24 horas.
+     */
+    private List<CuentaActivaDTO> masActivosUltimoDia;
+
+    /**
+     * La memoria fija que ocupan los sketches, en bytes.
+     */
+    private long memoriaBytes;
+}
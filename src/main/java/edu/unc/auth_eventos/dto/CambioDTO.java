@@ -0,0 +1,49 @@
+/**
+ * @file: CambioDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:10:05 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import edu.unc.auth_eventos.entity.TipoCambio;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Clase que representa el DTO de un cambio de usuario o rol.
+ */
+@Data
+public class CambioDTO {
+    /**
+     * La secuencia del cambio; los consumidores la usan para reanudar.
+     */
+    private Long secuencia;
+
+    /**
+     * La entidad que cambió: {@code usuario} o {@code rol}.
+     */
+    private String entidad;
+
+    /**
+     * El identificador de la entidad que cambió.
+     */
+    private Long idEntidad;
+
+    /**
+     * El tipo de cambio.
+     */
+    private TipoCambio tipo;
+
+    /**
+     * El momento en que se registró el cambio.
+     */
+    private LocalDateTime fecha;
+
+    /**
+     * El estado de la entidad, ya serializado en JSON.
+     */
+    @JsonRawValue
+    private String datos;
+}
@@ -0,0 +1,30 @@
+/**
+ * @file: CuentaActivaDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:21:37 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clase que representa el DTO de una de las cuentas más activas.
+ * <p>
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CuentaActivaDTO {
+    /**
+     * El email de la cuenta, en minúsculas.
+     */
+    private String email;
+
+    /**
+     * Las solicitudes autenticadas e inicios de sesión estimados; nunca menos que los reales.
+     */
+    private long actividad;
+}
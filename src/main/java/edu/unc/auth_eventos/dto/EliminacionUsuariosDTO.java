@@ -0,0 +1,27 @@
+/**
+ * @file: EliminacionUsuariosDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:01:09 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Clase que representa el DTO de la eliminación masiva de usuarios.
+ * <p>
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+public class EliminacionUsuariosDTO {
+    /**
+     * Los identificadores de los usuarios a eliminar.
+     */
+    @NotEmpty(message = "La lista de usuarios no puede estar vacía.")
+    @Size(max = 10000, message = "Se pueden eliminar como máximo 10000 usuarios por solicitud.")
+    private List<Long> ids;
+}
@@ -0,0 +1,29 @@
+/**
+ * @file: ReasignacionRolDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 07:58:31 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Clase que representa el DTO de la reasignación masiva de rol.
+ * <p>
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+public class ReasignacionRolDTO {
+    /**
+     * El identificador del rol actual de los usuarios.
+     */
+    @NotNull(message = "El rol de origen no puede estar vacío.")
+    private Long idRolOrigen;
+
+    /**
+     * El identificador del nuevo rol.
+     */
+    @NotNull(message = "El rol de destino no puede estar vacío.")
+    private Long idRolDestino;
+}
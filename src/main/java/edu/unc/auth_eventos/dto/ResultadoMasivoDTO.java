@@ -0,0 +1,30 @@
+/**
+ * @file: ResultadoMasivoDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:03:47 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clase que representa el DTO de respuesta de una operación masiva.
+ * <p>
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoMasivoDTO {
+    /**
+     * Las filas afectadas.
+     */
+    private int filasAfectadas;
+
+    /**
+     * Los bloques ejecutados, cada uno confirmado en su propia transacción.
+     */
+    private int bloques;
+}
@@ -5,11 +5,14 @@
  */
 package edu.unc.auth_eventos.dto;
 
+import edu.unc.auth_eventos.entity.Permiso;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.util.Set;
+
 /**
  * Clase que representa el DTO de petición de Rol.
  * <p>
@@ -30,4 +33,9 @@ public class RolDTO {
     @Size(min = 2, max = 30, message = "El nombre debe tener entre 2 a 30 caracteres.")
     @Pattern(regexp = "^[a-zA-ZáéíóúÁÉÍÓÚ\\s]*$", message = "El nombre solo puede contener letras")
     private String nombre;
+
+    /**
+     * Los permisos que concede el rol.
+     */
+    private Set<Permiso> permisos;
 }
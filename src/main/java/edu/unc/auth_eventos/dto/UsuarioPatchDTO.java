@@ -0,0 +1,37 @@
+/**
+ * @file: UsuarioPatchDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 07:24:50 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Clase que representa el DTO de actualización parcial de Usuario.
+ * <p>
+ * Todos los campos son opcionales: los que se omiten o llegan nulos conservan su valor actual.
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+public class UsuarioPatchDTO {
+    /**
+     * El nuevo email del usuario.
+     */
+    @Size(max = 30, message = "El email debe tener menos de 30 caracteres.")
+    @Email(message = "El email debe ser válido.")
+    private String email;
+
+    /**
+     * La nueva contraseña del usuario; solo se codifica si se proporciona.
+     */
+    @Size(min = 6, max = 24, message = "La contraseña debe tener entre 6 a 24 caracteres.")
+    private String password;
+
+    /**
+     * El nuevo rol del usuario.
+     */
+    private RolDTO rol;
+}
@@ -0,0 +1,32 @@
+/**
+ * @file: UsuarioPatchResponseDTO.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 07:27:12 PM
+ */
+package edu.unc.auth_eventos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Clase que representa el DTO de respuesta de una actualización parcial de Usuario.
+ * <p>
+ * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsuarioPatchResponseDTO {
+    /**
+     * El usuario tras la actualización.
+     */
+    private UsuarioResponseDTO usuario;
+
+    /**
+     * Los campos que cambiaron; vacía si la solicitud no modificó nada.
+     */
+    private List<String> camposModificados;
+}
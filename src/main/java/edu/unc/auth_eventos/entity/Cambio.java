@@ -0,0 +1,60 @@
+/**
+ * @file: Cambio.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:04:18 PM
+ */
+package edu.unc.auth_eventos.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Clase que representa un cambio de usuario o rol en la bandeja de salida (outbox) de la base de datos.
+ * <p>
+ * Cada alta, actualización o baja inserta una fila en la misma transacción que el cambio, de modo que el cambio y
+ * su evento se confirman o se descartan juntos. La secuencia es la clave primaria, por lo que las consultas
+ * "cambios desde la secuencia N" recorren el índice de la clave.
+ */
+@Entity
+@Data
+public class Cambio {
+    /**
+     * La secuencia del cambio, creciente y asignada por la base de datos.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long secuencia;
+
+    /**
+     * La entidad que cambió: {@code usuario} o {@code rol}.
+     */
+    @Column(nullable = false, length = 20)
+    private String entidad;
+
+    /**
+     * El identificador de la entidad que cambió.
+     */
+    @Column(nullable = false)
+    private Long idEntidad;
+
+    /**
+     * El tipo de cambio.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoCambio tipo;
+
+    /**
+     * El momento en que se registró el cambio.
+     */
+    @Column(nullable = false)
+    private LocalDateTime fecha;
+
+    /**
+     * El estado de la entidad tras el cambio (o el último estado en una baja), en JSON.
+     */
+    @Column(length = 4000)
+    private String datos;
+}
@@ -0,0 +1,101 @@
+/**
+ * @file: Permiso.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:18:44 AM
+ */
+package edu.unc.auth_eventos.entity;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Catálogo de permisos que un rol puede conceder.
+ * <p>
+ * Los permisos de un rol se guardan como un mapa de bits en un {@code long}: cada permiso ocupa un bit fijo, que
+ * también se usa en la claim {@code perm} de los tokens. Por eso el bit de un permiso no puede cambiar ni
+ * reutilizarse; los permisos nuevos toman el siguiente bit libre. Cada permiso tiene su autoridad
+ * ({@code PERM_<nombre>}) creada una sola vez.
+ */
+public enum Permiso {
+    CREAR_EVENTO(0),
+    EDITAR_EVENTO(1),
+    VENDER_ENTRADAS(2),
+    ESCANEAR_ENTRADAS(3),
+    VER_REPORTES(4),
+    GESTIONAR_USUARIOS(5),
+    GESTIONAR_ROLES(6);
+
+    private static final Permiso[] VALUES = values();
+
+    private final long mask;
+    private final GrantedAuthority authority;
+
+    Permiso(int bit) {
+        this.mask = 1L << bit;
+        this.authority = new SimpleGrantedAuthority("PERM_" + name());
+    }
+
+    /**
+     * Obtiene el bit del permiso como máscara.
+     *
+     * @return La máscara del permiso.
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Obtiene la autoridad compartida del permiso.
+     *
+     * @return La autoridad {@code PERM_<nombre>}.
+     */
+    public GrantedAuthority authority() {
+        return authority;
+    }
+
+    /**
+     * Comprueba si un mapa de bits concede el permiso.
+     *
+     * @param permisos El mapa de bits.
+     * @return true si el bit del permiso está activo.
+     */
+    public boolean in(long permisos) {
+        return (permisos & mask) != 0;
+    }
+
+    /**
+     * Codifica un conjunto de permisos como mapa de bits.
+     *
+     * @param permisos Los permisos, puede ser nulo.
+     * @return El mapa de bits, 0 si no hay permisos.
+     */
+    public static long toBits(Collection<Permiso> permisos) {
+        long bits = 0;
+        if (permisos != null) {
+            for (Permiso permiso : permisos) {
+                bits |= permiso.mask;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Decodifica un mapa de bits; los bits que no corresponden a ningún permiso se ignoran.
+     *
+     * @param bits El mapa de bits.
+     * @return Los permisos, en el orden del catálogo.
+     */
+    public static Set<Permiso> fromBits(long bits) {
+        EnumSet<Permiso> permisos = EnumSet.noneOf(Permiso.class);
+        for (Permiso permiso : VALUES) {
+            if (permiso.in(bits)) {
+                permisos.add(permiso);
+            }
+        }
+        return permisos;
+    }
+}
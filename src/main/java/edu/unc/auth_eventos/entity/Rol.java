@@ -7,6 +7,7 @@ package edu.unc.auth_eventos.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -37,9 +38,27 @@ public class Rol {
     @Column(unique = true)
     private String nombre;
 
+    /**
+     * Los permisos que concede el rol, como mapa de bits de {@link Permiso}.
+     * <p>
+     * El valor por defecto de la columna deja sin permisos a los roles que ya existían.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long permisos;
+
     /**
      * La lista de usuarios que tienen este rol.
      */
     @OneToMany(mappedBy = "rol")
     private Set<Usuario> usuarios = new HashSet<>();
+
+    /**
+     * La versión del rol, se incrementa en cada actualización.
+     * <p>
+     * La anotación {@code @Version} habilita el bloqueo optimista.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
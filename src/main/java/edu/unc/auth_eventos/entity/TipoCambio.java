@@ -0,0 +1,15 @@
+/**
+ * @file: TipoCambio.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:02:41 PM
+ */
+package edu.unc.auth_eventos.entity;
+
+/**
+ * Tipos de cambio que se registran en la bandeja de salida de cambios.
+ */
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    ELIMINADO
+}
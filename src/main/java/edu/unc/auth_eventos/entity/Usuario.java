@@ -7,6 +7,9 @@ package edu.unc.auth_eventos.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
 
 /**
  * Clase que representa la entidad Usuario en la base de datos.
@@ -15,9 +18,12 @@ import lombok.Data;
  * La anotación {@code @Entity} indica que esta clase es una entidad.
  * <p>
  * La anotación {@code @Data} es una anotación de Lombok que genera automáticamente getters, setters, toString, equals y hashCode.
+ * <p>
+ * La anotación {@code @DynamicUpdate} hace que Hibernate actualice solo las columnas modificadas.
  */
 @Entity
 @Data
+@DynamicUpdate
 public class Usuario {
     /**
      * El identificador único del usuario.
@@ -49,4 +55,23 @@ public class Usuario {
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "id_rol")
     private Rol rol;
+
+    /**
+     * El número de intentos fallidos de inicio de sesión, persistido periódicamente.
+     */
+    private Integer intentosFallidos;
+
+    /**
+     * La fecha y hora hasta la que la cuenta está bloqueada, nula si no está bloqueada.
+     */
+    private LocalDateTime bloqueadoHasta;
+
+    /**
+     * La versión del usuario, se incrementa en cada actualización.
+     * <p>
+     * La anotación {@code @Version} habilita el bloqueo optimista y sirve de base para el ETag de lectura.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
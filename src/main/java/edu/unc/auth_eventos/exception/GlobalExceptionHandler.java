@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -64,5 +65,18 @@ public class GlobalExceptionHandler {
         ErrorMessage errorMessage = new ErrorMessage(HttpStatus.UNAUTHORIZED, ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(errorMessage, HttpStatus.UNAUTHORIZED);
     }
+
+    /**
+     * Maneja la excepción LockedException.
+     *
+     * @param ex      la excepción lanzada.
+     * @param request la solicitud web que resultó en una excepción.
+     * @return una respuesta HTTP personalizada.
+     */
+    @ExceptionHandler(LockedException.class)
+    public ResponseEntity<ErrorMessage> handleLockedException(LockedException ex, WebRequest request) {
+        ErrorMessage errorMessage = new ErrorMessage(HttpStatus.LOCKED, ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorMessage, HttpStatus.LOCKED);
+    }
 }
 
@@ -0,0 +1,73 @@
+/**
+ * @file: InMemoryTransport.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:19:58 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Transporte dentro del mismo proceso: cada envío se entrega de forma síncrona a los demás miembros de su
+ * {@link Hub}. Sirve para una sola instancia y para probar varios buses, incluida la pérdida de datagramas.
+ */
+public class InMemoryTransport implements InvalidationTransport {
+    private final Hub hub;
+    private volatile Consumer<byte[]> receiver;
+
+    /**
+     * Crea un transporte conectado a una red en memoria.
+     *
+     * @param hub La red compartida con los demás transportes.
+     */
+    public InMemoryTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        hub.members.add(this);
+    }
+
+    @Override
+    public void send(byte[] datagram) {
+        if (hub.shouldDrop()) {
+            return;
+        }
+        for (InMemoryTransport member : hub.members) {
+            if (member != this) {
+                member.receiver.accept(datagram.clone());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        hub.members.remove(this);
+    }
+
+    /**
+     * Red en memoria que comparten varios transportes.
+     */
+    public static class Hub {
+        private final List<InMemoryTransport> members = new CopyOnWriteArrayList<>();
+        private final AtomicInteger dropNext = new AtomicInteger();
+
+        /**
+         * Descarta los próximos envíos, para simular pérdidas.
+         *
+         * @param count El número de datagramas a descartar.
+         */
+        public void dropNext(int count) {
+            dropNext.set(count);
+        }
+
+        private boolean shouldDrop() {
+            return dropNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * @file: Invalidation.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:14:06 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+/**
+ * Invalidación de una clave de una región, o de toda la región cuando la clave es {@code null}.
+ *
+ * @param region  La región de caché, por ejemplo {@code usuario}.
+ * @param key     La clave invalidada, o {@code null} para vaciar la región.
+ * @param version La versión de la entidad que deja obsoletas las entradas anteriores.
+ */
+public record Invalidation(String region, String key, long version) {
+    /**
+     * Indica si la invalidación vacía toda la región.
+     *
+     * @return true si no tiene clave.
+     */
+    public boolean isReset() {
+        return key == null;
+    }
+}
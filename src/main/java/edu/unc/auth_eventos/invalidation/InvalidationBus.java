@@ -0,0 +1,301 @@
+/**
+ * @file: InvalidationBus.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:42:50 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bus de invalidación de las cachés en proceso entre las instancias del servicio.
+ * <p>
+ * Una publicación se entrega enseguida a los receptores locales y queda pendiente para las demás instancias.
+ * Cada {@code flushMillis} las pendientes se envían agrupadas en datagramas; las publicaciones repetidas de una
+ * misma clave se fusionan y solo viaja la versión mayor. Si no hubo publicaciones, cada {@code heartbeatMillis}
+ * se envía un latido.
+ * <p>
+ * El transporte puede perder datagramas. Cada instancia numera los suyos; un receptor que ve un hueco en la
+ * secuencia de un emisor (o conoce a un emisor a mitad de su secuencia) no sabe qué se perdió y vacía todas sus
+ * regiones. Las entradas de {@link VersionedCache} llevan la versión de la entidad, así que un mensaje repetido o
+ * desordenado no hace daño, y su caducidad acota lo que dura una entrada obsoleta si se pierden también los
+ * latidos.
+ */
+@Slf4j
+public class InvalidationBus implements AutoCloseable {
+    /**
+     * Región de los usuarios, con el email como clave.
+     */
+    public static final String REGION_USUARIOS = "usuario";
+
+    /**
+     * Región de los roles, con el identificador como clave.
+     */
+    public static final String REGION_ROLES = "rol";
+
+    /**
+     * Tamaño máximo de un datagrama, por debajo de la MTU habitual para que no se fragmente.
+     */
+    static final int MAX_DATAGRAM_BYTES = 1200;
+
+    private final InvalidationTransport transport;
+    private final long flushMillis;
+    private final long heartbeatMillis;
+    private final long nodeId = new SecureRandom().nextLong();
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Clave, Long> pending = new LinkedHashMap<>();
+    private final Map<Long, Peer> peers = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private long sequence;
+    private long lastSent;
+
+    /**
+     * Crea el bus.
+     *
+     * @param transport       El transporte hacia las demás instancias.
+     * @param flushMillis     El intervalo de envío de las invalidaciones pendientes.
+     * @param heartbeatMillis El intervalo máximo sin enviar nada.
+     */
+    public InvalidationBus(InvalidationTransport transport, long flushMillis, long heartbeatMillis) {
+        this.transport = transport;
+        this.flushMillis = flushMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Abre el transporte y empieza a enviar y recibir.
+     *
+     * @throws IOException Si no se pudo abrir el transporte.
+     */
+    public void start() throws IOException {
+        transport.start(this::receive);
+        scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registra un receptor de las invalidaciones de una región, locales y remotas.
+     *
+     * @param region   La región.
+     * @param listener El receptor.
+     */
+    public void subscribe(String region, InvalidationListener listener) {
+        listeners.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Invalida una clave en esta instancia y, en el próximo envío, en las demás.
+     *
+     * @param region  La región.
+     * @param key     La clave.
+     * @param version La versión que deja obsoletas las entradas anteriores.
+     */
+    public void publish(String region, String key, long version) {
+        deliver(new Invalidation(region, key, version));
+        synchronized (pending) {
+            pending.merge(new Clave(region, key), version, Math::max);
+        }
+    }
+
+    /**
+     * Vacía una región en esta instancia y, en el próximo envío, en las demás.
+     *
+     * @param region La región.
+     */
+    public void publishReset(String region) {
+        deliver(new Invalidation(region, null, 0));
+        synchronized (pending) {
+            pending.keySet().removeIf(clave -> clave.region().equals(region));
+            pending.put(new Clave(region, null), 0L);
+        }
+    }
+
+    /**
+     * Publica la invalidación cuando se confirma la transacción actual, o enseguida si no hay transacción.
+     * La versión se lee al confirmar, cuando el vaciado ya la incrementó.
+     *
+     * @param region  La región.
+     * @param key     La clave.
+     * @param version El proveedor de la versión.
+     */
+    public void publishAfterCommit(String region, String key, LongSupplier version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(region, key, version.getAsLong());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(region, key, version.getAsLong());
+            }
+        });
+    }
+
+    /**
+     * Envía las invalidaciones pendientes, o un latido si toca.
+     */
+    public synchronized void flush() {
+        List<Invalidation> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.size());
+            pending.forEach((clave, version) -> batch.add(new Invalidation(clave.region(), clave.key(), version)));
+            pending.clear();
+        }
+        long now = System.currentTimeMillis();
+        if (batch.isEmpty() && now - lastSent < heartbeatMillis) {
+            return;
+        }
+        List<byte[]> datagrams = InvalidationCodec.encode(nodeId, sequence + 1, batch, MAX_DATAGRAM_BYTES);
+        sequence += datagrams.size();
+        lastSent = now;
+        for (byte[] datagram : datagrams) {
+            try {
+                transport.send(datagram);
+                sent.increment();
+            } catch (IOException | RuntimeException e) {
+                // Los receptores verán el hueco en la secuencia y vaciarán sus cachés.
+                log.warn("No se pudo enviar un datagrama de invalidación: {}", e.getMessage());
+            }
+        }
+        forgetSilentPeers(now);
+    }
+
+    /**
+     * Obtiene el número de datagramas enviados.
+     *
+     * @return El número de datagramas.
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Obtiene el número de datagramas recibidos de otras instancias.
+     *
+     * @return El número de datagramas.
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Obtiene el número de pérdidas detectadas, cada una de las cuales vació las cachés.
+     *
+     * @return El número de pérdidas.
+     */
+    public long getGapCount() {
+        return gaps.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        transport.close();
+    }
+
+    /**
+     * Procesa un datagrama recibido del transporte.
+     */
+    void receive(byte[] bytes) {
+        InvalidationCodec.Datagram datagram;
+        try {
+            datagram = InvalidationCodec.decode(bytes);
+        } catch (IOException e) {
+            log.debug("Datagrama de invalidación descartado: {}", e.getMessage());
+            return;
+        }
+        if (datagram.sender() == nodeId) {
+            return;
+        }
+        received.increment();
+        boolean gap;
+        synchronized (peers) {
+            Peer peer = peers.get(datagram.sender());
+            long expected = peer == null ? 1 : peer.sequence() + 1;
+            gap = datagram.sequence() > expected;
+            if (peer == null || datagram.sequence() > peer.sequence()) {
+                peers.put(datagram.sender(), new Peer(datagram.sequence(), System.currentTimeMillis()));
+            }
+        }
+        if (gap) {
+            gaps.increment();
+            log.debug("Se perdieron invalidaciones de la instancia {}; se vacían las cachés.", datagram.sender());
+            listeners.values().forEach(regionListeners -> regionListeners.forEach(InvalidationBus::reset));
+        }
+        datagram.entries().forEach(this::deliver);
+    }
+
+    private void deliver(Invalidation invalidation) {
+        for (InvalidationListener listener : listeners.getOrDefault(invalidation.region(), List.of())) {
+            try {
+                if (invalidation.isReset()) {
+                    listener.reset();
+                } else {
+                    listener.invalidate(invalidation.key(), invalidation.version());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Error al aplicar la invalidación {}: {}", invalidation, e.getMessage());
+            }
+        }
+    }
+
+    private static void reset(InvalidationListener listener) {
+        try {
+            listener.reset();
+        } catch (RuntimeException e) {
+            log.warn("Error al vaciar una caché: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Olvida las instancias que dejaron de enviar latidos, por ejemplo las que se reiniciaron con otro
+     * identificador.
+     */
+    private void forgetSilentPeers(long now) {
+        synchronized (peers) {
+            peers.values().removeIf(peer -> now - peer.seenAt() > heartbeatMillis * 100);
+        }
+    }
+
+    /**
+     * Clave pendiente de envío; la clave {@code null} vacía la región.
+     */
+    private record Clave(String region, String key) {
+    }
+
+    /**
+     * Última secuencia recibida de otra instancia.
+     */
+    private record Peer(long sequence, long seenAt) {
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * @file: InvalidationCodec.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:31:12 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formato binario de los datagramas del bus.
+ * <p>
+ * Cada datagrama lleva una cabecera fija (marca, instancia emisora, secuencia y número de entradas) y las
+ * entradas como región, marca de clave, clave y versión. Un datagrama sin entradas es un latido: solo anuncia la
+ * secuencia para que los receptores detecten las pérdidas del final de una ráfaga.
+ */
+final class InvalidationCodec {
+    static final int HEADER_BYTES = 4 + 8 + 8 + 2;
+    private static final int MAGIC = 0x494E5631;
+
+    private InvalidationCodec() {
+    }
+
+    /**
+     * Datagrama decodificado.
+     */
+    record Datagram(long sender, long sequence, List<Invalidation> entries) {
+    }
+
+    /**
+     * Reparte las entradas en datagramas de como máximo {@code maxBytes}, con secuencias consecutivas.
+     *
+     * @return Los datagramas; si no hay entradas, un latido.
+     */
+    static List<byte[]> encode(long sender, long firstSequence, List<Invalidation> entries, int maxBytes) {
+        List<byte[]> datagrams = new ArrayList<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int count = 0;
+        for (Invalidation entry : entries) {
+            byte[] encoded = encodeEntry(entry);
+            if (count > 0 && (HEADER_BYTES + body.size() + encoded.length > maxBytes || count == 0xFFFF)) {
+                datagrams.add(datagram(sender, firstSequence + datagrams.size(), count, body));
+                body.reset();
+                count = 0;
+            }
+            body.writeBytes(encoded);
+            count++;
+        }
+        if (count > 0 || datagrams.isEmpty()) {
+            datagrams.add(datagram(sender, firstSequence + datagrams.size(), count, body));
+        }
+        return datagrams;
+    }
+
+    /**
+     * Decodifica un datagrama.
+     *
+     * @throws IOException Si el datagrama no tiene el formato esperado.
+     */
+    static Datagram decode(byte[] datagram) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(datagram));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Datagrama de invalidación con marca desconocida.");
+        }
+        long sender = in.readLong();
+        long sequence = in.readLong();
+        int count = in.readUnsignedShort();
+        List<Invalidation> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String region = in.readUTF();
+            String key = in.readBoolean() ? in.readUTF() : null;
+            entries.add(new Invalidation(region, key, in.readLong()));
+        }
+        return new Datagram(sender, sequence, entries);
+    }
+
+    private static byte[] encodeEntry(Invalidation entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(entry.region());
+            out.writeBoolean(!entry.isReset());
+            if (!entry.isReset()) {
+                out.writeUTF(entry.key());
+            }
+            out.writeLong(entry.version());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] datagram(long sender, long sequence, int count, ByteArrayOutputStream body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + body.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeLong(sender);
+            out.writeLong(sequence);
+            out.writeShort(count);
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * @file: InvalidationListener.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:15:41 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+/**
+ * Receptor de las invalidaciones de una región del bus.
+ */
+public interface InvalidationListener {
+    /**
+     * Invalida una clave.
+     *
+     * @param key     La clave.
+     * @param version La versión que deja obsoletas las entradas anteriores.
+     */
+    void invalidate(String key, long version);
+
+    /**
+     * Descarta todas las entradas: la región se vació o se perdieron mensajes y no se sabe cuáles.
+     */
+    void reset();
+
+    /**
+     * Crea un receptor que ejecuta la misma acción ante cualquier invalidación.
+     *
+     * @param action La acción.
+     * @return El receptor.
+     */
+    static InvalidationListener onAny(Runnable action) {
+        return new InvalidationListener() {
+            @Override
+            public void invalidate(String key, long version) {
+                action.run();
+            }
+
+            @Override
+            public void reset() {
+                action.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * @file: InvalidationTransport.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:17:22 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Transporte de los datagramas del bus de invalidación entre instancias.
+ * <p>
+ * No necesita ser fiable ni ordenado: el bus numera los datagramas y trata los huecos como pérdidas. Cada
+ * datagrama cabe en un paquete UDP sin fragmentar.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+    /**
+     * Empieza a recibir datagramas de las demás instancias (y quizá los propios, que el bus descarta).
+     *
+     * @param receiver El receptor de los datagramas; se llama desde el hilo del transporte.
+     * @throws IOException Si no se pudo abrir el transporte.
+     */
+    void start(Consumer<byte[]> receiver) throws IOException;
+
+    /**
+     * Envía un datagrama a las demás instancias.
+     *
+     * @param datagram El datagrama.
+     * @throws IOException Si no se pudo enviar.
+     */
+    void send(byte[] datagram) throws IOException;
+
+    /**
+     * Deja de recibir y libera el transporte.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,109 @@
+/**
+ * @file: MulticastTransport.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 12:24:37 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Transporte UDP multicast para las instancias de una misma red local.
+ * <p>
+ * Todas las instancias se unen al mismo grupo y puerto; cada envío es un único paquete que el sistema entrega a
+ * todos los miembros, incluidos los procesos de la misma máquina (el bucle local de multicast está activo). Con
+ * {@code timeToLive} 1 los paquetes no salen de la subred.
+ */
+@Slf4j
+public class MulticastTransport implements InvalidationTransport {
+    private static final int MAX_DATAGRAM = 65_507;
+
+    private final InetAddress group;
+    private final int port;
+    private final NetworkInterface networkInterface;
+    private final int timeToLive;
+    private MulticastSocket socket;
+    private Thread receiverThread;
+    private volatile boolean running;
+
+    /**
+     * Crea el transporte.
+     *
+     * @param group            La dirección del grupo multicast.
+     * @param port             El puerto UDP.
+     * @param networkInterface La interfaz por la que se envía y recibe, o {@code null} para la del sistema.
+     * @param timeToLive       El número de saltos de los paquetes.
+     */
+    public MulticastTransport(InetAddress group, int port, NetworkInterface networkInterface, int timeToLive) {
+        if (!group.isMulticastAddress()) {
+            throw new IllegalArgumentException(group + " no es una dirección multicast.");
+        }
+        this.group = group;
+        this.port = port;
+        this.networkInterface = networkInterface;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public synchronized void start(Consumer<byte[]> receiver) throws IOException {
+        socket = new MulticastSocket(port);
+        socket.setTimeToLive(timeToLive);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.joinGroup(new InetSocketAddress(group, port), networkInterface);
+        running = true;
+        receiverThread = new Thread(() -> receive(receiver), "invalidation-receiver");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @Override
+    public void send(byte[] datagram) throws IOException {
+        socket.send(new DatagramPacket(datagram, datagram.length, group, port));
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (socket != null) {
+            socket.close();
+        }
+        if (receiverThread != null) {
+            try {
+                receiverThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void receive(Consumer<byte[]> receiver) {
+        DatagramPacket packet = new DatagramPacket(new byte[MAX_DATAGRAM], MAX_DATAGRAM);
+        while (running) {
+            try {
+                packet.setLength(MAX_DATAGRAM);
+                socket.receive(packet);
+                receiver.accept(Arrays.copyOfRange(packet.getData(), packet.getOffset(),
+                        packet.getOffset() + packet.getLength()));
+            } catch (SocketException e) {
+                if (running) {
+                    log.warn("Error en el socket de invalidación: {}", e.getMessage());
+                }
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("No se pudo procesar un datagrama de invalidación: {}", e.getMessage());
+            }
+        }
+    }
+}
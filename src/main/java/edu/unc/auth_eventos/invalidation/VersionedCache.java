@@ -0,0 +1,123 @@
+/**
+ * @file: VersionedCache.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 01:03:27 AM
+ */
+package edu.unc.auth_eventos.invalidation;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caché acotada de entidades con versión, invalidada desde un {@link InvalidationBus}.
+ * <p>
+ * Cada entrada guarda la versión de la entidad. Una invalidación deja una lápida con su versión, de modo que una
+ * carga que empezó antes y termina después (y trae la versión anterior) no vuelve a guardar el valor obsoleto;
+ * un vaciado hace lo mismo con todas las cargas en curso. Las entradas y las lápidas caducan a los
+ * {@code ttlMillis}, que es lo más que puede durar un valor obsoleto si se pierde su invalidación. Al superar
+ * {@code maxEntries} se descarta la menos usada.
+ *
+ * @param <V> Tipo de los valores.
+ */
+public class VersionedCache<V> implements InvalidationListener {
+    private final long ttlMillis;
+    private final Map<String, Entry<V>> entries;
+    private long generation;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Crea la caché.
+     *
+     * @param maxEntries El máximo de entradas, lápidas incluidas.
+     * @param ttlMillis  La vida de cada entrada.
+     */
+    public VersionedCache(int maxEntries, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtiene un valor de la caché o lo carga. Las cargas no se sincronizan entre sí y los valores {@code null}
+     * no se guardan.
+     *
+     * @param key     La clave.
+     * @param loader  La carga del valor cuando no está en la caché.
+     * @param version La versión de un valor cargado.
+     * @return El valor, o {@code null} si la carga no encontró nada.
+     */
+    public V get(String key, Function<String, V> loader, ToLongFunction<V> version) {
+        long loadGeneration;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.value != null && entry.expiresAt > clock.millis()) {
+                return entry.value;
+            }
+            loadGeneration = generation;
+        }
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        long loadedVersion = version.applyAsLong(value);
+        synchronized (entries) {
+            long now = clock.millis();
+            Entry<V> current = entries.get(key);
+            boolean newer = current != null && current.expiresAt > now && current.version > loadedVersion;
+            if (loadGeneration == generation && !newer) {
+                entries.put(key, new Entry<>(value, loadedVersion, now + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(String key, long version) {
+        synchronized (entries) {
+            long now = clock.millis();
+            Entry<V> current = entries.get(key);
+            if (current == null || current.expiresAt <= now || current.version <= version) {
+                entries.put(key, new Entry<>(null, version, now + ttlMillis));
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        synchronized (entries) {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * Obtiene el número de entradas, lápidas incluidas.
+     *
+     * @return El número de entradas.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Usado solo en pruebas.
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Valor con su versión; sin valor es una lápida.
+     */
+    private record Entry<V>(V value, long version, long expiresAt) {
+    }
+}
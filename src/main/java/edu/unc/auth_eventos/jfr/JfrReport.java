@@ -0,0 +1,132 @@
+/**
+ * @file: JfrReport.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 05:48:09 AM
+ */
+package edu.unc.auth_eventos.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Herramienta que resume una grabación de JDK Flight Recorder en un informe de latencias de los eventos de
+ * autenticación ({@link LoginEvent}, {@link TokenVerificationEvent} y {@link UserLookupEvent}).
+ * <p>
+ * Agrupa los eventos por tipo y por resultado (o por origen y fuente en las búsquedas) y da de cada grupo el total,
+ * los percentiles 50, 90 y 99 y el máximo de la duración; en los inicios de sesión añade la media del tiempo en la
+ * base de datos y en el hash. Solo usa la JDK, así que se ejecuta con las clases compiladas sin el resto de la
+ * aplicación (ver {@code scripts/jfr-report.sh}).
+ */
+public final class JfrReport {
+    private static final String PREFIX = "edu.unc.auth_eventos.";
+
+    private JfrReport() {
+    }
+
+    /**
+     * Imprime el informe de una grabación.
+     *
+     * @param args La ruta del archivo {@code .jfr}.
+     * @throws IOException si no se puede leer la grabación.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: JfrReport <grabacion.jfr>");
+            System.exit(2);
+        }
+        System.out.print(summarize(Path.of(args[0])));
+    }
+
+    /**
+     * Resume una grabación.
+     *
+     * @param recording El archivo {@code .jfr}.
+     * @return El informe en texto, una línea por grupo.
+     * @throws IOException si no se puede leer la grabación.
+     */
+    public static String summarize(Path recording) throws IOException {
+        Map<String, Group> groups = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(PREFIX)) {
+                    continue;
+                }
+                String type = name.substring(PREFIX.length());
+                String key = "UserLookup".equals(type)
+                        ? event.getString("origen") + "/" + event.getString("fuente")
+                        : event.getString("resultado");
+                Group group = groups.computeIfAbsent(type + " " + key, k -> new Group(type, key));
+                group.add(event.getDuration().toNanos());
+                if ("Login".equals(type)) {
+                    group.db += event.getDuration("db").toNanos();
+                    group.hash += event.getDuration("hash").toNanos();
+                }
+            }
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-18s %-28s %8s %10s %10s %10s %10s  %s%n",
+                "Evento", "Grupo", "Total", "p50 ms", "p90 ms", "p99 ms", "max ms", "Detalle"));
+        for (Group group : groups.values()) {
+            long[] sorted = Arrays.copyOf(group.durations, group.count);
+            Arrays.sort(sorted);
+            String detail = "Login".equals(group.type)
+                    ? String.format(Locale.ROOT, "bd media %.3f ms, hash media %.3f ms",
+                    millis(group.db / group.count), millis(group.hash / group.count))
+                    : "";
+            report.append(String.format(Locale.ROOT, "%-18s %-28s %8d %10.3f %10.3f %10.3f %10.3f  %s",
+                    group.type, group.key, group.count, millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.90)), millis(percentile(sorted, 0.99)),
+                    millis(sorted[sorted.length - 1]), detail).stripTrailing()).append(System.lineSeparator());
+        }
+        if (groups.isEmpty()) {
+            report.append("La grabación no tiene eventos de ").append(PREFIX).append('*').append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Obtiene un percentil por el método del rango más cercano.
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Duraciones acumuladas de un grupo de eventos.
+     */
+    private static final class Group {
+        private final String type;
+        private final String key;
+        private long[] durations = new long[64];
+        private int count;
+        private long db;
+        private long hash;
+
+        private Group(String type, String key) {
+            this.type = type;
+            this.key = key;
+        }
+
+        private void add(long nanos) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+        }
+    }
+}
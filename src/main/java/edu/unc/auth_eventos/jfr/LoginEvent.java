@@ -0,0 +1,105 @@
+/**
+ * @file: LoginEvent.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 05:06:12 AM
+ */
+package edu.unc.auth_eventos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de JDK Flight Recorder de un inicio de sesión, con su resultado y el tiempo que pasó en la base de datos
+ * y en el hash de la contraseña.
+ * <p>
+ * Con el evento desactivado {@link #mark()} devuelve 0 y no se lee el reloj; el evento solo se completa y se
+ * escribe si supera el umbral.
+ */
+@Name("edu.unc.auth_eventos.Login")
+@Label("Inicio de sesión")
+@Category({"Auth Eventos", "Autenticación"})
+@Description("Inicio de sesión con su resultado y su tiempo en la base de datos y en el hash de la contraseña.")
+@Threshold("20 ms")
+@StackTrace(false)
+public final class LoginEvent extends Event {
+    /**
+     * Credenciales correctas y token emitido.
+     */
+    public static final String EXITOSO = "EXITOSO";
+
+    /**
+     * Cuenta bloqueada por intentos fallidos.
+     */
+    public static final String BLOQUEADO = "BLOQUEADO";
+
+    /**
+     * Email inexistente o contraseña incorrecta.
+     */
+    public static final String CREDENCIALES_INVALIDAS = "CREDENCIALES_INVALIDAS";
+
+    /**
+     * La solicitud terminó con otra excepción.
+     */
+    public static final String ERROR = "ERROR";
+
+    @Label("Resultado")
+    private String resultado;
+
+    @Label("Tiempo en base de datos")
+    @Timespan(Timespan.NANOSECONDS)
+    private long db;
+
+    @Label("Tiempo de hash")
+    @Timespan(Timespan.NANOSECONDS)
+    private long hash;
+
+    /**
+     * Marca el inicio de una fase.
+     *
+     * @return El instante de inicio, o 0 si el evento está desactivado.
+     */
+    public long mark() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Suma a la base de datos el tiempo transcurrido desde una marca.
+     *
+     * @param mark El instante devuelto por {@link #mark()}.
+     */
+    public void addDb(long mark) {
+        if (mark != 0) {
+            db += System.nanoTime() - mark;
+        }
+    }
+
+    /**
+     * Suma al hash de la contraseña el tiempo transcurrido desde una marca.
+     *
+     * @param mark El instante devuelto por {@link #mark()}.
+     */
+    public void addHash(long mark) {
+        if (mark != 0) {
+            hash += System.nanoTime() - mark;
+        }
+    }
+
+    /**
+     * Termina el evento y lo escribe si supera el umbral.
+     *
+     * @param resultado El resultado del inicio de sesión.
+     */
+    public void finish(String resultado) {
+        end();
+        if (shouldCommit()) {
+            this.resultado = resultado;
+            commit();
+        }
+    }
+}
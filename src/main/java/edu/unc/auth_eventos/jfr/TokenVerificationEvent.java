@@ -0,0 +1,73 @@
+/**
+ * @file: TokenVerificationEvent.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 05:14:38 AM
+ */
+package edu.unc.auth_eventos.jfr;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JDK Flight Recorder de la verificación de un token JWT: firma, formato y expiración.
+ */
+@Name("edu.unc.auth_eventos.TokenVerification")
+@Label("Verificación de token")
+@Category({"Auth Eventos", "Autenticación"})
+@Description("Verificación de la firma y las claims de un token JWT, con su resultado.")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class TokenVerificationEvent extends Event {
+    /**
+     * Token con firma correcta y vigente.
+     */
+    public static final String VALIDO = "VALIDO";
+
+    /**
+     * Token expirado.
+     */
+    public static final String EXPIRADO = "EXPIRADO";
+
+    /**
+     * Firma que no corresponde a la clave.
+     */
+    public static final String FIRMA_INVALIDA = "FIRMA_INVALIDA";
+
+    /**
+     * Token que no es un JWT bien formado.
+     */
+    public static final String MALFORMADO = "MALFORMADO";
+
+    /**
+     * Cualquier otro rechazo.
+     */
+    public static final String RECHAZADO = "RECHAZADO";
+
+    @Label("Resultado")
+    private String resultado;
+
+    /**
+     * Termina el evento y lo escribe si supera el umbral.
+     *
+     * @param error La excepción del parser, o null si el token es válido.
+     */
+    public void finish(RuntimeException error) {
+        end();
+        if (shouldCommit()) {
+            this.resultado = error == null ? VALIDO
+                    : error instanceof ExpiredJwtException ? EXPIRADO
+                    : error instanceof SignatureException ? FIRMA_INVALIDA
+                    : error instanceof MalformedJwtException ? MALFORMADO
+                    : RECHAZADO;
+            commit();
+        }
+    }
+}
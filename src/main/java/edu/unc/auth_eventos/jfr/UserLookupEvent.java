@@ -0,0 +1,120 @@
+/**
+ * @file: UserLookupEvent.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 05:23:51 AM
+ */
+package edu.unc.auth_eventos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JDK Flight Recorder de la búsqueda de un usuario por email, con la capa que lo sirvió.
+ * <p>
+ * Las capas de la búsqueda (caché, índice de credenciales, base de datos) no conocen el evento: cada una anota su
+ * nombre con {@link #servedBy(String)} antes de resolver, y la última anotada es la que sirvió al usuario. La
+ * anotación usa una variable del hilo que solo se rellena cuando el evento está activado; desactivado, cuesta una
+ * lectura de esa variable por capa.
+ */
+@Name("edu.unc.auth_eventos.UserLookup")
+@Label("Búsqueda de usuario")
+@Category({"Auth Eventos", "Autenticación"})
+@Description("Búsqueda de un usuario por email, con su origen, la capa que lo sirvió y si fue un acierto de caché.")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class UserLookupEvent extends Event {
+    /**
+     * Búsqueda del filtro JWT.
+     */
+    public static final String FILTRO = "FILTRO";
+
+    /**
+     * Búsqueda del inicio de sesión.
+     */
+    public static final String LOGIN = "LOGIN";
+
+    /**
+     * Servido por la caché de usuarios.
+     */
+    public static final String CACHE = "CACHE";
+
+    /**
+     * Servido por el índice de credenciales.
+     */
+    public static final String INDICE = "INDICE";
+
+    /**
+     * Servido por una consulta a la base de datos.
+     */
+    public static final String BASE_DE_DATOS = "BASE_DE_DATOS";
+
+    /**
+     * Servido por la principal porque el hilo ya escribió en la solicitud.
+     */
+    public static final String PRINCIPAL = "PRINCIPAL";
+
+    private static final ThreadLocal<UserLookupEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Origen")
+    private String origen;
+
+    @Label("Fuente")
+    private String fuente = BASE_DE_DATOS;
+
+    @Label("Acierto de caché")
+    private boolean acierto;
+
+    @Label("Encontrado")
+    private boolean encontrado;
+
+    /**
+     * Empieza el evento de una búsqueda en el hilo actual.
+     *
+     * @param origen Quién busca: {@link #FILTRO} o {@link #LOGIN}.
+     * @return El evento.
+     */
+    public static UserLookupEvent start(String origen) {
+        UserLookupEvent event = new UserLookupEvent();
+        if (event.isEnabled()) {
+            event.origen = origen;
+            CURRENT.set(event);
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Anota la capa que va a resolver la búsqueda en curso del hilo actual, si hay una.
+     *
+     * @param fuente La capa.
+     */
+    public static void servedBy(String fuente) {
+        UserLookupEvent event = CURRENT.get();
+        if (event != null) {
+            event.fuente = fuente;
+        }
+    }
+
+    /**
+     * Termina el evento y lo escribe si supera el umbral.
+     *
+     * @param encontrado Si el usuario existe.
+     */
+    public void finish(boolean encontrado) {
+        if (origen == null) {
+            return;
+        }
+        CURRENT.remove();
+        end();
+        if (shouldCommit()) {
+            this.encontrado = encontrado;
+            this.acierto = CACHE.equals(fuente) || INDICE.equals(fuente);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * @file: CambioRepository.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:07:52 PM
+ */
+package edu.unc.auth_eventos.repository;
+
+import edu.unc.auth_eventos.entity.Cambio;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para la bandeja de salida de cambios.
+ */
+public interface CambioRepository extends JpaRepository<Cambio, Long> {
+
+    /**
+     * Busca los cambios posteriores a una secuencia, en orden de secuencia.
+     *
+     * @param secuencia La última secuencia conocida.
+     * @param pageable  El número máximo de cambios.
+     * @return Los cambios posteriores a la secuencia.
+     */
+    List<Cambio> findBySecuenciaGreaterThanOrderBySecuenciaAsc(Long secuencia, Pageable pageable);
+
+    /**
+     * Obtiene la última secuencia asignada.
+     *
+     * @return La secuencia, o 0 si no hay cambios.
+     */
+    @Query("SELECT COALESCE(MAX(c.secuencia), 0) FROM Cambio c")
+    long findMaxSecuencia();
+
+    /**
+     * Busca los cambios con las secuencias dadas.
+     *
+     * @param secuencias Las secuencias.
+     * @return Los cambios confirmados con esas secuencias.
+     */
+    List<Cambio> findBySecuenciaIn(Collection<Long> secuencias);
+
+    /**
+     * Borra un cambio por su secuencia.
+     *
+     * @param secuencia La secuencia.
+     * @return El número de cambios borrados, 0 si otra transacción ya lo borró.
+     */
+    @Modifying
+    @Query("DELETE FROM Cambio c WHERE c.secuencia = :secuencia")
+    int deleteBySecuencia(@Param("secuencia") Long secuencia);
+}
@@ -0,0 +1,23 @@
+/**
+ * @file: CredencialUsuario.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 03:18:40 AM
+ */
+package edu.unc.auth_eventos.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columnas de un usuario que necesita el índice de credenciales, sin cargar la entidad.
+ *
+ * @param idUsuario        El identificador del usuario.
+ * @param email            El email.
+ * @param password         El hash de la contraseña.
+ * @param idRol            El identificador del rol, o {@code null}.
+ * @param version          La versión.
+ * @param intentosFallidos Los intentos fallidos persistidos, o {@code null}.
+ * @param bloqueadoHasta   El fin del bloqueo, o {@code null}.
+ */
+public record CredencialUsuario(Long idUsuario, String email, String password, Long idRol, Long version,
+                                Integer intentosFallidos, LocalDateTime bloqueadoHasta) {
+}
@@ -7,6 +7,7 @@ package edu.unc.auth_eventos.repository;
 
 import edu.unc.auth_eventos.entity.Rol;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * Repositorio para la entidad Rol en la base de datos.
@@ -21,4 +22,24 @@ public interface RolRepository extends JpaRepository<Rol,Long> {
      * @return El rol con el nombre proporcionado.
      */
     Rol findByNombre(String nombre);
+
+    /**
+     * Obtiene un resumen del estado del catálogo de roles: cantidad, suma de versiones e identificador máximo.
+     * Cualquier alta, actualización o baja de un rol cambia al menos uno de los tres valores.
+     *
+     * @return El resumen del catálogo.
+     */
+    @Query("SELECT COUNT(r) AS total, COALESCE(SUM(r.version), 0) AS versionSum, COALESCE(MAX(r.idRol), 0) AS maxId FROM Rol r")
+    CatalogState findCatalogState();
+
+    /**
+     * Proyección con el resumen del estado del catálogo de roles.
+     */
+    interface CatalogState {
+        Long getTotal();
+
+        Long getVersionSum();
+
+        Long getMaxId();
+    }
 }
@@ -5,20 +5,94 @@
  */
 package edu.unc.auth_eventos.repository;
 
+import edu.unc.auth_eventos.entity.Rol;
 import edu.unc.auth_eventos.entity.Usuario;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio para la entidad Usuario en la base de datos.
  * Proporciona operaciones de consulta específicas para la entidad Usuario.
+ * <p>
+ * Las operaciones declaradas en {@link UsuarioRepositoryCustom} se enrutan a la partición del usuario; las
+ * operaciones masivas de este repositorio usan la partición ya ligada a la transacción.
  */
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends JpaRepository<Usuario, Long>, UsuarioRepositoryCustom {
+
+    @Override
+    Optional<Usuario> findById(Long id);
+
+    @Override
+    List<Usuario> findAll();
+
+    @Override
+    <S extends Usuario> S save(S usuario);
+
+    @Override
+    void delete(Usuario usuario);
+
+    /**
+     * Obtiene, en orden, los identificadores de los usuarios de un rol posteriores a un identificador.
+     *
+     * @param rol      El rol.
+     * @param after    El último identificador ya procesado.
+     * @param pageable El tamaño del bloque.
+     * @return Los identificadores del bloque.
+     */
+    @Query("SELECT u.idUsuario FROM Usuario u WHERE u.rol = :rol AND u.idUsuario > :after ORDER BY u.idUsuario")
+    List<Long> findIdsByRol(@Param("rol") Rol rol, @Param("after") Long after, Pageable pageable);
+
+    /**
+     * Reasigna al rol destino los usuarios del rol origen dentro de un rango de identificadores, subiendo su versión.
+     *
+     * @param origen  El rol actual de los usuarios.
+     * @param destino El nuevo rol.
+     * @param after   Límite inferior del rango, excluido.
+     * @param upTo    Límite superior del rango, incluido.
+     * @return El número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE Usuario u SET u.rol = :destino, u.version = u.version + 1 "
+            + "WHERE u.rol = :origen AND u.idUsuario > :after AND u.idUsuario <= :upTo")
+    int reassignRol(@Param("origen") Rol origen, @Param("destino") Rol destino,
+                    @Param("after") Long after, @Param("upTo") Long upTo);
+
+    /**
+     * Obtiene los usuarios con los identificadores dados, con su rol.
+     *
+     * @param ids Los identificadores.
+     * @return Los usuarios encontrados.
+     */
+    @Query("SELECT u FROM Usuario u LEFT JOIN FETCH u.rol WHERE u.idUsuario IN :ids ORDER BY u.idUsuario")
+    List<Usuario> findAllWithRolByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Elimina los usuarios con los identificadores dados en una sola sentencia.
+     *
+     * @param ids Los identificadores.
+     * @return El número de filas eliminadas.
+     */
+    @Modifying
+    @Query("DELETE FROM Usuario u WHERE u.idUsuario IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Busca un usuario por email.
+     * Obtiene las credenciales de los usuarios con identificador mayor que {@code after}, en orden de
+     * identificador, para cargar el índice de credenciales por páginas.
      *
-     * @param email El email del usuario.
-     * @return El usuario con el email proporcionado.
+     * @param after    El último identificador de la página anterior.
+     * @param pageable El tamaño de la página.
+     * @return Las credenciales de la página.
      */
-    Usuario findByEmail(String email);
-}
\ No newline at end of file
+    @Query("SELECT new edu.unc.auth_eventos.repository.CredencialUsuario(u.idUsuario, u.email, u.password, "
+            + "r.idRol, u.version, u.intentosFallidos, u.bloqueadoHasta) "
+            + "FROM Usuario u LEFT JOIN u.rol r WHERE u.idUsuario > :after ORDER BY u.idUsuario")
+    List<CredencialUsuario> findCredencialesAfter(@Param("after") Long after, Pageable pageable);
+}
@@ -0,0 +1,79 @@
+/**
+ * @file: UsuarioRepositoryCustom.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:44:18 PM
+ */
+package edu.unc.auth_eventos.repository;
+
+import edu.unc.auth_eventos.entity.Usuario;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones de {@link UsuarioRepository} enrutadas a la partición del usuario.
+ * <p>
+ * Sustituyen a las del repositorio base: las búsquedas por email van a la partición del email, las búsquedas
+ * por id a la partición codificada en el id y el listado consulta todas las particiones en paralelo. Las
+ * operaciones no declaradas aquí usan la partición ya ligada a la transacción, o la partición 0.
+ */
+public interface UsuarioRepositoryCustom {
+
+    /**
+     * Busca un usuario por email.
+     *
+     * @param email El email del usuario.
+     * @return El usuario con el email proporcionado.
+     */
+    Usuario findByEmail(String email);
+
+    /**
+     * Busca un usuario por su identificador.
+     *
+     * @param id El identificador único del usuario.
+     * @return El usuario, si existe.
+     */
+    Optional<Usuario> findById(Long id);
+
+    /**
+     * Obtiene todos los usuarios de todas las particiones, ordenados por identificador.
+     *
+     * @return Lista de usuarios.
+     */
+    List<Usuario> findAll();
+
+    /**
+     * Guarda un usuario nuevo en la partición de su email, o un usuario existente en la partición de su id.
+     *
+     * @param usuario El usuario a guardar.
+     * @param <S>     El tipo del usuario.
+     * @return El usuario guardado.
+     */
+    <S extends Usuario> S save(S usuario);
+
+    /**
+     * Elimina un usuario de su partición.
+     *
+     * @param usuario El usuario a eliminar.
+     */
+    void delete(Usuario usuario);
+
+    /**
+     * Obtiene la versión de un usuario sin cargar la entidad.
+     *
+     * @param id El identificador único del usuario.
+     * @return La versión del usuario, o null si no existe.
+     */
+    Long findVersionById(Long id);
+
+    /**
+     * Actualiza el estado de intentos fallidos y bloqueo de un usuario.
+     *
+     * @param email            El email del usuario.
+     * @param intentosFallidos El número de intentos fallidos.
+     * @param bloqueadoHasta   La fecha y hora de fin del bloqueo, nula si no está bloqueado.
+     * @return El número de filas actualizadas.
+     */
+    int updateIntentosFallidos(String email, int intentosFallidos, LocalDateTime bloqueadoHasta);
+}
@@ -0,0 +1,123 @@
+/**
+ * @file: UsuarioRepositoryCustomImpl.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 06:51:02 PM
+ */
+package edu.unc.auth_eventos.repository;
+
+import edu.unc.auth_eventos.config.ShardRouter;
+import edu.unc.auth_eventos.entity.Usuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación de las operaciones de usuario enrutadas por partición (ver {@link ShardRouter}).
+ * <p>
+ * Cada operación liga la transacción a la partición antes de su primera sentencia. Con una sola partición
+ * se comporta igual que el repositorio base.
+ */
+public class UsuarioRepositoryCustomImpl implements UsuarioRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Usuario findByEmail(String email) {
+        shardRouter.route(shardRouter.shardForEmail(email));
+        List<Usuario> usuarios = entityManager
+                .createQuery("SELECT u FROM Usuario u LEFT JOIN FETCH u.rol WHERE u.email = :email", Usuario.class)
+                .setParameter("email", email)
+                .getResultList();
+        return usuarios.isEmpty() ? null : usuarios.get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Usuario> findById(Long id) {
+        Assert.notNull(id, "El identificador no puede ser nulo.");
+        if (!shardRouter.isKnownId(id)) {
+            return Optional.empty();
+        }
+        shardRouter.route(shardRouter.shardForId(id));
+        return Optional.ofNullable(entityManager.find(Usuario.class, id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Usuario> findAll() {
+        if (shardRouter.getShardCount() == 1) {
+            return selectAll();
+        }
+        return shardRouter.onEachShard(true, this::selectAll).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public <S extends Usuario> S save(S usuario) {
+        Assert.notNull(usuario, "El usuario no puede ser nulo.");
+        if (usuario.getVersion() == null) {
+            shardRouter.route(shardRouter.shardForEmail(usuario.getEmail()));
+            entityManager.persist(usuario);
+            return usuario;
+        }
+        shardRouter.route(shardRouter.shardForId(usuario.getIdUsuario()));
+        return entityManager.merge(usuario);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Usuario usuario) {
+        Assert.notNull(usuario, "El usuario no puede ser nulo.");
+        if (usuario.getIdUsuario() == null || !shardRouter.isKnownId(usuario.getIdUsuario())) {
+            return;
+        }
+        shardRouter.route(shardRouter.shardForId(usuario.getIdUsuario()));
+        Usuario existing = entityManager.find(Usuario.class, usuario.getIdUsuario());
+        if (existing != null) {
+            entityManager.remove(entityManager.contains(usuario) ? usuario : entityManager.merge(usuario));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long findVersionById(Long id) {
+        if (id == null || !shardRouter.isKnownId(id)) {
+            return null;
+        }
+        shardRouter.route(shardRouter.shardForId(id));
+        List<Long> versions = entityManager
+                .createQuery("SELECT u.version FROM Usuario u WHERE u.idUsuario = :id", Long.class)
+                .setParameter("id", id)
+                .getResultList();
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    @Override
+    @Transactional
+    public int updateIntentosFallidos(String email, int intentosFallidos, LocalDateTime bloqueadoHasta) {
+        shardRouter.route(shardRouter.shardForEmail(email));
+        return entityManager.createQuery("UPDATE Usuario u SET u.intentosFallidos = :intentosFallidos, "
+                        + "u.bloqueadoHasta = :bloqueadoHasta WHERE u.email = :email")
+                .setParameter("intentosFallidos", intentosFallidos)
+                .setParameter("bloqueadoHasta", bloqueadoHasta)
+                .setParameter("email", email)
+                .executeUpdate();
+    }
+
+    private List<Usuario> selectAll() {
+        return entityManager.createQuery("SELECT u FROM Usuario u LEFT JOIN FETCH u.rol ORDER BY u.idUsuario", Usuario.class)
+                .getResultList();
+    }
+}
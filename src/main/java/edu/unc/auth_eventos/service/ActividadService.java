@@ -0,0 +1,45 @@
+/**
+ * @file: ActividadService.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:03:19 PM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.util.HeavyHitters;
+
+import java.util.List;
+
+/**
+ * Interfaz que define las métricas de actividad de los usuarios autenticados: usuarios distintos y cuentas más
+ * activas en la última hora y el último día, con memoria fija sea cual sea el número de usuarios.
+ */
+public interface ActividadService {
+    /**
+     * Resumen de la actividad reciente.
+     *
+     * @param usuariosUltimaHora   Los usuarios distintos estimados en la última hora.
+     * @param usuariosUltimoDia    Los usuarios distintos estimados en las últimas 24 horas.
+     * @param masActivosUltimaHora Las cuentas con más actividad en la última hora, de mayor a menor.
+     * @param masActivosUltimoDia  Las cuentas con más actividad en las últimas 24 horas, de mayor a menor.
+     * @param memoriaBytes         La memoria fija que ocupan los sketches.
+     */
+    record ResumenActividad(long usuariosUltimaHora, long usuariosUltimoDia,
+                            List<HeavyHitters.Entry> masActivosUltimaHora,
+                            List<HeavyHitters.Entry> masActivosUltimoDia,
+                            long memoriaBytes) {
+    }
+
+    /**
+     * Registra una solicitud autenticada o un inicio de sesión de un usuario.
+     *
+     * @param email El email del usuario.
+     */
+    void registrar(String email);
+
+    /**
+     * Obtiene el resumen de la actividad reciente.
+     *
+     * @return El resumen.
+     */
+    ResumenActividad getResumen();
+}
@@ -0,0 +1,185 @@
+/**
+ * @file: ActividadServiceImp.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:09:51 PM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.util.HeavyHitters;
+import edu.unc.auth_eventos.util.HyperLogLog;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio de métricas de actividad con ventanas deslizantes de sketches.
+ * <p>
+ * La última hora se divide en 12 franjas de 5 minutos y el último día en 24 franjas de una hora. Cada franja
+ * tiene un {@link HyperLogLog} para los usuarios distintos y un {@link HeavyHitters} para las cuentas más
+ * activas, y se vacía al reutilizarse. Una consulta combina las franjas vigentes: los HyperLogLog se unen
+ * registro a registro y la frecuencia de cada candidato a cuenta más activa es la suma de sus estimaciones en
+ * cada franja.
+ * <p>
+ * Todas las solicitudes autenticadas escriben en la franja actual de las dos ventanas, así que las escrituras no
+ * toman cerrojos: los registros del HyperLogLog suben con un CAS, los contadores del count-min son atómicos y el
+ * montículo de las cuentas más activas se salta si otro hilo lo está actualizando (ver {@link HeavyHitters}). Solo
+ * el vaciado de una franja al reutilizarse se sincroniza, una vez por franja. Las consultas leen sin cerrojos y
+ * pueden ver a medias las escrituras en curso, lo que no cambia unas estimaciones que ya son aproximadas.
+ */
+@Service
+public class ActividadServiceImp implements ActividadService {
+    private static final int TOP = 10;
+
+    @Value("${app.actividad.hll-precision:12}")
+    private int precision;
+
+    @Value("${app.actividad.cms-width:1024}")
+    private int width;
+
+    @Value("${app.actividad.cms-depth:4}")
+    private int depth;
+
+    private Clock clock = Clock.systemUTC();
+    private Ventana hora;
+    private Ventana dia;
+
+    /**
+     * Crea las franjas de las dos ventanas.
+     */
+    @PostConstruct
+    public void init() {
+        hora = new Ventana(12, TimeUnit.MINUTES.toMillis(5), precision, width, depth);
+        dia = new Ventana(24, TimeUnit.HOURS.toMillis(1), precision, width, depth);
+    }
+
+    @Override
+    public void registrar(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = email.toLowerCase(Locale.ROOT);
+        long hash = HyperLogLog.hash(key);
+        long now = clock.millis();
+        hora.add(key, hash, now);
+        dia.add(key, hash, now);
+    }
+
+    @Override
+    public ResumenActividad getResumen() {
+        long now = clock.millis();
+        return new ResumenActividad(
+                hora.distinct(now, precision),
+                dia.distinct(now, precision),
+                hora.top(now),
+                dia.top(now),
+                hora.sizeInBytes() + dia.sizeInBytes());
+    }
+
+    /**
+     * Ventana deslizante formada por un anillo de franjas.
+     */
+    private static final class Ventana {
+        private final Franja[] franjas;
+        private final long franjaMillis;
+
+        private Ventana(int count, long franjaMillis, int precision, int width, int depth) {
+            this.franjas = new Franja[count];
+            this.franjaMillis = franjaMillis;
+            for (int i = 0; i < count; i++) {
+                franjas[i] = new Franja(new HyperLogLog(precision), new HeavyHitters(depth, width, TOP));
+            }
+        }
+
+        private void add(String key, long hash, long now) {
+            long epoch = now / franjaMillis;
+            Franja franja = franjas[(int) (epoch % franjas.length)];
+            if (franja.epoch != epoch) {
+                rotate(franja, epoch);
+            }
+            franja.usuarios.add(hash);
+            franja.actividad.add(key, hash);
+        }
+
+        /**
+         * Vacía una franja para reutilizarla. La franja queda marcada con la nueva época después de vaciarse, así
+         * que quien ya ve la época nueva escribe sobre la franja vacía.
+         */
+        private void rotate(Franja franja, long epoch) {
+            synchronized (franja) {
+                if (franja.epoch < epoch) {
+                    franja.usuarios.clear();
+                    franja.actividad.clear();
+                    franja.epoch = epoch;
+                }
+            }
+        }
+
+        private long distinct(long now, int precision) {
+            long epoch = now / franjaMillis;
+            HyperLogLog union = new HyperLogLog(precision);
+            for (Franja franja : franjas) {
+                if (vigente(franja, epoch)) {
+                    union.merge(franja.usuarios);
+                }
+            }
+            return union.estimate();
+        }
+
+        private List<HeavyHitters.Entry> top(long now) {
+            long epoch = now / franjaMillis;
+            Set<String> candidatos = new LinkedHashSet<>();
+            for (Franja franja : franjas) {
+                if (vigente(franja, epoch)) {
+                    franja.actividad.top().forEach(entry -> candidatos.add(entry.key()));
+                }
+            }
+            return candidatos.stream()
+                    .map(key -> new HeavyHitters.Entry(key, count(key, epoch)))
+                    .sorted(Comparator.comparingLong(HeavyHitters.Entry::count).reversed())
+                    .limit(TOP)
+                    .toList();
+        }
+
+        private long count(String key, long epoch) {
+            long hash = HyperLogLog.hash(key);
+            long count = 0;
+            for (Franja franja : franjas) {
+                if (vigente(franja, epoch)) {
+                    count += franja.actividad.estimate(hash);
+                }
+            }
+            return count;
+        }
+
+        private boolean vigente(Franja franja, long epoch) {
+            return franja.epoch > epoch - franjas.length && franja.epoch <= epoch;
+        }
+
+        private long sizeInBytes() {
+            return (long) franjas.length
+                    * (franjas[0].usuarios.sizeInBytes() + franjas[0].actividad.sizeInBytes());
+        }
+    }
+
+    /**
+     * Sketches de una franja de tiempo.
+     */
+    private static final class Franja {
+        private final HyperLogLog usuarios;
+        private final HeavyHitters actividad;
+        private volatile long epoch = -1;
+
+        private Franja(HyperLogLog usuarios, HeavyHitters actividad) {
+            this.usuarios = usuarios;
+            this.actividad = actividad;
+        }
+    }
+}
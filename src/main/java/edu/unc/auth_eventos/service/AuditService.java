@@ -0,0 +1,39 @@
+/**
+ * @file: AuditService.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:31:45 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.audit.AuditEventType;
+
+/**
+ * Interfaz que define los métodos de auditoría de eventos de autenticación.
+ */
+public interface AuditService {
+    /**
+     * Publica un evento de auditoría de inmediato.
+     *
+     * @param tipo    El tipo de evento.
+     * @param email   El email del usuario involucrado.
+     * @param detalle Detalle adicional, puede ser nulo.
+     */
+    void publish(AuditEventType tipo, String email, String detalle);
+
+    /**
+     * Publica un evento de auditoría cuando la transacción actual se confirme.
+     * Si no hay una transacción activa, se publica de inmediato.
+     *
+     * @param tipo    El tipo de evento.
+     * @param email   El email del usuario involucrado.
+     * @param detalle Detalle adicional, puede ser nulo.
+     */
+    void publishAfterCommit(AuditEventType tipo, String email, String detalle);
+
+    /**
+     * Obtiene el número de eventos descartados por desbordamiento.
+     *
+     * @return El número de eventos descartados.
+     */
+    long getDroppedCount();
+}
@@ -0,0 +1,161 @@
+/**
+ * @file: AuditServiceImp.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:36:02 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.audit.AuditEvent;
+import edu.unc.auth_eventos.audit.AuditEventType;
+import edu.unc.auth_eventos.audit.AuditFileWriter;
+import edu.unc.auth_eventos.audit.AuditRingBuffer;
+import edu.unc.auth_eventos.audit.OverflowPolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Clase que representa el servicio de auditoría.
+ * <p>
+ * Los productores publican en un buffer circular sin bloqueos y un único hilo consumidor escribe
+ * los eventos por lotes en archivos de solo anexado, fuera de la ruta de la solicitud.
+ */
+@Slf4j
+@Service
+public class AuditServiceImp implements AuditService {
+    @Value("${app.audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.audit.capacity:8192}")
+    private int capacity;
+
+    @Value("${app.audit.batch-size:256}")
+    private int batchSize;
+
+    @Value("${app.audit.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${app.audit.directory:logs/audit}")
+    private String directory;
+
+    @Value("${app.audit.max-file-size:10485760}")
+    private long maxFileSize;
+
+    private final LongAdder dropped = new LongAdder();
+    private AuditRingBuffer<AuditEvent> buffer;
+    private AuditFileWriter fileWriter;
+    private Thread consumer;
+    private volatile boolean running;
+
+    /**
+     * Inicia el hilo consumidor de auditoría.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        buffer = new AuditRingBuffer<>(capacity);
+        fileWriter = new AuditFileWriter(Path.of(directory), maxFileSize);
+        running = true;
+        consumer = new Thread(this::consume, "audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Detiene el consumidor y escribe los eventos pendientes.
+     */
+    @PreDestroy
+    public void stop() {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void publish(AuditEventType tipo, String email, String detalle) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(System.currentTimeMillis(), tipo, email, detalle);
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            while (running && !buffer.offer(event)) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+            if (running) {
+                return;
+            }
+        }
+        dropped.increment();
+    }
+
+    @Override
+    public void publishAfterCommit(AuditEventType tipo, String email, String detalle) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(tipo, email, detalle);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(tipo, email, detalle);
+            }
+        });
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Bucle del consumidor: extrae lotes y los escribe hasta que se detiene el servicio y el buffer queda vacío.
+     */
+    private void consume() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            batch.clear();
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+                continue;
+            }
+            try {
+                fileWriter.write(batch);
+            } catch (IOException e) {
+                dropped.add(batch.size());
+                log.error("No se pudo escribir el lote de auditoría.", e);
+            }
+        }
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.error("No se pudo cerrar el archivo de auditoría.", e);
+        }
+    }
+}
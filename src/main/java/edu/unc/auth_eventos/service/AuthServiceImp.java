@@ -5,19 +5,29 @@
  */
 package edu.unc.auth_eventos.service;
 
+import edu.unc.auth_eventos.audit.AuditEventType;
 import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.config.ShardRouter;
 import edu.unc.auth_eventos.dto.LoginResponse;
 import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
 import edu.unc.auth_eventos.entity.Usuario;
 import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.jfr.LoginEvent;
+import edu.unc.auth_eventos.jfr.UserLookupEvent;
 import edu.unc.auth_eventos.repository.RolRepository;
 import edu.unc.auth_eventos.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Clase que representa el servicio de autenticación.
@@ -41,24 +51,105 @@ public class AuthServiceImp implements AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private ActividadService actividadService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CredentialIndexService credentialIndexService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Método para iniciar sesión.
+     * Emite un {@link LoginEvent} de JFR con el resultado y el tiempo en la base de datos y en BCrypt.
+     * <p>
+     * No es transaccional: solo la búsqueda del usuario abre una transacción de solo lectura, así que la conexión
+     * vuelve al pool antes de las comprobaciones de BCrypt y de la firma del token.
      *
      * @param usuario con la información de login.
      * @return El token de autenticación.
      */
     @Override
     public LoginResponse login(Usuario usuario) throws BadCredentialsException {
-        Usuario usuarioDB = usuarioRepository.findByEmail(usuario.getEmail());
-        if (usuarioDB == null || !passwordEncoder.matches(usuario.getPassword(), usuarioDB.getPassword())) {
-            throw new BadCredentialsException("La credenciales son incorrectas.");
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        String resultado = LoginEvent.ERROR;
+        try {
+            if (loginAttemptService.getLockRemaining(usuario.getEmail()) > 0) {
+                resultado = LoginEvent.BLOQUEADO;
+                auditService.publish(AuditEventType.LOGIN_FALLIDO, usuario.getEmail(), "bloqueado");
+                throw lockedException(loginAttemptService.getLockRemaining(usuario.getEmail()));
+            }
+
+            long mark = event.mark();
+            Usuario usuarioDB = findUsuario(usuario.getEmail());
+            event.addDb(mark);
+            long lockRemaining = loginAttemptService.getLockRemaining(usuario.getEmail(), usuarioDB);
+            if (lockRemaining > 0) {
+                resultado = LoginEvent.BLOQUEADO;
+                auditService.publish(AuditEventType.LOGIN_FALLIDO, usuario.getEmail(), "bloqueado");
+                throw lockedException(lockRemaining);
+            }
+            mark = event.mark();
+            boolean matches = usuarioDB != null && passwordEncoder.matches(usuario.getPassword(), usuarioDB.getPassword());
+            event.addHash(mark);
+            if (!matches) {
+                resultado = LoginEvent.CREDENCIALES_INVALIDAS;
+                loginAttemptService.loginFailed(usuario.getEmail(), usuarioDB != null);
+                auditService.publish(AuditEventType.LOGIN_FALLIDO, usuario.getEmail(), null);
+                throw new BadCredentialsException("La credenciales son incorrectas.");
+            }
+
+            // El AuthenticationManager repite la búsqueda (desde la caché o el índice) y la comprobación de BCrypt.
+            mark = event.mark();
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(usuario.getEmail(), usuario.getPassword()));
+            event.addHash(mark);
+            loginAttemptService.loginSucceeded(usuario.getEmail());
+            actividadService.registrar(usuarioDB.getEmail());
+            auditService.publish(AuditEventType.LOGIN_EXITOSO, usuario.getEmail(), null);
+            LoginResponse response = new LoginResponse(
+                    usuario.getEmail(),
+                    usuarioDB.getRol().getNombre(),
+                    jwtService.getToken(new CustomUserDetails(usuarioDB)));
+            resultado = LoginEvent.EXITOSO;
+            return response;
+        } finally {
+            event.finish(resultado);
         }
+    }
 
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(usuario.getEmail(), usuario.getPassword()));
-        return new LoginResponse(
-                usuario.getEmail(),
-                usuarioDB.getRol().getNombre(),
-                jwtService.getToken(new CustomUserDetails(usuarioDB)));
+    /**
+     * Busca el usuario del inicio de sesión en una transacción de solo lectura y emite un {@link UserLookupEvent}
+     * de JFR con la capa que lo sirvió.
+     */
+    private Usuario findUsuario(String email) {
+        UserLookupEvent event = UserLookupEvent.start(UserLookupEvent.LOGIN);
+        Usuario usuarioDB = null;
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            UserLookupEvent.servedBy(UserLookupEvent.INDICE);
+            usuarioDB = credentialIndexService.findByEmail(email, value -> {
+                UserLookupEvent.servedBy(UserLookupEvent.BASE_DE_DATOS);
+                return readOnly.execute(status -> usuarioRepository.findByEmail(value));
+            });
+            return usuarioDB;
+        } finally {
+            event.finish(usuarioDB != null);
+        }
     }
 
     /**
@@ -68,25 +159,43 @@ public class AuthServiceImp implements AuthService {
      * @return El token de autenticación.
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public LoginResponse register(Usuario usuario) throws IllegalOperationException {
-        if (usuarioRepository.findByEmail(usuario.getEmail()) != null) {
-            throw new IllegalOperationException("El email ya está registrado.");
-        }
-
-        usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
+        // Sin búsqueda previa por email: el índice único rechaza el duplicado en el mismo INSERT, también cuando
+        // dos registros llegan a la vez. La partición se fija antes de la primera sentencia.
+        shardRouter.route(shardRouter.shardForEmail(usuario.getEmail()));
         Rol rol = rolRepository.findByNombre("Cliente");
         if (rol == null) {
             throw new IllegalOperationException("No se puede crear un 'cliente', debido a que el rol no existe.");
         }
 
+        usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
         usuario.setRol(rol);
-        usuarioRepository.save(usuario);
+        try {
+            usuarioRepository.save(usuario);
+            usuarioRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalOperationException("El email ya está registrado.");
+        }
+        cambioService.registrarUsuario(TipoCambio.CREADO, usuario);
+        auditService.publishAfterCommit(AuditEventType.REGISTRO, usuario.getEmail(), null);
         return new LoginResponse(
                 usuario.getEmail(),
                 usuario.getRol().getNombre(),
                 jwtService.getToken(new CustomUserDetails(usuario)));
     }
 
+    /**
+     * Crea la excepción de cuenta bloqueada con el tiempo de espera restante.
+     *
+     * @param lockRemaining Milisegundos de bloqueo restantes.
+     * @return La excepción de cuenta bloqueada.
+     */
+    private LockedException lockedException(long lockRemaining) {
+        long seconds = Math.max(1, (lockRemaining + 999) / 1000);
+        return new LockedException("La cuenta está bloqueada temporalmente. Intente nuevamente en " + seconds + " segundos.");
+    }
+
     /**
      * Método para buscar un usuario por email.
      *
@@ -94,6 +203,7 @@ public class AuthServiceImp implements AuthService {
      * @return El usuario.
      */
     @Override
+    @Transactional(readOnly = true)
     public Usuario findByEmail(String email) {
         return usuarioRepository.findByEmail(email);
     }
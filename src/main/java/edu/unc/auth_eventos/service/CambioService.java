@@ -0,0 +1,60 @@
+/**
+ * @file: CambioService.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:12:30 PM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
+import edu.unc.auth_eventos.entity.Usuario;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Interfaz que define la publicación y consulta de cambios de usuarios y roles para cachés externas.
+ */
+public interface CambioService {
+    /**
+     * Registra el cambio de un usuario en la bandeja de salida. Debe llamarse dentro de la transacción del cambio.
+     *
+     * @param tipo    El tipo de cambio.
+     * @param usuario El usuario, con su estado tras el cambio.
+     */
+    void registrarUsuario(TipoCambio tipo, Usuario usuario);
+
+    /**
+     * Registra el cambio de un rol en la bandeja de salida. Debe llamarse dentro de la transacción del cambio.
+     *
+     * @param tipo El tipo de cambio.
+     * @param rol  El rol, con su estado tras el cambio.
+     */
+    void registrarRol(TipoCambio tipo, Rol rol);
+
+    /**
+     * Obtiene el número de particiones; cada una tiene su propia secuencia de cambios.
+     *
+     * @return El número de particiones, al menos 1.
+     */
+    int getParticiones();
+
+    /**
+     * Obtiene los cambios confirmados de una partición posteriores a una secuencia, en orden.
+     *
+     * @param particion La partición; los cambios de roles están en la 0.
+     * @param secuencia La última secuencia de la partición conocida por el consumidor.
+     * @param limite    El número máximo de cambios.
+     * @return Los cambios posteriores a la secuencia.
+     */
+    List<Cambio> getDesde(int particion, long secuencia, int limite);
+
+    /**
+     * Suscribe un consumidor al flujo de cambios de todas las particiones.
+     *
+     * @param secuencias La última secuencia conocida de cada partición; las que falten empiezan en 0.
+     * @return El emisor de eventos del consumidor.
+     */
+    SseEmitter suscribir(long[] secuencias);
+}
@@ -0,0 +1,322 @@
+/**
+ * @file: CambioServiceImp.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 05:18:54 PM
+ */
+package edu.unc.auth_eventos.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.config.ShardRouter;
+import edu.unc.auth_eventos.dto.CambioDTO;
+import edu.unc.auth_eventos.dto.RolDTO;
+import edu.unc.auth_eventos.dto.UsuarioResponseDTO;
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.invalidation.InvalidationBus;
+import edu.unc.auth_eventos.repository.CambioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Implementación de la bandeja de salida de cambios de usuarios y roles.
+ * <p>
+ * Los servicios registran cada cambio en la tabla {@code cambio} dentro de su propia transacción. Un relé
+ * periódico lee los cambios nuevos y los envía a los suscriptores del flujo SSE, cada uno desde su última
+ * secuencia; como lee de la base de datos, también reparte los cambios hechos por otras instancias.
+ * <p>
+ * Las secuencias se asignan al insertar, pero las transacciones pueden confirmarse en otro orden. Para no saltar
+ * un cambio que aún no se confirmó, la lectura se detiene en el primer hueco de la secuencia, salvo que el cambio
+ * siguiente al hueco tenga más de {@code app.cambios.settle-ms}: entonces el hueco se da por definitivo
+ * (una transacción revertida no devuelve su secuencia).
+ * <p>
+ * Un escritor lento puede confirmar después de ese plazo, cuando los consumidores ya pasaron su secuencia. Por eso
+ * las secuencias saltadas se recuerdan durante {@code app.cambios.gap-recheck-ms}, que debe superar la transacción
+ * de escritura más larga, y se vuelven a buscar en cada vuelta del relé: si aparecen, el cambio se mueve al final de
+ * la bandeja con una secuencia nueva, y así le llega a todos los consumidores sin que retrocedan. Las secuencias
+ * saltadas se guardan en memoria, así que un escritor que confirma después de reiniciar la instancia se pierde.
+ * <p>
+ * Con particionado de usuarios cada cambio se guarda en la partición del usuario, dentro de su transacción, y cada
+ * partición tiene su propia secuencia. El flujo SSE recorre todas las particiones y usa como {@code id} de evento
+ * las secuencias de todas ellas separadas por puntos; con una sola partición es la secuencia sin más.
+ * <p>
+ * Las modificaciones y eliminaciones se publican además en el {@link InvalidationBus} al confirmarse, para que
+ * las cachés en proceso de todas las instancias descarten el usuario o el rol.
+ */
+@Slf4j
+@Service
+public class CambioServiceImp implements CambioService {
+    private static final String USUARIO = "usuario";
+    private static final String ROL = "rol";
+    private static final int MAX_SKIPPED = 10_000;
+
+    @Autowired
+    private CambioRepository cambioRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.cambios.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.cambios.settle-ms:2000}")
+    private long settleMillis;
+
+    @Value("${app.cambios.gap-recheck-ms:300000}")
+    private long gapRecheckMillis;
+
+    @Value("${app.cambios.stream-timeout-ms:1800000}")
+    private long streamTimeoutMillis;
+
+    @Value("${app.cambios.heartbeat-ms:15000}")
+    private long heartbeatMillis;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Secuencias saltadas de cada partición y el momento en que se saltaron.
+     */
+    private final Map<Integer, Map<Long, Long>> skipped = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarUsuario(TipoCambio tipo, Usuario usuario) {
+        registrar(USUARIO, usuario.getIdUsuario(), tipo, modelMapper.map(usuario, UsuarioResponseDTO.class));
+        if (tipo != TipoCambio.CREADO) {
+            // Una eliminación no sube la versión; la lápida debe superar a la última versión guardada.
+            int eliminado = tipo == TipoCambio.ELIMINADO ? 1 : 0;
+            invalidationBus.publishAfterCommit(InvalidationBus.REGION_USUARIOS, usuario.getEmail(),
+                    () -> usuario.getVersion() + eliminado);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarRol(TipoCambio tipo, Rol rol) {
+        registrar(ROL, rol.getIdRol(), tipo, modelMapper.map(rol, RolDTO.class));
+        if (tipo != TipoCambio.CREADO) {
+            invalidationBus.publishAfterCommit(InvalidationBus.REGION_ROLES, String.valueOf(rol.getIdRol()),
+                    rol::getVersion);
+        }
+    }
+
+    @Override
+    public int getParticiones() {
+        return shardRouter.getShardCount();
+    }
+
+    @Override
+    public List<Cambio> getDesde(int particion, long secuencia, int limite) {
+        return shardRouter.inShard(particion, true, () -> {
+            List<Cambio> cambios = cambioRepository.findBySecuenciaGreaterThanOrderBySecuenciaAsc(
+                    secuencia, PageRequest.of(0, limite));
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime settled = now.minusNanos(settleMillis * 1_000_000);
+            LocalDateTime rechecked = now.minusNanos(gapRecheckMillis * 1_000_000);
+            long expected = secuencia + 1;
+            for (int i = 0; i < cambios.size(); i++) {
+                Cambio cambio = cambios.get(i);
+                if (cambio.getSecuencia() != expected) {
+                    if (cambio.getFecha().isAfter(settled)) {
+                        return cambios.subList(0, i);
+                    }
+                    if (cambio.getFecha().isAfter(rechecked)) {
+                        skip(particion, expected, cambio.getSecuencia());
+                    }
+                }
+                expected = cambio.getSecuencia() + 1;
+            }
+            return cambios;
+        });
+    }
+
+    /**
+     * Recuerda las secuencias de un hueco que se dio por definitivo, hasta {@link #MAX_SKIPPED} por partición.
+     *
+     * @param particion La partición.
+     * @param desde     La primera secuencia del hueco.
+     * @param hasta     La secuencia siguiente al hueco.
+     */
+    private void skip(int particion, long desde, long hasta) {
+        Map<Long, Long> pendientes = skipped.computeIfAbsent(particion, key -> new ConcurrentHashMap<>());
+        long now = System.currentTimeMillis();
+        for (long secuencia = desde; secuencia < hasta && pendientes.size() < MAX_SKIPPED; secuencia++) {
+            pendientes.putIfAbsent(secuencia, now);
+        }
+    }
+
+    /**
+     * Vuelve a buscar las secuencias saltadas. Las que ya se confirmaron se borran y su cambio se registra de nuevo
+     * al final de la bandeja; las que superan {@code app.cambios.gap-recheck-ms} se olvidan. El borrado hace que,
+     * con varias instancias, solo una registre la copia.
+     */
+    @Scheduled(fixedDelayString = "${app.cambios.poll-ms:1000}")
+    public void recheckGaps() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Integer, Map<Long, Long>> entry : skipped.entrySet()) {
+            Map<Long, Long> pendientes = entry.getValue();
+            pendientes.values().removeIf(since -> now - since > gapRecheckMillis);
+            if (pendientes.isEmpty()) {
+                continue;
+            }
+            List<Long> secuencias = List.copyOf(pendientes.keySet());
+            List<Long> encontradas = shardRouter.inShard(entry.getKey(), false, () -> {
+                List<Long> found = new ArrayList<>();
+                for (Cambio tardio : cambioRepository.findBySecuenciaIn(secuencias)) {
+                    found.add(tardio.getSecuencia());
+                    if (cambioRepository.deleteBySecuencia(tardio.getSecuencia()) == 1) {
+                        Cambio copia = new Cambio();
+                        copia.setEntidad(tardio.getEntidad());
+                        copia.setIdEntidad(tardio.getIdEntidad());
+                        copia.setTipo(tardio.getTipo());
+                        copia.setDatos(tardio.getDatos());
+                        // La fecha de inserción, como en los demás cambios: decide si un hueco previo es definitivo.
+                        copia.setFecha(LocalDateTime.now());
+                        cambioRepository.save(copia);
+                    }
+                }
+                return found;
+            });
+            encontradas.forEach(pendientes::remove);
+        }
+    }
+
+    @Override
+    public SseEmitter suscribir(long[] secuencias) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, Arrays.copyOf(secuencias, shardRouter.getShardCount()));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Envía a los suscriptores los cambios posteriores a su última secuencia de cada partición. Los suscriptores
+     * con la misma secuencia en una partición comparten una sola consulta.
+     */
+    @Scheduled(fixedDelayString = "${app.cambios.poll-ms:1000}")
+    public synchronized void relay() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            Map<Long, List<Subscriber>> bySequence = new LinkedHashMap<>();
+            for (Subscriber subscriber : subscribers) {
+                bySequence.computeIfAbsent(subscriber.sequences[shard], key -> new ArrayList<>()).add(subscriber);
+            }
+            for (Map.Entry<Long, List<Subscriber>> entry : bySequence.entrySet()) {
+                List<CambioDTO> cambios = getDesde(shard, entry.getKey(), batchSize).stream()
+                        .map(cambio -> modelMapper.map(cambio, CambioDTO.class))
+                        .toList();
+                for (Subscriber subscriber : entry.getValue()) {
+                    send(subscriber, shard, cambios, now);
+                }
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            heartbeat(subscriber, now);
+        }
+    }
+
+    private void send(Subscriber subscriber, int shard, List<CambioDTO> cambios, long now) {
+        try {
+            for (CambioDTO cambio : cambios) {
+                subscriber.sequences[shard] = cambio.getSecuencia();
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(subscriber.eventId())
+                        .name(cambio.getEntidad())
+                        .data(cambio, MediaType.APPLICATION_JSON));
+                subscriber.lastSent = now;
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void heartbeat(Subscriber subscriber, long now) {
+        if (now - subscriber.lastSent < heartbeatMillis) {
+            return;
+        }
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("ping"));
+            subscriber.lastSent = now;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void registrar(String entidad, Long idEntidad, TipoCambio tipo, Object datos) {
+        Cambio cambio = new Cambio();
+        cambio.setEntidad(entidad);
+        cambio.setIdEntidad(idEntidad);
+        cambio.setTipo(tipo);
+        cambio.setFecha(LocalDateTime.now());
+        try {
+            cambio.setDatos(objectMapper.writeValueAsString(datos));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cambio de " + entidad + ".", e);
+        }
+        cambioRepository.save(cambio);
+    }
+
+    /**
+     * Suscriptor del flujo de cambios y su última secuencia enviada de cada partición.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final long[] sequences;
+        private volatile long lastSent;
+
+        private Subscriber(SseEmitter emitter, long[] sequences) {
+            this.emitter = emitter;
+            this.sequences = sequences;
+            this.lastSent = System.currentTimeMillis();
+        }
+
+        private String eventId() {
+            StringBuilder id = new StringBuilder();
+            for (int i = 0; i < sequences.length; i++) {
+                if (i > 0) {
+                    id.append('.');
+                }
+                id.append(sequences[i]);
+            }
+            return id.toString();
+        }
+    }
+}
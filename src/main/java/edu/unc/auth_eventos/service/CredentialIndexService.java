@@ -0,0 +1,50 @@
+/**
+ * @file: CredentialIndexService.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 03:41:17 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.entity.Usuario;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Interfaz que define el índice de credenciales fuera del heap que atiende las búsquedas por email del inicio de
+ * sesión y del filtro JWT.
+ */
+public interface CredentialIndexService {
+    /**
+     * Indica si el índice está activado y ya terminó de construirse.
+     *
+     * @return true si las búsquedas se atienden desde el índice.
+     */
+    boolean isReady();
+
+    /**
+     * Busca un usuario por email en el índice. Si no está, lo carga con la función dada y lo guarda en el índice.
+     * Mientras el índice no esté listo, todas las búsquedas van a la función.
+     *
+     * @param email  El email del usuario.
+     * @param loader La búsqueda en la base de datos, que puede devolver null.
+     * @return El usuario, o null si no existe.
+     */
+    Usuario findByEmail(String email, Function<String, Usuario> loader);
+
+    /**
+     * Actualiza el estado de bloqueo de una cuenta que ya está en el índice, después de persistirlo.
+     *
+     * @param email            El email de la cuenta.
+     * @param intentosFallidos Los intentos fallidos persistidos.
+     * @param bloqueadoHasta   El fin del bloqueo persistido, puede ser nulo.
+     */
+    void updateLock(String email, int intentosFallidos, LocalDateTime bloqueadoHasta);
+
+    /**
+     * Obtiene el número de cuentas guardadas en el índice.
+     *
+     * @return El número de cuentas, 0 si el índice está desactivado.
+     */
+    long size();
+}
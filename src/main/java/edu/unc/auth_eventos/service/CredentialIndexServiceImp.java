@@ -0,0 +1,336 @@
+/**
+ * @file: CredentialIndexServiceImp.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 03:52:40 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.config.ShardRouter;
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.invalidation.InvalidationBus;
+import edu.unc.auth_eventos.invalidation.InvalidationListener;
+import edu.unc.auth_eventos.repository.CambioRepository;
+import edu.unc.auth_eventos.repository.CredencialUsuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.util.CredentialIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Implementación del índice de credenciales fuera del heap (ver {@link CredentialIndex}).
+ * <p>
+ * Con {@code app.credential-index.enabled} el índice se abre al terminar el arranque en el archivo configurado. Si el
+ * archivo no se puede reutilizar, un hilo en segundo plano lo construye partición por partición, por páginas de
+ * identificador; antes anota la última secuencia de la bandeja de salida de cada partición, así que los cambios
+ * hechos durante la construcción se aplican después. Mientras tanto las búsquedas van a la base de datos.
+ * <p>
+ * El índice se mantiene al día de forma incremental: el {@link InvalidationBus} borra el email de un usuario
+ * modificado o eliminado en cuanto se confirma, y el sondeo de la bandeja de salida borra por identificador
+ * los usuarios cambiados (también los cambios de otras instancias o los perdidos por el bus) y guarda su
+ * secuencia en el archivo, para retomarla tras un reinicio. La siguiente búsqueda de un email borrado lo vuelve
+ * a cargar de la base de datos. Los roles, que son pocos, se guardan en un mapa en el heap y se recargan cuando
+ * cambia alguno.
+ * <p>
+ * Una carga de la base de datos que se cruza con un borrado no se guarda, porque pudo leer la versión anterior.
+ * El estado de bloqueo se actualiza en el índice al persistirlo; otras instancias conservan el que cargaron.
+ * Un archivo cuya secuencia guardada supera la de la base de datos (otra base o una restauración) se reconstruye.
+ */
+@Slf4j
+@Service
+public class CredentialIndexServiceImp implements CredentialIndexService, ApplicationListener<ApplicationReadyEvent> {
+    private static final String USUARIO = "usuario";
+    private static final String ROL = "rol";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private CambioRepository cambioRepository;
+
+    // Diferido: la bandeja de salida usa el ModelMapper de ApplicationConfig, que a su vez depende de este servicio.
+    @Autowired
+    private ObjectProvider<CambioService> cambioService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.credential-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.credential-index.file:data/credential-index.bin}")
+    private String file;
+
+    @Value("${app.credential-index.capacity:1048576}")
+    private long capacity;
+
+    @Value("${app.credential-index.page-size:1000}")
+    private int pageSize;
+
+    private final ThreadLocal<CredentialIndex.Credencial> credenciales =
+            ThreadLocal.withInitial(CredentialIndex.Credencial::new);
+    private final AtomicLong removals = new AtomicLong();
+    private volatile CredentialIndex index;
+    private volatile Map<Long, Rol> roles = Map.of();
+    private volatile boolean ready;
+    private volatile boolean full;
+
+    /**
+     * Abre el índice cuando la aplicación está lista y lo prepara en segundo plano: reutiliza el archivo poniéndolo
+     * al día con la bandeja de salida, o lo construye desde cero.
+     *
+     * @param event El evento de aplicación lista.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled || index != null) {
+            return;
+        }
+        if (shardRouter.getShardCount() > CredentialIndex.MAX_SHARDS) {
+            log.warn("El índice de credenciales admite hasta {} particiones; queda desactivado.",
+                    CredentialIndex.MAX_SHARDS);
+            return;
+        }
+        try {
+            index = CredentialIndex.open(Path.of(file), capacity);
+        } catch (IOException e) {
+            log.warn("No se pudo abrir el índice de credenciales {}; queda desactivado.", file, e);
+            return;
+        }
+        invalidationBus.subscribe(InvalidationBus.REGION_USUARIOS, new InvalidationListener() {
+            @Override
+            public void invalidate(String key, long version) {
+                removals.incrementAndGet();
+                index.remove(key);
+            }
+
+            @Override
+            public void reset() {
+                // El bus perdió invalidaciones: el sondeo de la bandeja de salida las recupera.
+            }
+        });
+        invalidationBus.subscribe(InvalidationBus.REGION_ROLES, InvalidationListener.onAny(this::loadRoles));
+        Thread builder = new Thread(this::prepare, "credential-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * Cierra el índice y lo marca como cerrado limpiamente para reutilizarlo en el próximo arranque.
+     */
+    @PreDestroy
+    public void stop() {
+        if (index == null) {
+            return;
+        }
+        ready = false;
+        index.close();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Usuario findByEmail(String email, Function<String, Usuario> loader) {
+        if (!ready) {
+            return loader.apply(email);
+        }
+        CredentialIndex.Credencial credencial = credenciales.get();
+        if (index.find(email, credencial)) {
+            Rol rol = credencial.getIdRol() == 0 ? null : roles.get(credencial.getIdRol());
+            if (credencial.getIdRol() == 0 || rol != null) {
+                return toUsuario(email, credencial, rol);
+            }
+        }
+        long before = removals.get();
+        Usuario usuario = loader.apply(email);
+        if (usuario != null && removals.get() == before) {
+            store(usuario);
+        }
+        return usuario;
+    }
+
+    @Override
+    public void updateLock(String email, int intentosFallidos, LocalDateTime bloqueadoHasta) {
+        if (index != null) {
+            index.updateLock(email, intentosFallidos, toMillis(bloqueadoHasta));
+        }
+    }
+
+    @Override
+    public long size() {
+        return index == null ? 0 : index.size();
+    }
+
+    /**
+     * Aplica los cambios de usuarios y roles de la bandeja de salida posteriores a la secuencia guardada de cada
+     * partición.
+     */
+    @Scheduled(fixedDelayString = "${app.credential-index.poll-ms:1000}")
+    public void sincronizar() {
+        if (ready) {
+            catchUp();
+        }
+    }
+
+    private void catchUp() {
+        boolean rolesChanged = false;
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            List<Cambio> cambios;
+            do {
+                cambios = cambioService.getObject().getDesde(shard, index.getSequence(shard), pageSize);
+                for (Cambio cambio : cambios) {
+                    if (USUARIO.equals(cambio.getEntidad())) {
+                        removals.incrementAndGet();
+                        index.removeUser(cambio.getIdEntidad());
+                    } else if (ROL.equals(cambio.getEntidad())) {
+                        rolesChanged = true;
+                    }
+                }
+                if (!cambios.isEmpty()) {
+                    index.setSequence(shard, cambios.get(cambios.size() - 1).getSecuencia());
+                }
+            } while (cambios.size() == pageSize);
+        }
+        if (rolesChanged) {
+            loadRoles();
+        }
+    }
+
+    /**
+     * Reutiliza el índice del archivo o lo construye desde cero con las credenciales de todas las particiones.
+     */
+    private void prepare() {
+        try {
+            loadRoles();
+            if (index.isReused() && index.isComplete() && matchesDatabase()) {
+                catchUp();
+                ready = true;
+                log.info("Índice de credenciales reutilizado con {} cuentas.", index.size());
+                return;
+            }
+            long started = System.nanoTime();
+            index.clear();
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                index.setSequence(shard, shardRouter.inShard(shard, true, cambioRepository::findMaxSecuencia));
+            }
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                long after = 0;
+                List<CredencialUsuario> page;
+                do {
+                    long from = after;
+                    page = shardRouter.inShard(shard, true,
+                            () -> usuarioRepository.findCredencialesAfter(from, PageRequest.of(0, pageSize)));
+                    for (CredencialUsuario credencial : page) {
+                        store(credencial.email(), credencial.idUsuario(), credencial.idRol(), credencial.version(),
+                                credencial.intentosFallidos(), credencial.bloqueadoHasta(), credencial.password());
+                        after = credencial.idUsuario();
+                    }
+                } while (page.size() == pageSize);
+            }
+            catchUp();
+            index.markComplete();
+            index.force();
+            ready = true;
+            log.info("Índice de credenciales construido con {} cuentas en {} ms.", index.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo construir el índice de credenciales; las búsquedas van a la base de datos.", e);
+        }
+    }
+
+    /**
+     * Comprueba que ninguna partición tenga en la bandeja de salida una secuencia menor que la guardada en el índice,
+     * lo que indica que el archivo es de otra base de datos o de una anterior a una restauración.
+     */
+    private boolean matchesDatabase() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            if (shardRouter.inShard(shard, true, cambioRepository::findMaxSecuencia) < index.getSequence(shard)) {
+                log.warn("El índice de credenciales no corresponde a la base de datos; se reconstruye.");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void loadRoles() {
+        Map<Long, Rol> loaded = new HashMap<>();
+        for (Rol rol : shardRouter.inShard(0, true, rolRepository::findAll)) {
+            loaded.put(rol.getIdRol(), rol);
+        }
+        roles = loaded;
+    }
+
+    private void store(Usuario usuario) {
+        Rol rol = usuario.getRol();
+        if (rol != null && !roles.containsKey(rol.getIdRol())) {
+            // Rol creado después de la última recarga: se toma el que trae el usuario.
+            synchronized (this) {
+                Map<Long, Rol> updated = new HashMap<>(roles);
+                updated.put(rol.getIdRol(), rol);
+                roles = updated;
+            }
+        }
+        store(usuario.getEmail(), usuario.getIdUsuario(), usuario.getRol() == null ? null : usuario.getRol().getIdRol(),
+                usuario.getVersion(), usuario.getIntentosFallidos(), usuario.getBloqueadoHasta(),
+                usuario.getPassword());
+    }
+
+    private void store(String email, Long idUsuario, Long idRol, Long version, Integer intentosFallidos,
+                       LocalDateTime bloqueadoHasta, String password) {
+        boolean stored = index.put(email, idUsuario, idRol == null ? 0 : idRol, version == null ? 0 : version,
+                intentosFallidos == null ? 0 : intentosFallidos, toMillis(bloqueadoHasta), password);
+        if (!stored && !full && index.size() >= index.capacity() * 3 / 4) {
+            full = true;
+            log.warn("El índice de credenciales está lleno ({} cuentas); aumente app.credential-index.capacity.",
+                    index.size());
+        }
+    }
+
+    private static Usuario toUsuario(String email, CredentialIndex.Credencial credencial, Rol rol) {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(credencial.getIdUsuario());
+        usuario.setEmail(email);
+        usuario.setPassword(credencial.getPassword());
+        usuario.setRol(rol);
+        usuario.setVersion(credencial.getVersion());
+        usuario.setIntentosFallidos(credencial.getIntentos());
+        usuario.setBloqueadoHasta(credencial.getBloqueadoHasta() == 0 ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(credencial.getBloqueadoHasta()), ZONE));
+        return usuario;
+    }
+
+    private static long toMillis(LocalDateTime value) {
+        return value == null ? 0 : value.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
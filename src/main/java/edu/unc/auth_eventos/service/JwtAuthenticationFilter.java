@@ -7,6 +7,8 @@ package edu.unc.auth_eventos.service;
 
 import java.io.IOException;
 
+import edu.unc.auth_eventos.jfr.UserLookupEvent;
+
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,12 +29,14 @@ import lombok.RequiredArgsConstructor;
  * Clase que representa el filtro de autenticación JWT.
  * <p>
  * Esta clase es un filtro que se utiliza para definir la autenticación JWT.
+ * La búsqueda del usuario del token emite un {@link UserLookupEvent} de JDK Flight Recorder.
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final ActividadService actividadService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -49,7 +53,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         username = jwtService.getUsernameFromToken(token);
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadUser(username);
 
             if (jwtService.isTokenValid(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -60,6 +64,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                actividadService.registrar(userDetails.getUsername());
             }
 
         }
@@ -67,6 +72,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Busca el usuario del token y emite un {@link UserLookupEvent} de JFR con la capa que lo sirvió.
+     */
+    private UserDetails loadUser(String username) {
+        UserLookupEvent event = UserLookupEvent.start(UserLookupEvent.FILTRO);
+        boolean encontrado = false;
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            encontrado = true;
+            return userDetails;
+        } finally {
+            event.finish(encontrado);
+        }
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
@@ -32,6 +32,14 @@ public interface JwtService {
      */
     String getUsernameFromToken(String token);
 
+    /**
+     * Método para obtener los permisos de un token de autenticación.
+     *
+     * @param token El token de autenticación.
+     * @return Los permisos como mapa de bits de {@link edu.unc.auth_eventos.entity.Permiso}, 0 si el token no los trae.
+     */
+    long getPermisosFromToken(String token);
+
     /**
      * Método para validar un token de autenticación.
      *
@@ -5,10 +5,13 @@
  */
 package edu.unc.auth_eventos.service;
 
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.jfr.TokenVerificationEvent;
+import edu.unc.auth_eventos.util.Hs256TokenIssuer;
 import edu.unc.auth_eventos.util.JwtUtil;
+import edu.unc.auth_eventos.util.RequestTiming;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,8 +19,6 @@ import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -27,6 +28,21 @@ import java.util.function.Function;
  */
 @Service
 public class JwtServiceImp implements JwtService {
+    /**
+     * La claim con los permisos del rol como mapa de bits.
+     */
+    private static final String PERMISOS_CLAIM = "perm";
+
+    /**
+     * La clave secreta, decodificada una sola vez.
+     */
+    private final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET_KEY));
+
+    /**
+     * El emisor especializado de tokens HS256, compatible con el parser de jjwt.
+     */
+    private final Hs256TokenIssuer issuer = new Hs256TokenIssuer(key.getEncoded());
+
     /**
      * Método para generar un token de autenticación.
      *
@@ -35,36 +51,37 @@ public class JwtServiceImp implements JwtService {
      */
     @Override
     public String getToken(UserDetails user) {
-        return getToken(new HashMap<>(), user);
+        long begin = RequestTiming.begin();
+        try {
+            long now = System.currentTimeMillis();
+            long permisos = user instanceof CustomUserDetails custom ? custom.getPermisos() : 0;
+            return issuer.issue(user.getUsername(), permisos, now / 1000, (now + JwtUtil.EXPIRE_ACCESS_TOKEN) / 1000);
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.JWT, begin);
+        }
     }
 
     /**
-     * Método para generar un token de autenticación.
+     * Método para obtener el nombre de usuario a partir de un token de autenticación.
      *
-     * @param extraClaims Los claims adicionales.
-     * @param user        con la información del usuario.
-     * @return El token de autenticación.
+     * @param token El token de autenticación.
+     * @return El nombre de usuario.
      */
-    private String getToken(Map<String, Object> extraClaims, UserDetails user) {
-        return Jwts
-                .builder()
-                .setClaims(extraClaims)
-                .setSubject(user.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + JwtUtil.EXPIRE_ACCESS_TOKEN))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
-                .compact();
+    @Override
+    public String getUsernameFromToken(String token) {
+        return getClaim(token, Claims::getSubject);
     }
 
     /**
-     * Método para obtener el nombre de usuario a partir de un token de autenticación.
+     * Método para obtener los permisos de un token de autenticación.
      *
      * @param token El token de autenticación.
-     * @return El nombre de usuario.
+     * @return Los permisos como mapa de bits de {@link edu.unc.auth_eventos.entity.Permiso}, 0 si el token no los trae.
      */
     @Override
-    public String getUsernameFromToken(String token) {
-        return getClaim(token, Claims::getSubject);
+    public long getPermisosFromToken(String token) {
+        Number permisos = getClaim(token, claims -> claims.get(PERMISOS_CLAIM, Number.class));
+        return permisos != null ? permisos.longValue() : 0;
     }
 
     /**
@@ -92,28 +109,31 @@ public class JwtServiceImp implements JwtService {
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
 
-    /**
-     * Método para obtener la clave secreta.
-     *
-     * @return La clave secreta.
-     */
-    private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(JwtUtil.SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Método para obtener todos los claims de un token de autenticación.
+     * Cada verificación emite un {@link TokenVerificationEvent} de JFR con su resultado.
      *
      * @param token El token de autenticación.
      * @return Todos los claims.
      */
     private Claims getAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        long begin = RequestTiming.begin();
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        RuntimeException error = null;
+        try {
+            return Jwts.parser()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            event.finish(error);
+            RequestTiming.end(RequestTiming.Phase.JWT, begin);
+        }
     }
 
     /**
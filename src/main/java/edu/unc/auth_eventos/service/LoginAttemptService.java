@@ -0,0 +1,60 @@
+/**
+ * @file: LoginAttemptService.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:02:18 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.entity.Usuario;
+
+/**
+ * Interfaz que define el seguimiento de intentos fallidos de inicio de sesión y el bloqueo de cuentas.
+ */
+public interface LoginAttemptService {
+    /**
+     * Obtiene el tiempo restante de bloqueo de una cuenta según el estado en memoria.
+     *
+     * @param email Email de la cuenta.
+     * @return Milisegundos de bloqueo restantes, 0 si la cuenta no está bloqueada.
+     */
+    long getLockRemaining(String email);
+
+    /**
+     * Obtiene el tiempo restante de bloqueo de una cuenta, usando el estado persistido del usuario
+     * cuando la cuenta no tiene estado en memoria.
+     *
+     * @param email     Email de la cuenta.
+     * @param usuarioDB El usuario leído de la base de datos, puede ser nulo.
+     * @return Milisegundos de bloqueo restantes, 0 si la cuenta no está bloqueada.
+     */
+    long getLockRemaining(String email, Usuario usuarioDB);
+
+    /**
+     * Registra un intento fallido de inicio de sesión.
+     *
+     * @param email     Email de la cuenta.
+     * @param knownUser Si la cuenta existe en la base de datos.
+     */
+    void loginFailed(String email, boolean knownUser);
+
+    /**
+     * Registra un inicio de sesión exitoso y reinicia los contadores de la cuenta.
+     *
+     * @param email Email de la cuenta.
+     */
+    void loginSucceeded(String email);
+
+    /**
+     * Descarta el estado en memoria de una cuenta eliminada, sin persistirlo.
+     *
+     * @param email Email de la cuenta.
+     */
+    void forget(String email);
+
+    /**
+     * Obtiene el número de actualizaciones pendientes de persistir que se perdieron porque la cola estaba llena.
+     *
+     * @return El número de actualizaciones perdidas.
+     */
+    long getLostUpdates();
+}
@@ -0,0 +1,355 @@
+/**
+ * @file: LoginAttemptServiceImp.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 11:10:40 AM
+ */
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.config.ShardRouter;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clase que representa el servicio de intentos de inicio de sesión.
+ * <p>
+ * Los contadores se guardan en memoria, repartidos en segmentos con su propio candado para reducir la contención.
+ * Cada contador usa una ventana deslizante aproximada (ventana actual más la anterior ponderada) y, al superar
+ * el umbral, bloquea la cuenta durante un tiempo que se duplica con cada bloqueo consecutivo.
+ * <p>
+ * Las cuentas existentes y los emails desconocidos se guardan en segmentos separados, cada uno con un número
+ * máximo de entradas y reemplazo de la menos usada, de modo que una ráfaga de emails inventados no desplaza
+ * los contadores de cuentas reales. Las entradas pendientes de persistir que se descartan pasan a una cola
+ * acotada; si la cola está llena se cuentan y se reportan en la siguiente persistencia. El estado de las
+ * cuentas existentes se persiste periódicamente en la base de datos, no en cada intento, y se vuelve a
+ * cargar desde el usuario cuando la cuenta no tiene estado en memoria.
+ */
+@Slf4j
+@Service
+public class LoginAttemptServiceImp implements LoginAttemptService {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CredentialIndexService credentialIndexService;
+
+    @Value("${app.login.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${app.login.window-ms:900000}")
+    private long windowMillis;
+
+    @Value("${app.login.lock-ms:60000}")
+    private long baseLockMillis;
+
+    @Value("${app.login.max-lock-ms:3600000}")
+    private long maxLockMillis;
+
+    @Value("${app.login.shards:64}")
+    private int shardCount;
+
+    @Value("${app.login.max-entries:200000}")
+    private int maxEntries;
+
+    @Value("${app.login.max-unknown-entries:100000}")
+    private int maxUnknownEntries;
+
+    private Clock clock = Clock.systemUTC();
+    private final LongAdder lostUpdates = new LongAdder();
+    private long reportedLostUpdates;
+    private Shard[] knownShards;
+    private Shard[] unknownShards;
+    private BlockingQueue<Snapshot> evicted;
+
+    /**
+     * Inicializa los segmentos de contadores.
+     */
+    @PostConstruct
+    public void init() {
+        knownShards = createShards(maxEntries);
+        unknownShards = createShards(maxUnknownEntries);
+        evicted = new ArrayBlockingQueue<>(Math.max(1024, maxEntries / 10));
+    }
+
+    @Override
+    public long getLockRemaining(String email) {
+        long now = clock.millis();
+        return Math.max(lockRemaining(knownShards, email, now), lockRemaining(unknownShards, email, now));
+    }
+
+    @Override
+    public long getLockRemaining(String email, Usuario usuarioDB) {
+        if (usuarioDB == null) {
+            return getLockRemaining(email);
+        }
+        long now = clock.millis();
+        long unknown = lockRemaining(unknownShards, email, now);
+        Shard shard = shardFor(knownShards, email);
+        synchronized (shard) {
+            Attempts attempts = shard.entries.get(email);
+            if (attempts == null) {
+                attempts = seed(usuarioDB, now);
+                if (attempts != null) {
+                    shard.entries.put(email, attempts);
+                }
+            }
+            long known = attempts == null ? 0 : Math.max(0, attempts.lockedUntil - now);
+            return Math.max(known, unknown);
+        }
+    }
+
+    @Override
+    public void loginFailed(String email, boolean knownUser) {
+        long now = clock.millis();
+        Shard shard = shardFor(knownUser ? knownShards : unknownShards, email);
+        synchronized (shard) {
+            Attempts attempts = shard.entries.get(email);
+            if (attempts == null) {
+                attempts = new Attempts(now, windowMillis);
+                shard.entries.put(email, attempts);
+            }
+            attempts.known = knownUser;
+            attempts.record(now, windowMillis);
+            attempts.total++;
+            if (attempts.estimate(now, windowMillis) >= maxFailures && attempts.lockedUntil <= now) {
+                long lock = baseLockMillis << Math.min(attempts.lockouts, 20);
+                attempts.lockedUntil = now + Math.min(lock, maxLockMillis);
+                attempts.lockouts++;
+                attempts.reset();
+            }
+            attempts.dirty = attempts.known;
+        }
+    }
+
+    @Override
+    public void loginSucceeded(String email) {
+        Shard unknown = shardFor(unknownShards, email);
+        synchronized (unknown) {
+            unknown.entries.remove(email);
+        }
+        Shard shard = shardFor(knownShards, email);
+        synchronized (shard) {
+            Attempts attempts = shard.entries.remove(email);
+            if (attempts != null && (attempts.total > 0 || attempts.lockedUntil > 0)) {
+                enqueue(new Snapshot(email, 0, 0));
+            }
+        }
+    }
+
+    @Override
+    public void forget(String email) {
+        for (Shard[] shards : new Shard[][]{unknownShards, knownShards}) {
+            Shard shard = shardFor(shards, email);
+            synchronized (shard) {
+                shard.entries.remove(email);
+            }
+        }
+    }
+
+    @Override
+    public long getLostUpdates() {
+        return lostUpdates.sum();
+    }
+
+    /**
+     * Persiste periódicamente el estado de las cuentas existentes que cambió desde la última ejecución, y lo
+     * copia al índice de credenciales una vez confirmado.
+     */
+    @Scheduled(fixedDelayString = "${app.login.flush-interval-ms:30000}")
+    public void flush() {
+        long lost = lostUpdates.sum();
+        if (lost > reportedLostUpdates) {
+            log.warn("Se descartaron {} actualizaciones de intentos fallidos por cola llena.", lost - reportedLostUpdates);
+            reportedLostUpdates = lost;
+        }
+        List<Snapshot> pending = new ArrayList<>();
+        evicted.drainTo(pending);
+        for (Shard shard : knownShards) {
+            synchronized (shard) {
+                for (Map.Entry<String, Attempts> entry : shard.entries.entrySet()) {
+                    Attempts attempts = entry.getValue();
+                    if (attempts.dirty) {
+                        pending.add(new Snapshot(entry.getKey(), attempts.total, attempts.lockedUntil));
+                        attempts.dirty = false;
+                    }
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Una transacción por partición: no hay transacciones que abarquen varias.
+        Map<Integer, List<Snapshot>> byShard = new TreeMap<>();
+        for (Snapshot snapshot : pending) {
+            byShard.computeIfAbsent(shardRouter.shardForEmail(snapshot.email), key -> new ArrayList<>()).add(snapshot);
+        }
+        for (List<Snapshot> snapshots : byShard.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Snapshot snapshot : snapshots) {
+                        usuarioRepository.updateIntentosFallidos(snapshot.email, snapshot.failures,
+                                snapshot.lockedUntil == 0 ? null
+                                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.lockedUntil), ZONE));
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("No se pudo persistir el estado de {} cuentas: {}", snapshots.size(), e.getMessage());
+                continue;
+            }
+            for (Snapshot snapshot : snapshots) {
+                credentialIndexService.updateLock(snapshot.email, snapshot.failures, snapshot.lockedUntil == 0 ? null
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.lockedUntil), ZONE));
+            }
+        }
+    }
+
+    private Shard[] createShards(int entries) {
+        int count = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        int perShard = Math.max(16, entries / count);
+        Shard[] created = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            created[i] = new Shard(perShard);
+        }
+        return created;
+    }
+
+    private static Shard shardFor(Shard[] shards, String email) {
+        int h = email.hashCode();
+        return shards[(h ^ (h >>> 16)) & (shards.length - 1)];
+    }
+
+    private static long lockRemaining(Shard[] shards, String email, long now) {
+        Shard shard = shardFor(shards, email);
+        synchronized (shard) {
+            Attempts attempts = shard.entries.get(email);
+            return attempts == null ? 0 : Math.max(0, attempts.lockedUntil - now);
+        }
+    }
+
+    /**
+     * Reconstruye el estado de una cuenta a partir de lo persistido, para no perder el total de fallos
+     * ni el bloqueo vigente cuando la entrada se descartó de memoria o tras un reinicio.
+     *
+     * @return El estado reconstruido, o null si el usuario no tiene fallos persistidos.
+     */
+    private Attempts seed(Usuario usuarioDB, long now) {
+        int failures = usuarioDB.getIntentosFallidos() == null ? 0 : usuarioDB.getIntentosFallidos();
+        long lockedUntil = usuarioDB.getBloqueadoHasta() == null ? 0
+                : usuarioDB.getBloqueadoHasta().atZone(ZONE).toInstant().toEpochMilli();
+        if (failures == 0 && lockedUntil <= now) {
+            return null;
+        }
+        Attempts attempts = new Attempts(now, windowMillis);
+        attempts.known = true;
+        attempts.total = failures;
+        attempts.lockedUntil = lockedUntil;
+        attempts.lockouts = lockedUntil == 0 ? failures / maxFailures : Math.max(1, failures / maxFailures);
+        return attempts;
+    }
+
+    private void enqueue(Snapshot snapshot) {
+        if (!evicted.offer(snapshot)) {
+            lostUpdates.increment();
+        }
+    }
+
+    /**
+     * Segmento de contadores con reemplazo de la entrada menos usada.
+     */
+    private final class Shard {
+        private final LinkedHashMap<String, Attempts> entries;
+
+        private Shard(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Attempts> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    Attempts attempts = eldest.getValue();
+                    if (attempts.dirty) {
+                        enqueue(new Snapshot(eldest.getKey(), attempts.total, attempts.lockedUntil));
+                    }
+                    return true;
+                }
+            };
+        }
+    }
+
+    /**
+     * Contador de fallos de una cuenta con ventana deslizante aproximada.
+     */
+    private static final class Attempts {
+        private long windowStart;
+        private int current;
+        private int previous;
+        private int total;
+        private int lockouts;
+        private long lockedUntil;
+        private boolean known;
+        private boolean dirty;
+
+        private Attempts(long now, long window) {
+            this.windowStart = now - (now % window);
+        }
+
+        private void record(long now, long window) {
+            roll(now, window);
+            current++;
+        }
+
+        private double estimate(long now, long window) {
+            roll(now, window);
+            double weight = 1.0 - (double) (now - windowStart) / window;
+            return previous * weight + current;
+        }
+
+        private void roll(long now, long window) {
+            long start = now - (now % window);
+            if (start == windowStart) {
+                return;
+            }
+            previous = start - windowStart == window ? current : 0;
+            current = 0;
+            windowStart = start;
+        }
+
+        private void reset() {
+            current = 0;
+            previous = 0;
+        }
+    }
+
+    /**
+     * Estado de una cuenta pendiente de persistir.
+     */
+    private record Snapshot(String email, int failures, long lockedUntil) {
+    }
+}
@@ -52,4 +52,14 @@ public interface RolService {
      * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de actualización del rol.
      */
     Rol update(Long id, Rol rol) throws EntityNotFoundException, IllegalOperationException;
+
+    /**
+     * Obtiene la versión actual del catálogo de roles.
+     * <p>
+     * Se deriva del estado de la base de datos, por lo que todas las instancias de la aplicación obtienen el mismo
+     * valor para el mismo catálogo y cambia con cualquier alta, actualización o baja de un rol.
+     *
+     * @return La versión del catálogo.
+     */
+    String getCatalogVersion();
 }
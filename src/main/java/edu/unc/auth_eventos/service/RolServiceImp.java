@@ -5,12 +5,17 @@
  */
 package edu.unc.auth_eventos.service;
 
+import edu.unc.auth_eventos.config.ShardRouter;
 import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
 import edu.unc.auth_eventos.exception.IllegalOperationException;
 import edu.unc.auth_eventos.repository.RolRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,12 +32,19 @@ public class RolServiceImp implements RolService {
     @Autowired
     private RolRepository rolRepository;
 
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
     /**
      * Obtiene todos los roles en el sistema.
      *
      * @return Lista de roles.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Rol> getAll() {
         return rolRepository.findAll();
     }
@@ -45,6 +57,7 @@ public class RolServiceImp implements RolService {
      * @throws EntityNotFoundException Si no se encuentra ningún rol con el identificador especificado.
      */
     @Override
+    @Transactional(readOnly = true)
     public Rol getById(Long id) throws EntityNotFoundException {
         Optional<Rol> rolOpt = rolRepository.findById(id);
         if (rolOpt.isEmpty()) {
@@ -61,11 +74,15 @@ public class RolServiceImp implements RolService {
      * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de guardado del rol.
      */
     @Override
+    @Transactional
     public Rol save(Rol rol) throws IllegalOperationException {
         if (rolRepository.findByNombre(rol.getNombre()) != null) {
             throw new IllegalOperationException("Ya existe un rol con el nombre proporcionado.");
         }
-        return rolRepository.save(rol);
+        Rol rolSaved = rolRepository.save(rol);
+        cambioService.registrarRol(TipoCambio.CREADO, rolSaved);
+        replicateAfterCommit(rolSaved);
+        return rolSaved;
     }
 
     /**
@@ -78,15 +95,50 @@ public class RolServiceImp implements RolService {
      * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de actualización del rol.
      */
     @Override
+    @Transactional
     public Rol update(Long id, Rol rol) throws EntityNotFoundException, IllegalOperationException {
         Optional<Rol> rolOpt = rolRepository.findById(id);
         if (rolOpt.isEmpty()) {
             throw new EntityNotFoundException("El rol con el Id proporcionado no se encontró.");
         }
-        if (rolRepository.findByNombre(rol.getNombre()) != null) {
+        Rol homonimo = rolRepository.findByNombre(rol.getNombre());
+        if (homonimo != null && !homonimo.getIdRol().equals(id)) {
             throw new IllegalOperationException("Ya existe un rol con el nombre proporcionado.");
         }
         rol.setIdRol(id);
-        return rolRepository.save(rol);
+        rol.setVersion(rolOpt.get().getVersion());
+        Rol rolUpdated = rolRepository.save(rol);
+        cambioService.registrarRol(TipoCambio.ACTUALIZADO, rolUpdated);
+        replicateAfterCommit(rolUpdated);
+        return rolUpdated;
+    }
+
+    /**
+     * Obtiene la versión actual del catálogo de roles.
+     *
+     * @return La versión del catálogo.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        RolRepository.CatalogState state = rolRepository.findCatalogState();
+        return state.getTotal() + "-" + state.getVersionSum() + "-" + state.getMaxId();
+    }
+
+    /**
+     * Copia el rol al resto de particiones cuando la transacción se confirma.
+     *
+     * @param rol El rol guardado.
+     */
+    private void replicateAfterCommit(Rol rol) {
+        if (shardRouter.getShardCount() == 1) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shardRouter.replicate(rol);
+            }
+        });
     }
 }
@@ -9,6 +9,7 @@ import edu.unc.auth_eventos.entity.Usuario;
 import edu.unc.auth_eventos.exception.IllegalOperationException;
 import jakarta.persistence.EntityNotFoundException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +34,15 @@ public interface UsuarioService {
      */
     Usuario getById(Long id) throws EntityNotFoundException;
 
+    /**
+     * Obtiene la versión de un usuario sin cargar la entidad completa.
+     *
+     * @param id Identificador único del usuario.
+     * @return La versión del usuario.
+     * @throws EntityNotFoundException Si no se encuentra ningún usuario con el identificador especificado.
+     */
+    long getVersion(Long id) throws EntityNotFoundException;
+
     /**
      * Guarda un nuevo usuario en el sistema.
      *
@@ -53,6 +63,20 @@ public interface UsuarioService {
      */
     Usuario update(Long id, Usuario usuario) throws EntityNotFoundException, IllegalOperationException;
 
+    /**
+     * Actualiza solo los campos proporcionados de un usuario existente.
+     * <p>
+     * Los campos nulos de {@code cambios} conservan su valor. La contraseña solo se codifica si se proporciona
+     * una nueva, y la sentencia de actualización incluye únicamente las columnas que cambiaron.
+     *
+     * @param id      Identificador único del usuario a actualizar.
+     * @param cambios El objeto Usuario con los campos a modificar.
+     * @return El usuario actualizado y los campos que cambiaron.
+     * @throws EntityNotFoundException   Si no se encuentra ningún usuario con el identificador especificado.
+     * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de actualización del usuario.
+     */
+    ActualizacionParcial patch(Long id, Usuario cambios) throws EntityNotFoundException, IllegalOperationException;
+
     /**
      * Elimina un usuario del sistema por su identificador único.
      *
@@ -60,4 +84,42 @@ public interface UsuarioService {
      * @throws EntityNotFoundException Si no se encuentra ningún usuario con el identificador especificado.
      */
     void delete(Long id) throws EntityNotFoundException;
+
+    /**
+     * Reasigna al rol destino todos los usuarios del rol origen con sentencias {@code UPDATE} por bloques de
+     * identificadores. Cada bloque se confirma en su propia transacción para acotar el tiempo de bloqueo.
+     *
+     * @param idRolOrigen  Identificador del rol actual de los usuarios.
+     * @param idRolDestino Identificador del nuevo rol.
+     * @return Las filas actualizadas y los bloques ejecutados.
+     * @throws IllegalOperationException Si alguno de los roles no existe o el rol origen y el destino son el mismo.
+     */
+    ResultadoMasivo reassignRol(Long idRolOrigen, Long idRolDestino) throws IllegalOperationException;
+
+    /**
+     * Elimina varios usuarios con sentencias {@code DELETE} por bloques de identificadores. Cada bloque se confirma
+     * en su propia transacción; los identificadores inexistentes se ignoran.
+     *
+     * @param ids Identificadores únicos de los usuarios a eliminar.
+     * @return Las filas eliminadas y los bloques ejecutados.
+     */
+    ResultadoMasivo deleteAll(Collection<Long> ids);
+
+    /**
+     * Resultado de una actualización parcial.
+     *
+     * @param usuario El usuario tras la actualización.
+     * @param campos  Los campos que cambiaron, en orden.
+     */
+    record ActualizacionParcial(Usuario usuario, List<String> campos) {
+    }
+
+    /**
+     * Resultado de una operación masiva.
+     *
+     * @param filas  Las filas afectadas.
+     * @param bloques Los bloques ejecutados, cada uno en su transacción.
+     */
+    record ResultadoMasivo(int filas, int bloques) {
+    }
 }
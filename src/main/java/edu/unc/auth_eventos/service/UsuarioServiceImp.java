@@ -5,17 +5,31 @@
  */
 package edu.unc.auth_eventos.service;
 
+import edu.unc.auth_eventos.audit.AuditEventType;
+import edu.unc.auth_eventos.config.ShardRouter;
 import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
 import edu.unc.auth_eventos.entity.Usuario;
 import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.invalidation.InvalidationBus;
 import edu.unc.auth_eventos.repository.UsuarioRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Implementación de los servicios relacionados con la entidad Usuario.
@@ -35,12 +49,31 @@ public class UsuarioServiceImp implements UsuarioService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${app.usuarios.bulk-chunk-size:500}")
+    private int bulkChunkSize;
+
     /**
      * Obtiene todos los usuarios en el sistema.
      *
      * @return Lista de usuarios.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Usuario> getAll() {
         return usuarioRepository.findAll();
     }
@@ -53,6 +86,7 @@ public class UsuarioServiceImp implements UsuarioService {
      * @throws EntityNotFoundException Si no se encuentra ningún usuario con el identificador especificado.
      */
     @Override
+    @Transactional(readOnly = true)
     public Usuario getById(Long id) throws EntityNotFoundException {
         Optional<Usuario> usuarioOpt = usuarioRepository.findById(id);
         if (usuarioOpt.isEmpty()) {
@@ -61,6 +95,23 @@ public class UsuarioServiceImp implements UsuarioService {
         return usuarioOpt.get();
     }
 
+    /**
+     * Obtiene la versión de un usuario sin cargar la entidad completa.
+     *
+     * @param id Identificador único del usuario.
+     * @return La versión del usuario.
+     * @throws EntityNotFoundException Si no se encuentra ningún usuario con el identificador especificado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(Long id) throws EntityNotFoundException {
+        Long version = usuarioRepository.findVersionById(id);
+        if (version == null) {
+            throw new EntityNotFoundException("El usuario con el Id proporcionado no se encontró.");
+        }
+        return version;
+    }
+
     /**
      * Guarda un nuevo usuario en el sistema.
      *
@@ -69,17 +120,26 @@ public class UsuarioServiceImp implements UsuarioService {
      * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de guardado del usuario.
      */
     @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
     public Usuario save(Usuario usuario) throws IllegalOperationException {
+        // El email duplicado lo rechaza el índice único en el INSERT; la partición se fija antes de la búsqueda del rol.
+        shardRouter.route(shardRouter.shardForEmail(usuario.getEmail()));
         Rol rol = rolService.getById(usuario.getRol().getIdRol());
         if (rol == null) {
             throw new IllegalOperationException("El rol proporcionado no existe.");
         }
-        if (usuarioRepository.findByEmail(usuario.getEmail()) != null) {
-            throw new IllegalOperationException("El correo electrónico proporcionado ya está en uso.");
-        }
         usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
         usuario.setRol(rol);
-        return usuarioRepository.save(usuario);
+        Usuario usuarioSaved;
+        try {
+            usuarioSaved = usuarioRepository.save(usuario);
+            usuarioRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalOperationException("El correo electrónico proporcionado ya está en uso.");
+        }
+        cambioService.registrarUsuario(TipoCambio.CREADO, usuarioSaved);
+        auditService.publishAfterCommit(AuditEventType.USUARIO_CREADO, usuarioSaved.getEmail(), null);
+        return usuarioSaved;
     }
 
     /**
@@ -92,11 +152,15 @@ public class UsuarioServiceImp implements UsuarioService {
      * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de actualización del usuario.
      */
     @Override
+    @Transactional
     public Usuario update(Long id, Usuario usuario) throws EntityNotFoundException, IllegalOperationException {
         Optional<Usuario> usuarioOpt = usuarioRepository.findById(id);
         if (usuarioOpt.isEmpty()) {
             throw new EntityNotFoundException("El usuario con el Id proporcionado no se encontró.");
         }
+        if (shardRouter.shardForEmail(usuario.getEmail()) != shardRouter.shardForId(id)) {
+            throw new IllegalOperationException("El nuevo correo electrónico corresponde a otra partición de datos.");
+        }
         Rol rol = rolService.getById(usuario.getRol().getIdRol());
         if (rol == null) {
             throw new IllegalOperationException("El rol proporcionado no existe.");
@@ -104,7 +168,70 @@ public class UsuarioServiceImp implements UsuarioService {
         usuario.setPassword(passwordEncoder.encode(usuario.getPassword()));
         usuario.setRol(rol);
         usuario.setIdUsuario(id);
-        return usuarioRepository.save(usuario);
+        usuario.setVersion(usuarioOpt.get().getVersion());
+        usuario.setIntentosFallidos(usuarioOpt.get().getIntentosFallidos());
+        usuario.setBloqueadoHasta(usuarioOpt.get().getBloqueadoHasta());
+        String emailAnterior = usuarioOpt.get().getEmail();
+        Usuario usuarioUpdated = usuarioRepository.save(usuario);
+        cambioService.registrarUsuario(TipoCambio.ACTUALIZADO, usuarioUpdated);
+        if (!emailAnterior.equals(usuarioUpdated.getEmail())) {
+            invalidationBus.publishAfterCommit(InvalidationBus.REGION_USUARIOS, emailAnterior,
+                    usuarioUpdated::getVersion);
+        }
+        auditService.publishAfterCommit(AuditEventType.USUARIO_ACTUALIZADO, usuarioUpdated.getEmail(),
+                "idUsuario=" + id);
+        return usuarioUpdated;
+    }
+
+    /**
+     * Actualiza solo los campos proporcionados de un usuario existente.
+     *
+     * @param id      Identificador único del usuario a actualizar.
+     * @param cambios El objeto Usuario con los campos a modificar.
+     * @return El usuario actualizado y los campos que cambiaron.
+     * @throws EntityNotFoundException   Si no se encuentra ningún usuario con el identificador especificado.
+     * @throws IllegalOperationException Si ocurre una operación ilegal durante el proceso de actualización del usuario.
+     */
+    @Override
+    @Transactional(rollbackFor = IllegalOperationException.class)
+    public ActualizacionParcial patch(Long id, Usuario cambios) throws EntityNotFoundException, IllegalOperationException {
+        Usuario usuario = usuarioRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("El usuario con el Id proporcionado no se encontró."));
+        List<String> campos = new ArrayList<>();
+
+        if (cambios.getEmail() != null && !cambios.getEmail().equals(usuario.getEmail())) {
+            if (shardRouter.shardForEmail(cambios.getEmail()) != shardRouter.shardForId(id)) {
+                throw new IllegalOperationException("El nuevo correo electrónico corresponde a otra partición de datos.");
+            }
+            invalidationBus.publishAfterCommit(InvalidationBus.REGION_USUARIOS, usuario.getEmail(),
+                    usuario::getVersion);
+            usuario.setEmail(cambios.getEmail());
+            campos.add("email");
+        }
+        if (cambios.getPassword() != null) {
+            usuario.setPassword(passwordEncoder.encode(cambios.getPassword()));
+            campos.add("password");
+        }
+        if (cambios.getRol() != null && cambios.getRol().getIdRol() != null
+                && !cambios.getRol().getIdRol().equals(usuario.getRol().getIdRol())) {
+            usuario.setRol(rolService.getById(cambios.getRol().getIdRol()));
+            campos.add("rol");
+        }
+        if (campos.isEmpty()) {
+            return new ActualizacionParcial(usuario, campos);
+        }
+
+        // La entidad está gestionada: el vaciado escribe solo las columnas modificadas y sube la versión. El email
+        // duplicado lo rechaza el índice único en el UPDATE, también cuando dos cambios llegan a la vez.
+        try {
+            usuarioRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalOperationException("El correo electrónico proporcionado ya está en uso.");
+        }
+        cambioService.registrarUsuario(TipoCambio.ACTUALIZADO, usuario);
+        auditService.publishAfterCommit(AuditEventType.USUARIO_ACTUALIZADO, usuario.getEmail(),
+                "idUsuario=" + id + " campos=" + String.join(",", campos));
+        return new ActualizacionParcial(usuario, campos);
     }
 
     /**
@@ -114,9 +241,142 @@ public class UsuarioServiceImp implements UsuarioService {
      * @throws EntityNotFoundException Si no se encuentra ningún usuario con el identificador especificado.
      */
     @Override
+    @Transactional
     public void delete(Long id) throws EntityNotFoundException {
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("El usuario con el Id proporcionado no se encontró."));
         usuarioRepository.delete(usuario);
+        cambioService.registrarUsuario(TipoCambio.ELIMINADO, usuario);
+        auditService.publishAfterCommit(AuditEventType.USUARIO_ELIMINADO, usuario.getEmail(), "idUsuario=" + id);
+        forgetAfterCommit(List.of(usuario.getEmail()));
+    }
+
+    /**
+     * Reasigna al rol destino todos los usuarios del rol origen por bloques de identificadores.
+     *
+     * @param idRolOrigen  Identificador del rol actual de los usuarios.
+     * @param idRolDestino Identificador del nuevo rol.
+     * @return Las filas actualizadas y los bloques ejecutados.
+     * @throws IllegalOperationException Si alguno de los roles no existe o el rol origen y el destino son el mismo.
+     */
+    @Override
+    public ResultadoMasivo reassignRol(Long idRolOrigen, Long idRolDestino) throws IllegalOperationException {
+        if (idRolOrigen.equals(idRolDestino)) {
+            throw new IllegalOperationException("El rol de origen y el de destino deben ser distintos.");
+        }
+        Rol origen;
+        Rol destino;
+        try {
+            origen = rolService.getById(idRolOrigen);
+            destino = rolService.getById(idRolDestino);
+        } catch (EntityNotFoundException e) {
+            throw new IllegalOperationException("El rol proporcionado no existe.");
+        }
+        int filas = 0;
+        int bloques = 0;
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            long after = 0;
+            while (true) {
+                long desde = after;
+                Bloque bloque = shardRouter.inShard(shard, false, () -> reassignChunk(origen, destino, desde));
+                if (bloque == null) {
+                    break;
+                }
+                filas += bloque.filas();
+                after = bloque.ultimoId();
+                bloques++;
+            }
+        }
+        return new ResultadoMasivo(filas, bloques);
+    }
+
+    /**
+     * Elimina varios usuarios por bloques de identificadores, agrupados por partición.
+     *
+     * @param ids Identificadores únicos de los usuarios a eliminar.
+     * @return Las filas eliminadas y los bloques ejecutados.
+     */
+    @Override
+    public ResultadoMasivo deleteAll(Collection<Long> ids) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        ids.stream()
+                .filter(id -> id != null && shardRouter.isKnownId(id))
+                .distinct()
+                .sorted()
+                .forEach(id -> byShard.computeIfAbsent(shardRouter.shardForId(id), key -> new ArrayList<>()).add(id));
+        int filas = 0;
+        int bloques = 0;
+        for (Map.Entry<Integer, List<Long>> entry : byShard.entrySet()) {
+            List<Long> shardIds = entry.getValue();
+            for (int from = 0; from < shardIds.size(); from += bulkChunkSize) {
+                List<Long> chunk = shardIds.subList(from, Math.min(from + bulkChunkSize, shardIds.size()));
+                filas += shardRouter.inShard(entry.getKey(), false, () -> deleteChunk(chunk));
+                bloques++;
+            }
+        }
+        return new ResultadoMasivo(filas, bloques);
+    }
+
+    /**
+     * Reasigna un bloque de usuarios dentro de la transacción actual.
+     *
+     * @return El bloque procesado, o null si no quedan usuarios.
+     */
+    private Bloque reassignChunk(Rol origen, Rol destino, long after) {
+        List<Long> ids = usuarioRepository.findIdsByRol(origen, after, PageRequest.of(0, bulkChunkSize));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        long upTo = ids.get(ids.size() - 1);
+        int updated = usuarioRepository.reassignRol(origen, destino, after, upTo);
+        for (Usuario usuario : usuarioRepository.findAllWithRolByIdIn(ids)) {
+            if (usuario.getRol().getIdRol().equals(destino.getIdRol())) {
+                cambioService.registrarUsuario(TipoCambio.ACTUALIZADO, usuario);
+                auditService.publishAfterCommit(AuditEventType.USUARIO_ACTUALIZADO, usuario.getEmail(),
+                        "idUsuario=" + usuario.getIdUsuario() + " rol=" + origen.getIdRol() + "->" + destino.getIdRol());
+            }
+        }
+        return new Bloque(updated, upTo);
+    }
+
+    /**
+     * Elimina un bloque de usuarios dentro de la transacción actual.
+     *
+     * @return Las filas eliminadas.
+     */
+    private int deleteChunk(List<Long> ids) {
+        List<Usuario> usuarios = usuarioRepository.findAllWithRolByIdIn(ids);
+        if (usuarios.isEmpty()) {
+            return 0;
+        }
+        int deleted = usuarioRepository.deleteByIdIn(usuarios.stream().map(Usuario::getIdUsuario).toList());
+        for (Usuario usuario : usuarios) {
+            cambioService.registrarUsuario(TipoCambio.ELIMINADO, usuario);
+            auditService.publishAfterCommit(AuditEventType.USUARIO_ELIMINADO, usuario.getEmail(),
+                    "idUsuario=" + usuario.getIdUsuario());
+        }
+        forgetAfterCommit(usuarios.stream().map(Usuario::getEmail).toList());
+        return deleted;
+    }
+
+    /**
+     * Descarta el estado de intentos de inicio de sesión de las cuentas eliminadas cuando la transacción se confirma,
+     * para que una cuenta nueva con el mismo email no herede un bloqueo.
+     *
+     * @param emails Los emails de las cuentas eliminadas.
+     */
+    private void forgetAfterCommit(List<String> emails) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emails.forEach(loginAttemptService::forget);
+            }
+        });
+    }
+
+    /**
+     * Bloque de una reasignación: filas actualizadas y último identificador del rango.
+     */
+    private record Bloque(int filas, long ultimoId) {
     }
 }
@@ -0,0 +1,148 @@
+/**
+ * @file: AdaptiveLimit.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 02:06:18 AM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite de concurrencia que se ajusta según la latencia observada (algoritmo de gradiente).
+ * <p>
+ * Las latencias se agrupan en ventanas de {@value #WINDOW} muestras. La media de cada ventana se compara con la
+ * latencia sin cola, que es la menor media vista; cada {@value #PROBE_WINDOWS} ventanas el límite se reduce a la
+ * mitad y la latencia sin cola se vuelve a medir, para seguir los cambios del servicio.
+ * <p>
+ * El gradiente {@code TOLERANCE * sinCola / actual}, acotado entre 0,5 y 1, reduce el límite cuando se forma
+ * cola; sin cola el límite crece en {@code sqrt(limite)}. El cambio se suaviza y queda entre el mínimo y el máximo. Un
+ * fallo (respuesta 5xx o excepción) reduce el límite un 10 % al instante. Si la ventana no llegó a usar la mitad
+ * del límite no hay información y el límite no cambia.
+ */
+public final class AdaptiveLimit {
+    private static final int WINDOW = 20;
+    private static final int PROBE_WINDOWS = 100;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    private long windowNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private int windows;
+    private double noLoadNanos = Double.MAX_VALUE;
+
+    /**
+     * Crea el límite.
+     *
+     * @param initialLimit El límite inicial.
+     * @param minLimit     El límite mínimo.
+     * @param maxLimit     El límite máximo.
+     */
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Se requiere 1 <= mínimo <= inicial <= máximo.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserva un lugar si hay menos solicitudes en curso que el límite.
+     *
+     * @return true si se reservó; el llamador debe liberarlo con {@link #release(long, boolean)}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera un lugar y registra la latencia de la solicitud.
+     *
+     * @param latencyNanos La latencia de la solicitud.
+     * @param failed       Si la solicitud falló.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        sample(latencyNanos, current, failed);
+    }
+
+    /**
+     * Obtiene el límite actual.
+     *
+     * @return El límite.
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Obtiene el número de solicitudes en curso.
+     *
+     * @return El número de solicitudes.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Obtiene el número de solicitudes rechazadas.
+     *
+     * @return El número de rechazos.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private synchronized void sample(long latencyNanos, int inFlightAtEnd, boolean failed) {
+        if (failed) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+            resetWindow();
+            return;
+        }
+        windowNanos += latencyNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtEnd);
+        if (windowSamples < WINDOW) {
+            return;
+        }
+        double current = (double) windowNanos / windowSamples;
+        if (++windows % PROBE_WINDOWS == 0) {
+            // Con la mitad del límite la cola se vacía y la ventana siguiente mide de nuevo la latencia sin cola.
+            noLoadNanos = Double.MAX_VALUE;
+            limit = Math.max(minLimit, limit / 2);
+            resetWindow();
+            return;
+        }
+        noLoadNanos = Math.min(noLoadNanos, current);
+        if (windowMaxInFlight * 2 >= limit) {
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadNanos / current));
+            double target = limit * gradient + Math.sqrt(limit);
+            limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+        }
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
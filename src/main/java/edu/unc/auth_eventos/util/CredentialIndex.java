@@ -0,0 +1,642 @@
+/**
+ * @file: CredentialIndex.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 20, 2026 03:02:51 AM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Índice de credenciales fuera del heap: una tabla hash de direccionamiento abierto en un archivo mapeado en
+ * memoria, de la huella del email al usuario, su rol, su versión, su estado de bloqueo y el hash de su contraseña.
+ * <p>
+ * Cada email ocupa una celda de {@value #SLOT_BYTES} bytes con dos hashes de 64 bits del email (la probabilidad de
+ * confundir dos emails es de 2<sup>-128</sup>), así que millones de cuentas no añaden objetos al heap ni trabajo al
+ * recolector. Una segunda tabla, del identificador del usuario a su celda, permite borrar una cuenta cuyo email
+ * cambió. El archivo se mapea en páginas de 1 GiB porque un {@link MappedByteBuffer} no pasa de 2 GiB.
+ * <p>
+ * Las búsquedas no bloquean ni crean objetos: cada celda tiene un sello (seqlock) que el escritor pone impar
+ * mientras la modifica, y el lector repite la lectura si el sello cambió. Las escrituras se serializan.
+ * <p>
+ * La cabecera guarda si el índice está completo y si se cerró limpiamente, además de la última secuencia de la
+ * bandeja de salida aplicada en cada partición. Un archivo que no se cerró limpiamente (el proceso murió a mitad de
+ * una escritura) o con otra capacidad se descarta al abrirlo.
+ * <p>
+ * El archivo guarda los hashes de las contraseñas, así que en sistemas POSIX se crea con permisos solo para el
+ * propietario ({@code rw-------}) y, si ya existía con permisos más amplios, se restringen al abrirlo.
+ */
+public final class CredentialIndex implements AutoCloseable {
+    /**
+     * Longitud máxima del hash de contraseña que cabe en una celda (un hash BCrypt ocupa 60).
+     */
+    public static final int MAX_PASSWORD_BYTES = 66;
+
+    /**
+     * Número máximo de particiones cuya secuencia se guarda en la cabecera.
+     */
+    public static final int MAX_SHARDS = 64;
+
+    private static final int MAGIC = 0x43524458;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 4096;
+    private static final int SLOT_BYTES = 128;
+    private static final int ID_BYTES = 16;
+    private static final int PAGE_SHIFT = 30;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+    private static final double MAX_LOAD = 0.75;
+
+    private static final int H_CAPACITY = 8;
+    private static final int H_SIZE = 16;
+    private static final int H_USED = 24;
+    private static final int H_ID_USED = 32;
+    private static final int H_COMPLETE = 40;
+    private static final int H_CLEAN = 48;
+    private static final int H_SEQUENCES = 64;
+
+    private static final int S_STAMP = 0;
+    private static final int S_HASH1 = 8;
+    private static final int S_HASH2 = 16;
+    private static final int S_ID_USUARIO = 24;
+    private static final int S_ID_ROL = 32;
+    private static final int S_VERSION = 40;
+    private static final int S_BLOQUEADO = 48;
+    private static final int S_INTENTOS = 56;
+    private static final int S_STATE = 60;
+    private static final int S_PASSWORD_LENGTH = 61;
+    private static final int S_PASSWORD = 62;
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+    private static final long ID_DELETED = -1;
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final MappedByteBuffer[] pages;
+    private final long capacity;
+    private final long mask;
+    private final long idTableOffset;
+    private final boolean reused;
+
+    private CredentialIndex(MappedByteBuffer[] pages, long capacity, boolean reused) {
+        this.pages = pages;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.idTableOffset = HEADER_BYTES + capacity * SLOT_BYTES;
+        this.reused = reused;
+    }
+
+    /**
+     * Abre el índice de un archivo, o lo crea vacío si el archivo no existe, tiene otra capacidad o no se cerró
+     * limpiamente.
+     *
+     * @param file     El archivo.
+     * @param capacity El número de celdas; se redondea a la siguiente potencia de dos.
+     * @return El índice.
+     * @throws IOException Si no se pudo abrir o mapear el archivo.
+     */
+    public static CredentialIndex open(Path file, long capacity) throws IOException {
+        long slots = Long.highestOneBit(Math.max(1024, capacity) - 1) << 1;
+        long bytes = HEADER_BYTES + slots * (SLOT_BYTES + ID_BYTES);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        boolean posix = file.getFileSystem().supportedFileAttributeViews().contains("posix");
+        FileAttribute<?>[] attributes = posix
+                ? new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(OWNER_ONLY)}
+                : new FileAttribute<?>[0];
+        try (FileChannel channel = FileChannel.open(file, EnumSet.of(StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE), attributes)) {
+            if (posix && !OWNER_ONLY.equals(Files.getPosixFilePermissions(file))) {
+                Files.setPosixFilePermissions(file, OWNER_ONLY);
+            }
+            boolean sameSize = channel.size() == bytes;
+            MappedByteBuffer[] pages = new MappedByteBuffer[(int) ((bytes + PAGE_MASK) >>> PAGE_SHIFT)];
+            for (int i = 0; i < pages.length; i++) {
+                long start = (long) i << PAGE_SHIFT;
+                pages[i] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(PAGE_MASK + 1, bytes - start));
+                pages[i].order(ByteOrder.nativeOrder());
+            }
+            MappedByteBuffer header = pages[0];
+            boolean reused = sameSize && header.getInt(0) == MAGIC && header.getInt(4) == FORMAT
+                    && header.getLong(H_CAPACITY) == slots && header.getLong(H_COMPLETE) == 1
+                    && header.getLong(H_CLEAN) == 1;
+            CredentialIndex index = new CredentialIndex(pages, slots, reused);
+            if (!reused) {
+                index.wipe();
+            }
+            header.putLong(H_CLEAN, 0);
+            header.force();
+            return index;
+        }
+    }
+
+    /**
+     * Indica si se reutilizó el contenido del archivo al abrirlo.
+     *
+     * @return true si el índice viene de una ejecución anterior.
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    /**
+     * Busca las credenciales de un email sin crear objetos.
+     *
+     * @param email El email.
+     * @param out   Donde se copian las credenciales encontradas.
+     * @return true si el email está en el índice.
+     */
+    public boolean find(String email, Credencial out) {
+        long h1 = hash1(email);
+        long h2 = hash2(email);
+        long slot = h1 & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = HEADER_BYTES + slot * SLOT_BYTES;
+            MappedByteBuffer page = pages[(int) (offset >>> PAGE_SHIFT)];
+            int pos = (int) (offset & PAGE_MASK);
+            while (true) {
+                long stamp = (long) LONGS.getAcquire(page, pos + S_STAMP);
+                if ((stamp & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                byte state = page.get(pos + S_STATE);
+                boolean match = state == FULL && page.getLong(pos + S_HASH1) == h1
+                        && page.getLong(pos + S_HASH2) == h2;
+                if (match) {
+                    out.idUsuario = page.getLong(pos + S_ID_USUARIO);
+                    out.idRol = page.getLong(pos + S_ID_ROL);
+                    out.version = page.getLong(pos + S_VERSION);
+                    out.bloqueadoHasta = page.getLong(pos + S_BLOQUEADO);
+                    out.intentos = page.getInt(pos + S_INTENTOS);
+                    out.passwordLength = Math.min(page.get(pos + S_PASSWORD_LENGTH) & 0xFF, MAX_PASSWORD_BYTES);
+                    page.get(pos + S_PASSWORD, out.password, 0, out.passwordLength);
+                }
+                VarHandle.loadLoadFence();
+                if ((long) LONGS.getVolatile(page, pos + S_STAMP) != stamp) {
+                    continue;
+                }
+                if (match) {
+                    return true;
+                }
+                if (state == EMPTY) {
+                    return false;
+                }
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Guarda las credenciales de un email, salvo que el índice ya tenga una versión más nueva.
+     *
+     * @param email          El email.
+     * @param idUsuario      El identificador del usuario.
+     * @param idRol          El identificador del rol, o 0 si no tiene.
+     * @param version        La versión del usuario.
+     * @param intentos       Los intentos fallidos persistidos.
+     * @param bloqueadoHasta El fin del bloqueo en milisegundos desde la época, o 0.
+     * @param password       El hash de la contraseña.
+     * @return false si no se guardó: versión antigua, contraseña que no cabe o índice lleno.
+     */
+    public synchronized boolean put(String email, long idUsuario, long idRol, long version, int intentos,
+                                    long bloqueadoHasta, String password) {
+        if (password == null || password.length() > MAX_PASSWORD_BYTES || !isAscii(password)) {
+            return false;
+        }
+        long h1 = hash1(email);
+        long h2 = hash2(email);
+        long target = -1;
+        long slot = h1 & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = HEADER_BYTES + slot * SLOT_BYTES;
+            byte state = byteAt(offset + S_STATE);
+            if (state == FULL && longAt(offset + S_HASH1) == h1 && longAt(offset + S_HASH2) == h2) {
+                if (longAt(offset + S_VERSION) > version) {
+                    return false;
+                }
+                target = slot;
+                break;
+            }
+            if (state != FULL && target < 0) {
+                target = slot;
+            }
+            if (state == EMPTY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (target < 0) {
+            return false;
+        }
+        long offset = HEADER_BYTES + target * SLOT_BYTES;
+        byte previous = byteAt(offset + S_STATE);
+        if (previous == EMPTY && (header(H_USED) + 1 > capacity * MAX_LOAD
+                || header(H_ID_USED) + 1 > capacity * MAX_LOAD)) {
+            return false;
+        }
+        long oldSlot = idSlot(idUsuario);
+        if (oldSlot >= 0 && oldSlot != target) {
+            delete(oldSlot);
+        }
+        if (previous == FULL && longAt(offset + S_ID_USUARIO) != idUsuario) {
+            removeId(longAt(offset + S_ID_USUARIO));
+        }
+
+        MappedByteBuffer page = pages[(int) (offset >>> PAGE_SHIFT)];
+        int pos = (int) (offset & PAGE_MASK);
+        long stamp = page.getLong(pos + S_STAMP);
+        LONGS.setVolatile(page, pos + S_STAMP, stamp + 1);
+        VarHandle.storeStoreFence();
+        page.putLong(pos + S_HASH1, h1);
+        page.putLong(pos + S_HASH2, h2);
+        page.putLong(pos + S_ID_USUARIO, idUsuario);
+        page.putLong(pos + S_ID_ROL, idRol);
+        page.putLong(pos + S_VERSION, version);
+        page.putLong(pos + S_BLOQUEADO, bloqueadoHasta);
+        page.putInt(pos + S_INTENTOS, intentos);
+        page.put(pos + S_PASSWORD_LENGTH, (byte) password.length());
+        for (int i = 0; i < password.length(); i++) {
+            page.put(pos + S_PASSWORD + i, (byte) password.charAt(i));
+        }
+        page.put(pos + S_STATE, FULL);
+        LONGS.setRelease(page, pos + S_STAMP, stamp + 2);
+
+        if (previous != FULL) {
+            addHeader(H_SIZE, 1);
+        }
+        if (previous == EMPTY) {
+            addHeader(H_USED, 1);
+        }
+        putId(idUsuario, target);
+        return true;
+    }
+
+    /**
+     * Actualiza el estado de bloqueo de un email que está en el índice.
+     *
+     * @param email          El email.
+     * @param intentos       Los intentos fallidos.
+     * @param bloqueadoHasta El fin del bloqueo en milisegundos desde la época, o 0.
+     */
+    public synchronized void updateLock(String email, int intentos, long bloqueadoHasta) {
+        long slot = slotOf(email);
+        if (slot < 0) {
+            return;
+        }
+        long offset = HEADER_BYTES + slot * SLOT_BYTES;
+        MappedByteBuffer page = pages[(int) (offset >>> PAGE_SHIFT)];
+        int pos = (int) (offset & PAGE_MASK);
+        long stamp = page.getLong(pos + S_STAMP);
+        LONGS.setVolatile(page, pos + S_STAMP, stamp + 1);
+        VarHandle.storeStoreFence();
+        page.putLong(pos + S_BLOQUEADO, bloqueadoHasta);
+        page.putInt(pos + S_INTENTOS, intentos);
+        LONGS.setRelease(page, pos + S_STAMP, stamp + 2);
+    }
+
+    /**
+     * Borra las credenciales de un email.
+     *
+     * @param email El email.
+     * @return true si estaba en el índice.
+     */
+    public synchronized boolean remove(String email) {
+        long slot = slotOf(email);
+        if (slot < 0) {
+            return false;
+        }
+        removeId(longAt(HEADER_BYTES + slot * SLOT_BYTES + S_ID_USUARIO));
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * Borra las credenciales de un usuario, con el email que tenga.
+     *
+     * @param idUsuario El identificador del usuario.
+     * @return true si estaba en el índice.
+     */
+    public synchronized boolean removeUser(long idUsuario) {
+        long slot = idSlot(idUsuario);
+        if (slot < 0) {
+            return false;
+        }
+        removeId(idUsuario);
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * Vacía el índice y lo marca como incompleto.
+     */
+    public synchronized void clear() {
+        wipe();
+    }
+
+    /**
+     * Obtiene el número de emails en el índice.
+     *
+     * @return El número de emails.
+     */
+    public long size() {
+        return header(H_SIZE);
+    }
+
+    /**
+     * Obtiene el número de celdas.
+     *
+     * @return La capacidad.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Indica si el índice tiene todas las cuentas.
+     *
+     * @return true si la carga inicial terminó.
+     */
+    public boolean isComplete() {
+        return header(H_COMPLETE) == 1;
+    }
+
+    /**
+     * Marca el índice como completo, tras la carga inicial.
+     */
+    public synchronized void markComplete() {
+        pages[0].putLong(H_COMPLETE, 1);
+    }
+
+    /**
+     * Obtiene la última secuencia de la bandeja de salida aplicada en una partición.
+     *
+     * @param shard La partición.
+     * @return La secuencia.
+     */
+    public long getSequence(int shard) {
+        return header(H_SEQUENCES + 8L * shard);
+    }
+
+    /**
+     * Guarda la última secuencia de la bandeja de salida aplicada en una partición.
+     *
+     * @param shard    La partición.
+     * @param sequence La secuencia.
+     */
+    public synchronized void setSequence(int shard, long sequence) {
+        pages[0].putLong(H_SEQUENCES + 8 * shard, sequence);
+    }
+
+    /**
+     * Escribe en disco las páginas modificadas.
+     */
+    public synchronized void force() {
+        for (MappedByteBuffer page : pages) {
+            page.force();
+        }
+    }
+
+    /**
+     * Escribe el índice en disco y lo marca como cerrado limpiamente, para reutilizarlo en el próximo arranque.
+     */
+    @Override
+    public synchronized void close() {
+        force();
+        pages[0].putLong(H_CLEAN, 1);
+        pages[0].force();
+    }
+
+    private void wipe() {
+        for (MappedByteBuffer page : pages) {
+            for (int pos = 0; pos < page.capacity(); pos += 8) {
+                page.putLong(pos, 0);
+            }
+        }
+        MappedByteBuffer header = pages[0];
+        header.putInt(0, MAGIC);
+        header.putInt(4, FORMAT);
+        header.putLong(H_CAPACITY, capacity);
+    }
+
+    private long slotOf(String email) {
+        long h1 = hash1(email);
+        long h2 = hash2(email);
+        long slot = h1 & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = HEADER_BYTES + slot * SLOT_BYTES;
+            byte state = byteAt(offset + S_STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && longAt(offset + S_HASH1) == h1 && longAt(offset + S_HASH2) == h2) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void delete(long slot) {
+        long offset = HEADER_BYTES + slot * SLOT_BYTES;
+        MappedByteBuffer page = pages[(int) (offset >>> PAGE_SHIFT)];
+        int pos = (int) (offset & PAGE_MASK);
+        long stamp = page.getLong(pos + S_STAMP);
+        LONGS.setVolatile(page, pos + S_STAMP, stamp + 1);
+        VarHandle.storeStoreFence();
+        page.put(pos + S_STATE, DELETED);
+        LONGS.setRelease(page, pos + S_STAMP, stamp + 2);
+        addHeader(H_SIZE, -1);
+    }
+
+    /**
+     * Busca la celda de un usuario en la tabla de identificadores.
+     *
+     * @return La celda, o -1.
+     */
+    private long idSlot(long idUsuario) {
+        long entry = mix(idUsuario) & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = idTableOffset + entry * ID_BYTES;
+            long key = longAt(offset);
+            if (key == 0) {
+                return -1;
+            }
+            if (key == idUsuario) {
+                return longAt(offset + 8);
+            }
+            entry = (entry + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void putId(long idUsuario, long slot) {
+        long entry = mix(idUsuario) & mask;
+        long target = -1;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = idTableOffset + entry * ID_BYTES;
+            long key = longAt(offset);
+            if (key == idUsuario) {
+                target = entry;
+                break;
+            }
+            if (key == ID_DELETED && target < 0) {
+                target = entry;
+            }
+            if (key == 0) {
+                if (target < 0) {
+                    target = entry;
+                    addHeader(H_ID_USED, 1);
+                }
+                break;
+            }
+            entry = (entry + 1) & mask;
+        }
+        long offset = idTableOffset + target * ID_BYTES;
+        putLongAt(offset, idUsuario);
+        putLongAt(offset + 8, slot);
+    }
+
+    private void removeId(long idUsuario) {
+        long entry = mix(idUsuario) & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            long offset = idTableOffset + entry * ID_BYTES;
+            long key = longAt(offset);
+            if (key == 0) {
+                return;
+            }
+            if (key == idUsuario) {
+                putLongAt(offset, ID_DELETED);
+                return;
+            }
+            entry = (entry + 1) & mask;
+        }
+    }
+
+    private long header(long offset) {
+        return pages[0].getLong((int) offset);
+    }
+
+    private void addHeader(int offset, long delta) {
+        pages[0].putLong(offset, pages[0].getLong(offset) + delta);
+    }
+
+    private byte byteAt(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].get((int) (offset & PAGE_MASK));
+    }
+
+    private long longAt(long offset) {
+        return pages[(int) (offset >>> PAGE_SHIFT)].getLong((int) (offset & PAGE_MASK));
+    }
+
+    private void putLongAt(long offset, long value) {
+        pages[(int) (offset >>> PAGE_SHIFT)].putLong((int) (offset & PAGE_MASK), value);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los caracteres, con mezcla final; nunca es 0.
+     */
+    static long hash1(String email) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            h = (h ^ email.charAt(i)) * 0x100000001b3L;
+        }
+        long mixed = mix(h ^ email.length());
+        return mixed == 0 ? 1 : mixed;
+    }
+
+    /**
+     * Segundo hash, con otra semilla y otro multiplicador, para distinguir emails cuyo primer hash coincide.
+     */
+    static long hash2(String email) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < email.length(); i++) {
+            h = (h + email.charAt(i)) * 0xC2B2AE3D27D4EB4FL;
+            h ^= h >>> 29;
+        }
+        return mix(h + email.length());
+    }
+
+    /**
+     * Mezcla final de MurmurHash3.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Credenciales copiadas de una celda. Se reutiliza entre búsquedas del mismo hilo.
+     */
+    public static final class Credencial {
+        private final byte[] password = new byte[MAX_PASSWORD_BYTES];
+        private long idUsuario;
+        private long idRol;
+        private long version;
+        private long bloqueadoHasta;
+        private int intentos;
+        private int passwordLength;
+
+        public long getIdUsuario() {
+            return idUsuario;
+        }
+
+        public long getIdRol() {
+            return idRol;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getBloqueadoHasta() {
+            return bloqueadoHasta;
+        }
+
+        public int getIntentos() {
+            return intentos;
+        }
+
+        /**
+         * Obtiene el hash de la contraseña; crea la cadena.
+         *
+         * @return El hash.
+         */
+        public String getPassword() {
+            return new String(password, 0, passwordLength, StandardCharsets.US_ASCII);
+        }
+    }
+}
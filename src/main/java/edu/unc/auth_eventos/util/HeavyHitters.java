@@ -0,0 +1,172 @@
+/**
+ * @file: HeavyHitters.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:52:44 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Elementos más frecuentes de un flujo con memoria fija: un count-min sketch estima la frecuencia de cualquier
+ * elemento y un montículo de mínimos conserva los {@code k} con mayor estimación.
+ * <p>
+ * La estimación nunca es menor que la frecuencia real y la supera como mucho en {@code e / width} del total
+ * con probabilidad {@code 1 - e^-depth}.
+ * <p>
+ * {@link #add(String, long)} y {@link #estimate(long)} son seguros para varios hilos sin esperas: los contadores
+ * son atómicos y el montículo solo se actualiza si su cerrojo está libre ({@code tryLock}). Si otro hilo lo tiene,
+ * la aparición se cuenta en el sketch pero no en el montículo; un elemento frecuente entra o se actualiza en una de
+ * sus siguientes apariciones, con la estimación acumulada. {@link #clear()} no debe ejecutarse a la vez que otras
+ * operaciones.
+ */
+public final class HeavyHitters {
+    /**
+     * Un elemento y su frecuencia estimada.
+     *
+     * @param key   El elemento.
+     * @param count La frecuencia estimada.
+     */
+    public record Entry(String key, long count) {
+    }
+
+    private static final Comparator<Entry> BY_COUNT = Comparator.comparingLong(Entry::count);
+
+    private final int depth;
+    private final int width;
+    private final AtomicIntegerArray table;
+    private final int k;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Entry> heap;
+    private final Map<String, Entry> top;
+
+    /**
+     * Crea una estructura vacía.
+     *
+     * @param depth El número de filas del sketch.
+     * @param width El número de contadores por fila, potencia de dos.
+     * @param k     El número de elementos más frecuentes conservados.
+     */
+    public HeavyHitters(int depth, int width, int k) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1 || k < 1) {
+            throw new IllegalArgumentException("Dimensiones inválidas para el count-min sketch.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.table = new AtomicIntegerArray(depth * width);
+        this.k = k;
+        this.heap = new PriorityQueue<>(k, BY_COUNT);
+        this.top = new HashMap<>(k * 2);
+    }
+
+    /**
+     * Cuenta una aparición de un elemento.
+     *
+     * @param key  El elemento.
+     * @param hash El hash de 64 bits del elemento.
+     */
+    public void add(String key, long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int cell = row * width + index(hash, row);
+            int previous = table.getAndUpdate(cell, count -> count < Integer.MAX_VALUE ? count + 1 : count);
+            estimate = Math.min(estimate, previous);
+        }
+        // getAndUpdate devuelve el valor previo: la estimación con esta aparición es el mínimo más uno.
+        estimate = estimate < Integer.MAX_VALUE ? estimate + 1 : estimate;
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            Entry current = top.get(key);
+            if (current != null) {
+                if (current.count() >= estimate) {
+                    return;
+                }
+                heap.remove(current);
+            } else if (top.size() >= k) {
+                if (heap.peek().count() >= estimate) {
+                    return;
+                }
+                top.remove(heap.poll().key());
+            }
+            Entry entry = new Entry(key, estimate);
+            heap.add(entry);
+            top.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estima la frecuencia de un elemento.
+     *
+     * @param hash El hash de 64 bits del elemento.
+     * @return La frecuencia estimada.
+     */
+    public long estimate(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table.get(row * width + index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Obtiene los elementos más frecuentes conservados.
+     *
+     * @return Los elementos, de mayor a menor frecuencia estimada.
+     */
+    public List<Entry> top() {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            entries = new ArrayList<>(heap);
+        } finally {
+            lock.unlock();
+        }
+        entries.sort(BY_COUNT.reversed());
+        return entries;
+    }
+
+    /**
+     * Vacía la estructura.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, 0);
+        }
+        lock.lock();
+        try {
+            heap.clear();
+            top.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la memoria del sketch, sin contar los {@code k} elementos conservados.
+     *
+     * @return El tamaño en bytes.
+     */
+    public int sizeInBytes() {
+        return table.length() * Integer.BYTES;
+    }
+
+    /**
+     * Deriva el índice de cada fila de las dos mitades del hash (Kirsch-Mitzenmacher).
+     */
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return (h1 + row * h2) & (width - 1);
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * @file: Hs256TokenIssuer.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:12:35 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * Emisor de tokens JWT firmados con HS256 para las claims {@code sub}, {@code perm}, {@code iat} y {@code exp}.
+ * <p>
+ * Produce los mismos tokens que el builder de jjwt (mismo encabezado y mismo orden de claims), pero sin mapas
+ * intermedios: el encabezado Base64URL está precodificado, el JSON se escribe a mano y cada hilo reutiliza su
+ * {@link Mac} ya inicializado y sus buffers. Cualquier parser de jjwt con la misma clave los valida.
+ */
+public final class Hs256TokenIssuer {
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SHORT_ESCAPES = new byte[0x20];
+    private static final byte[] HEADER = base64Url("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+    static {
+        SHORT_ESCAPES['\b'] = 'b';
+        SHORT_ESCAPES['\t'] = 't';
+        SHORT_ESCAPES['\n'] = 'n';
+        SHORT_ESCAPES['\f'] = 'f';
+        SHORT_ESCAPES['\r'] = 'r';
+    }
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Buffers> buffers;
+
+    /**
+     * Crea el emisor.
+     *
+     * @param secret Los bytes de la clave HMAC, de al menos 256 bits.
+     */
+    public Hs256TokenIssuer(byte[] secret) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("La clave HS256 debe tener al menos 256 bits.");
+        }
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+        this.buffers = ThreadLocal.withInitial(this::newBuffers);
+    }
+
+    /**
+     * Emite un token.
+     *
+     * @param subject   El sujeto ({@code sub}).
+     * @param permisos  Los permisos ({@code perm}) como mapa de bits.
+     * @param issuedAt  La emisión ({@code iat}) en segundos desde la época.
+     * @param expiresAt La expiración ({@code exp}) en segundos desde la época.
+     * @return El token compacto {@code header.payload.firma}.
+     */
+    public String issue(String subject, long permisos, long issuedAt, long expiresAt) {
+        Buffers b = buffers.get();
+        b.json = 0;
+        ascii(b, "{\"sub\":\"");
+        string(b, subject);
+        ascii(b, "\",\"perm\":");
+        ascii(b, Long.toString(permisos));
+        ascii(b, ",\"iat\":");
+        ascii(b, Long.toString(issuedAt));
+        ascii(b, ",\"exp\":");
+        ascii(b, Long.toString(expiresAt));
+        ascii(b, "}");
+
+        int payloadLength = (b.json * 4 + 2) / 3;
+        int total = HEADER.length + 1 + payloadLength + 1 + 43;
+        if (b.token.length < total) {
+            b.token = new byte[Math.max(total, b.token.length * 2)];
+        }
+        byte[] token = b.token;
+        System.arraycopy(HEADER, 0, token, 0, HEADER.length);
+        int pos = HEADER.length;
+        token[pos++] = '.';
+        pos = encode(b.jsonBytes, b.json, token, pos);
+        b.mac.update(token, 0, pos);
+        try {
+            b.mac.doFinal(b.signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        token[pos++] = '.';
+        pos = encode(b.signature, b.signature.length, token, pos);
+        return new String(token, 0, pos, StandardCharsets.ISO_8859_1);
+    }
+
+    private Buffers newBuffers() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return new Buffers(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no está disponible.", e);
+        }
+    }
+
+    /**
+     * Escribe texto ASCII sin escapar.
+     */
+    private static void ascii(Buffers b, String value) {
+        ensure(b, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            b.jsonBytes[b.json++] = (byte) value.charAt(i);
+        }
+    }
+
+    /**
+     * Escribe el contenido de una cadena JSON en UTF-8 con los mismos escapes que jjwt: comillas, barras,
+     * caracteres de control y sustitutos UTF-16 (los caracteres fuera del plano básico salen como dos escapes).
+     */
+    private static void string(Buffers b, String value) {
+        ensure(b, value.length() * 6);
+        byte[] out = b.jsonBytes;
+        int pos = b.json;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out[pos++] = '\\';
+                out[pos++] = (byte) c;
+            } else if (c < 0x20 && SHORT_ESCAPES[c] != 0) {
+                out[pos++] = '\\';
+                out[pos++] = SHORT_ESCAPES[c];
+            } else if (c < 0x20 || Character.isSurrogate(c)) {
+                out[pos++] = '\\';
+                out[pos++] = 'u';
+                out[pos++] = HEX[c >> 12];
+                out[pos++] = HEX[(c >> 8) & 0xF];
+                out[pos++] = HEX[(c >> 4) & 0xF];
+                out[pos++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        b.json = pos;
+    }
+
+    private static void ensure(Buffers b, int extra) {
+        if (b.json + extra > b.jsonBytes.length) {
+            b.jsonBytes = Arrays.copyOf(b.jsonBytes, Math.max(b.json + extra, b.jsonBytes.length * 2));
+        }
+    }
+
+    /**
+     * Codifica en Base64URL sin relleno y devuelve la nueva posición de escritura.
+     */
+    private static int encode(byte[] src, int length, byte[] dst, int pos) {
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[pos++] = BASE64_URL[bits >>> 18];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[pos++] = BASE64_URL[bits & 0x3F];
+        }
+        if (i < length) {
+            int bits = (src[i] & 0xFF) << 16 | (i + 1 < length ? (src[i + 1] & 0xFF) << 8 : 0);
+            dst[pos++] = BASE64_URL[bits >>> 18];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            if (i + 1 < length) {
+                dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            }
+        }
+        return pos;
+    }
+
+    private static byte[] base64Url(byte[] src) {
+        byte[] dst = new byte[(src.length * 4 + 2) / 3];
+        encode(src, src.length, dst, 0);
+        return dst;
+    }
+
+    /**
+     * Estado reutilizado por cada hilo.
+     */
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] signature = new byte[32];
+        private byte[] jsonBytes = new byte[256];
+        private byte[] token = new byte[512];
+        private int json;
+
+        private Buffers(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * @file: HyperLogLog.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 10:41:08 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Estimador HyperLogLog del número de elementos distintos con memoria fija.
+ * <p>
+ * Usa {@code 2^precision} registros de un byte; el error típico es {@code 1.04 / sqrt(2^precision)}, por
+ * ejemplo 1,6 % con precisión 12 (4 KB). Recibe hashes de 64 bits (ver {@link #hash(String)}).
+ * <p>
+ * {@link #add(long)} y {@link #merge(HyperLogLog)} son seguros para varios hilos sin cerrojos: cada registro solo
+ * crece y se actualiza con un CAS, que casi nunca hace falta porque el registro suele ser ya mayor o igual. Las
+ * lecturas concurrentes con una escritura ven cada registro antes o después de ella. {@link #clear()} no debe
+ * ejecutarse a la vez que otras operaciones.
+ */
+public final class HyperLogLog {
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Crea un estimador vacío.
+     *
+     * @param precision El número de bits del índice de registro, entre 4 y 18.
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("La precisión debe estar entre 4 y 18.");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Calcula un hash de 64 bits bien distribuido de una cadena (FNV-1a con el mezclado final de MurmurHash3).
+     *
+     * @param value La cadena.
+     * @return El hash.
+     */
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Agrega un elemento.
+     *
+     * @param hash El hash de 64 bits del elemento.
+     */
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        raise(index, (byte) rank);
+    }
+
+    /**
+     * Agrega los elementos de otro estimador de la misma precisión.
+     *
+     * @param other El otro estimador.
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Solo se pueden combinar estimadores de la misma precisión.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            raise(i, other.register(i));
+        }
+    }
+
+    /**
+     * Estima el número de elementos distintos agregados.
+     *
+     * @return La estimación.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            byte register = register(i);
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Vacía el estimador.
+     */
+    public void clear() {
+        for (int i = 0; i < registers.length; i++) {
+            REGISTERS.setRelease(registers, i, (byte) 0);
+        }
+    }
+
+    /**
+     * Obtiene la memoria de los registros.
+     *
+     * @return El tamaño en bytes.
+     */
+    public int sizeInBytes() {
+        return registers.length;
+    }
+
+    /**
+     * Lee un registro.
+     */
+    private byte register(int index) {
+        return (byte) REGISTERS.getAcquire(registers, index);
+    }
+
+    /**
+     * Sube un registro a un rango si es mayor que el actual.
+     */
+    private void raise(int index, byte rank) {
+        byte current = register(index);
+        while (rank > current) {
+            byte witness = (byte) REGISTERS.compareAndExchange(registers, index, current, rank);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+}
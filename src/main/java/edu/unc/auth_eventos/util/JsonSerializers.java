@@ -0,0 +1,172 @@
+/**
+ * @file: JsonSerializers.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 01:12:09 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import edu.unc.auth_eventos.dto.LoginResponse;
+import edu.unc.auth_eventos.dto.RolDTO;
+import edu.unc.auth_eventos.dto.UsuarioResponseDTO;
+import edu.unc.auth_eventos.entity.Permiso;
+
+import java.io.IOException;
+
+/**
+ * Serializadores JSON escritos a mano para las respuestas más frecuentes.
+ * <p>
+ * Escriben los campos directamente con nombres precodificados, sin introspección ni reflexión, y producen
+ * exactamente los mismos bytes que la serialización por defecto de Jackson (mismo orden de campos y nulos incluidos).
+ * Si se agrega un campo a alguno de estos DTOs, debe agregarse también aquí.
+ */
+public final class JsonSerializers {
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString ROL = new SerializedString("rol");
+    private static final SerializedString TOKEN = new SerializedString("token");
+    private static final SerializedString ID_USUARIO = new SerializedString("idUsuario");
+    private static final SerializedString ID_ROL = new SerializedString("idRol");
+    private static final SerializedString NOMBRE = new SerializedString("nombre");
+    private static final SerializedString PERMISOS = new SerializedString("permisos");
+
+    private JsonSerializers() {
+    }
+
+    /**
+     * Crea el módulo de Jackson que registra todos los serializadores.
+     *
+     * @return El módulo de Jackson.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("AuthEventosSerializers");
+        module.addSerializer((Class) ApiResponse.class, new ApiResponseSerializer());
+        module.addSerializer(LoginResponse.class, new LoginResponseSerializer());
+        module.addSerializer(UsuarioResponseDTO.class, new UsuarioResponseSerializer());
+        module.addSerializer(RolDTO.class, new RolSerializer());
+        return module;
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeLong(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Serializador de {@link ApiResponse}; delega el contenido de {@code data} en el serializador de su tipo real.
+     */
+    static final class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        ApiResponseSerializer() {
+            super((Class) ApiResponse.class);
+        }
+
+        @Override
+        public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(value.isSuccess());
+            writeString(gen, MESSAGE, value.getMessage());
+            gen.writeFieldName(DATA);
+            Object data = value.getData();
+            if (data == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                JsonSerializer<Object> serializer = provider.findTypedValueSerializer(data.getClass(), true, null);
+                serializer.serialize(data, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Serializador de {@link LoginResponse}.
+     */
+    static final class LoginResponseSerializer extends StdSerializer<LoginResponse> {
+        LoginResponseSerializer() {
+            super(LoginResponse.class);
+        }
+
+        @Override
+        public void serialize(LoginResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, EMAIL, value.getEmail());
+            writeString(gen, ROL, value.getRol());
+            writeString(gen, TOKEN, value.getToken());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Serializador de {@link UsuarioResponseDTO}.
+     */
+    static final class UsuarioResponseSerializer extends StdSerializer<UsuarioResponseDTO> {
+        private final RolSerializer rolSerializer = new RolSerializer();
+
+        UsuarioResponseSerializer() {
+            super(UsuarioResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(UsuarioResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeLong(gen, ID_USUARIO, value.getIdUsuario());
+            writeString(gen, EMAIL, value.getEmail());
+            gen.writeFieldName(ROL);
+            if (value.getRol() == null) {
+                gen.writeNull();
+            } else {
+                rolSerializer.serialize(value.getRol(), gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Serializador de {@link RolDTO}.
+     */
+    static final class RolSerializer extends StdSerializer<RolDTO> {
+        RolSerializer() {
+            super(RolDTO.class);
+        }
+
+        @Override
+        public void serialize(RolDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeLong(gen, ID_ROL, value.getIdRol());
+            writeString(gen, NOMBRE, value.getNombre());
+            gen.writeFieldName(PERMISOS);
+            if (value.getPermisos() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (Permiso permiso : value.getPermisos()) {
+                    gen.writeString(permiso.name());
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+}
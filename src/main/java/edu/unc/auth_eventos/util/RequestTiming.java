@@ -0,0 +1,168 @@
+/**
+ * @file: RequestTiming.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 08:26:14 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.util.Locale;
+
+/**
+ * Registro del tiempo que una solicitud pasa en cada fase: base de datos, BCrypt, JWT, mapeo y serialización.
+ * <p>
+ * Cada hilo reutiliza su propio registro, así que medir no crea objetos. Fuera de una solicitud medida
+ * {@link #begin()} devuelve 0 y {@link #end(Phase, long)} no hace nada, por lo que las llamadas pueden quedarse
+ * en el código aunque la medición esté desactivada.
+ */
+public final class RequestTiming {
+    /**
+     * Fases medidas, con su nombre en el encabezado {@code Server-Timing}.
+     */
+    public enum Phase {
+        DB("db"),
+        HASH("hash"),
+        JWT("jwt"),
+        MAP("map"),
+        SERIALIZE("serialize");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+
+        /**
+         * Obtiene el nombre de la métrica.
+         *
+         * @return El nombre de la métrica.
+         */
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private boolean active;
+    private long started;
+    private long serializeStarted;
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Empieza a medir la solicitud del hilo actual.
+     *
+     * @return El registro de la solicitud.
+     */
+    public static RequestTiming start() {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            timing = new RequestTiming();
+            CURRENT.set(timing);
+        }
+        for (int i = 0; i < PHASES.length; i++) {
+            timing.nanos[i] = 0;
+            timing.counts[i] = 0;
+        }
+        timing.serializeStarted = 0;
+        timing.started = System.nanoTime();
+        timing.active = true;
+        return timing;
+    }
+
+    /**
+     * Marca el inicio de una fase.
+     *
+     * @return El instante de inicio, o 0 si la solicitud actual no se está midiendo.
+     */
+    public static long begin() {
+        RequestTiming timing = CURRENT.get();
+        return timing != null && timing.active ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Suma a una fase el tiempo transcurrido desde su inicio.
+     *
+     * @param phase La fase.
+     * @param begin El instante devuelto por {@link #begin()}.
+     */
+    public static void end(Phase phase, long begin) {
+        if (begin == 0) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.active) {
+            timing.nanos[phase.ordinal()] += System.nanoTime() - begin;
+            timing.counts[phase.ordinal()]++;
+        }
+    }
+
+    /**
+     * Marca el inicio de la escritura del cuerpo de la respuesta; la serialización termina con {@link #stop()}.
+     */
+    public static void beginSerialize() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.active && timing.serializeStarted == 0) {
+            timing.serializeStarted = System.nanoTime();
+        }
+    }
+
+    /**
+     * Termina la medición de la solicitud actual.
+     *
+     * @return La duración total en nanosegundos.
+     */
+    public long stop() {
+        long now = System.nanoTime();
+        if (serializeStarted != 0) {
+            nanos[Phase.SERIALIZE.ordinal()] += now - serializeStarted;
+            counts[Phase.SERIALIZE.ordinal()]++;
+        }
+        active = false;
+        return now - started;
+    }
+
+    /**
+     * Obtiene el tiempo acumulado de una fase.
+     *
+     * @param phase La fase.
+     * @return El tiempo en nanosegundos.
+     */
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Obtiene el número de veces que se midió una fase.
+     *
+     * @param phase La fase.
+     * @return El número de mediciones.
+     */
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * Da formato de encabezado {@code Server-Timing} a las fases medidas y a la duración total.
+     *
+     * @param totalNanos La duración total en nanosegundos.
+     * @return El valor del encabezado.
+     */
+    public String toServerTiming(long totalNanos) {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                header.append(phase.metric()).append(";dur=").append(millis(nanos[phase.ordinal()])).append(", ");
+            }
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * @file: SingleFlight.java
+ * @author: (c)2026 Yeison García
+ * @created: Oct 19, 2026 04:40:12 PM
+ */
+package edu.unc.auth_eventos.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las cargas concurrentes de una misma clave en una sola ejecución.
+ * <p>
+ * El primer hilo que pide una clave ejecuta la carga; los que piden la misma clave mientras tanto esperan y
+ * reciben el mismo resultado, o la misma excepción si la carga falla. Al terminar, la clave se libera, por lo
+ * que las llamadas posteriores vuelven a cargar: no es una caché.
+ *
+ * @param <K> Tipo de las claves.
+ * @param <V> Tipo de los valores.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Ejecuta la carga de una clave o se une a la que ya está en curso.
+     *
+     * @param key    La clave.
+     * @param loader La carga, se ejecuta en el hilo que llega primero.
+     * @return El valor cargado, puede ser nulo.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Obtiene el número de claves con una carga en curso.
+     *
+     * @return El número de cargas en curso.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
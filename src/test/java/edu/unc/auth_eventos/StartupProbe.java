@@ -0,0 +1,59 @@
+package edu.unc.auth_eventos;
+
+import edu.unc.auth_eventos.config.StartupReport;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.repository.RolRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Arranca la aplicación en un proceso aparte, hace un registro y un login, e imprime el tiempo transcurrido
+ * desde el inicio de la JVM hasta la primera respuesta de login correcta.
+ */
+public class StartupProbe {
+    public static final String RESULT_PREFIX = "TIME_TO_FIRST_LOGIN_MS=";
+
+    public static void main(String[] args) throws Exception {
+        int status = 1;
+        try {
+            SpringApplication application = new SpringApplication(AuthEventosApplication.class);
+            application.setApplicationStartup(new BufferingApplicationStartup(StartupReport.CAPACITY));
+            application.setDefaultProperties(Map.of("server.port", "0"));
+            ConfigurableApplicationContext context = application.run(args);
+
+            Rol rol = new Rol();
+            rol.setNombre("Cliente");
+            context.getBean(RolRepository.class).save(rol);
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String body = "{\"email\":\"probe@unc.edu.pe\",\"password\":\"secreto123\"}";
+            HttpClient client = HttpClient.newHttpClient();
+            for (String path : new String[]{"/auth/register", "/auth/login"}) {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header("Api-Version", "1")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException(path + " respondió " + response.statusCode() + ": " + response.body());
+                }
+            }
+            long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            System.out.println(RESULT_PREFIX + elapsed);
+            context.close();
+            status = 0;
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            System.exit(status);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package edu.unc.auth_eventos;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara el tiempo hasta el primer login de un arranque normal contra uno con AppCDS e inicialización diferida.
+ * Cada arranque es una JVM nueva; CDS solo archiva clases de jars, por eso los directorios de clases se empaquetan.
+ * <p>
+ * Es lenta (varios arranques completos) y depende del reloj, por eso está etiquetada y excluida de la suite
+ * por defecto: {@code ./mvnw test -Pbenchmark -Dtest=StartupTimeTest}.
+ */
+@Tag("startup")
+class StartupTimeTest {
+    private static final int RUNS = 2;
+    private static final double REQUIRED_IMPROVEMENT = 0.05;
+    private static final long PROBE_TIMEOUT_SECONDS = 180;
+
+    @Test
+    void cdsAndLazyInitializationReduceTimeToFirstLogin(@TempDir Path dir) throws Exception {
+        String classpath = classpath(dir);
+        Path archive = dir.resolve("application.jsa");
+
+        probe(classpath, "-XX:ArchiveClassesAtExit=" + archive);
+        assertTrue(Files.exists(archive), "No se generó el archivo CDS");
+
+        long baseline = Long.MAX_VALUE;
+        long optimized = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            baseline = Math.min(baseline, probe(classpath, "-Xshare:auto"));
+            optimized = Math.min(optimized, probe(classpath, "-XX:SharedArchiveFile=" + archive,
+                    "--spring.main.lazy-initialization=true"));
+        }
+        System.out.printf("tiempo hasta el primer login: normal=%d ms, CDS+diferido=%d ms (%.0f%%)%n",
+                baseline, optimized, 100.0 * (baseline - optimized) / baseline);
+        assertTrue(optimized <= baseline * (1 - REQUIRED_IMPROVEMENT),
+                "CDS e inicialización diferida no mejoraron al menos un 5% el tiempo hasta el primer login");
+    }
+
+    private static long probe(String classpath, String jvmOption, String... appArgs) throws Exception {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                jvmOption, "-Xlog:cds=off", "-Xlog:cds+dynamic=off", "-cp", classpath, StartupProbe.class.getName()));
+        command.addAll(List.of(appArgs));
+        Path log = Files.createTempFile("startup-probe", ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        boolean finished = process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (!finished) {
+            process.destroyForcibly().waitFor();
+        }
+        String output = Files.readString(log, StandardCharsets.UTF_8);
+        Files.deleteIfExists(log);
+        assertTrue(finished, "El arranque superó " + PROBE_TIMEOUT_SECONDS + " s:\n" + output);
+        assertEquals(0, process.exitValue(), output);
+        return output.lines()
+                .filter(line -> line.startsWith(StartupProbe.RESULT_PREFIX))
+                .mapToLong(line -> Long.parseLong(line.substring(StartupProbe.RESULT_PREFIX.length())))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(output));
+    }
+
+    private static String classpath(Path dir) throws IOException {
+        List<String> entries = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (Files.isDirectory(path)) {
+                Path jar = dir.resolve(path.getFileName() + ".jar");
+                jar(path, jar);
+                entries.add(jar.toString());
+            } else if (!path.getFileName().toString().startsWith("spring-boot-devtools")) {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void jar(Path source, Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target);
+             JarOutputStream jar = new JarOutputStream(out);
+             Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files.filter(file -> !file.equals(source))::iterator) {
+                String name = source.relativize(file).toString().replace(File.separatorChar, '/');
+                if (Files.isDirectory(file)) {
+                    // El escaneo de componentes de Spring necesita las entradas de directorio del jar.
+                    jar.putNextEntry(new JarEntry(name + "/"));
+                } else {
+                    jar.putNextEntry(new JarEntry(name));
+                    Files.copy(file, jar);
+                }
+                jar.closeEntry();
+            }
+        }
+    }
+}
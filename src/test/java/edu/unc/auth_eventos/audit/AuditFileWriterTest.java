@@ -0,0 +1,88 @@
+package edu.unc.auth_eventos.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditFileWriterTest {
+    private static final long DAY_1 = LocalDate.of(2026, 10, 19).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    private static final long DAY_2 = DAY_1 + 86_400_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesOneJsonLinePerEventWithEscaping() throws Exception {
+        try (AuditFileWriter writer = new AuditFileWriter(directory, 1_000_000)) {
+            writer.write(List.of(new AuditEvent(DAY_1, AuditEventType.LOGIN_FALLIDO, "a\"b@unc.edu.pe", null)));
+        }
+
+        assertEquals(List.of("{\"ts\":\"2026-10-19T00:00:00Z\",\"tipo\":\"LOGIN_FALLIDO\","
+                        + "\"email\":\"a\\\"b@unc.edu.pe\",\"detalle\":null}"),
+                Files.readAllLines(directory.resolve("audit-2026-10-19.0.log")));
+    }
+
+    @Test
+    void rotatesWhenFileWouldExceedMaxSize() throws Exception {
+        AuditEvent event = new AuditEvent(DAY_1, AuditEventType.REGISTRO, "user@unc.edu.pe", "x");
+        try (AuditFileWriter writer = new AuditFileWriter(directory, 1_000_000)) {
+            writer.write(List.of(event));
+        }
+        long lineLength = Files.size(directory.resolve("audit-2026-10-19.0.log"));
+        Files.delete(directory.resolve("audit-2026-10-19.0.log"));
+
+        try (AuditFileWriter writer = new AuditFileWriter(directory, lineLength * 2)) {
+            writer.write(List.of(event, event, event));
+            writer.write(List.of(event, event));
+        }
+
+        assertEquals(List.of("audit-2026-10-19.0.log", "audit-2026-10-19.1.log", "audit-2026-10-19.2.log"), files());
+        assertEquals(2, lines("audit-2026-10-19.0.log"));
+        assertEquals(2, lines("audit-2026-10-19.1.log"));
+        assertEquals(1, lines("audit-2026-10-19.2.log"));
+    }
+
+    @Test
+    void rotatesOnDayChangeAndRestartsIndex() throws Exception {
+        try (AuditFileWriter writer = new AuditFileWriter(directory, 1_000_000)) {
+            writer.write(List.of(new AuditEvent(DAY_1, AuditEventType.REGISTRO, "a@unc.edu.pe", null)));
+            writer.write(List.of(new AuditEvent(DAY_2, AuditEventType.REGISTRO, "b@unc.edu.pe", null)));
+        }
+
+        assertEquals(List.of("audit-2026-10-19.0.log", "audit-2026-10-20.0.log"), files());
+        assertTrue(Files.readString(directory.resolve("audit-2026-10-20.0.log")).contains("b@unc.edu.pe"));
+    }
+
+    @Test
+    void appendsToExistingFileAfterRestart() throws Exception {
+        AuditEvent event = new AuditEvent(DAY_1, AuditEventType.REGISTRO, "user@unc.edu.pe", null);
+        try (AuditFileWriter writer = new AuditFileWriter(directory, 1_000_000)) {
+            writer.write(List.of(event));
+        }
+        try (AuditFileWriter writer = new AuditFileWriter(directory, 1_000_000)) {
+            writer.write(List.of(event));
+        }
+
+        assertEquals(List.of("audit-2026-10-19.0.log"), files());
+        assertEquals(2, lines("audit-2026-10-19.0.log"));
+    }
+
+    private List<String> files() throws Exception {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private long lines(String file) throws Exception {
+        return Files.readAllLines(directory.resolve(file)).size();
+    }
+}
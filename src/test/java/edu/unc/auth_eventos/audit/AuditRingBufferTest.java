@@ -0,0 +1,106 @@
+package edu.unc.auth_eventos.audit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+    private static final int PRODUCERS = 4;
+
+    @Test
+    void rejectsWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+        assertTrue(buffer.offer(5));
+    }
+
+    @Test
+    void deliversEveryEventOnceInProducerOrder() throws Exception {
+        run(10_000, null);
+    }
+
+    /**
+     * Mide rendimiento y latencia de {@code offer}; solo se ejecuta con {@code -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void throughput() throws Exception {
+        int perProducer = 50_000;
+        long[] offerNanos = new long[PRODUCERS * perProducer];
+        long elapsed = run(perProducer, offerNanos);
+
+        Arrays.sort(offerNanos);
+        System.out.printf("audit ring buffer: %,d eventos/s, offer p50=%dns p99=%dns p99.9=%dns%n",
+                (long) offerNanos.length * 1_000_000_000L / elapsed,
+                offerNanos[offerNanos.length / 2],
+                offerNanos[(int) (offerNanos.length * 0.99)],
+                offerNanos[(int) (offerNanos.length * 0.999)]);
+    }
+
+    /**
+     * Publica desde varios productores y verifica en el consumidor que cada evento llega una vez y en orden.
+     *
+     * @return El tiempo total en nanosegundos.
+     */
+    private static long run(int perProducer, long[] offerNanos) throws Exception {
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            producers.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    long begin = System.nanoTime();
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                    if (offerNanos != null) {
+                        offerNanos[producer * perProducer + i] = System.nanoTime() - begin;
+                    }
+                }
+                return null;
+            });
+        }
+
+        long[] next = new long[PRODUCERS];
+        List<long[]> batch = new ArrayList<>(256);
+        int received = 0;
+        long begin = System.nanoTime();
+        start.countDown();
+        while (received < PRODUCERS * perProducer) {
+            batch.clear();
+            received += buffer.drainTo(batch, 256);
+            for (long[] event : batch) {
+                assertEquals(next[(int) event[0]]++, event[1]);
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, buffer.size());
+        for (long count : next) {
+            assertEquals(perProducer, count);
+        }
+        return elapsed;
+    }
+}
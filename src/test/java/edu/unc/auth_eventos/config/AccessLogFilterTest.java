@@ -0,0 +1,59 @@
+package edu.unc.auth_eventos.config;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogFilterTest {
+    @Test
+    void unsampledRequestsAreOnlyLoggedWhenTheyFail(CapturedOutput output) throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(0, 0, 10);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/roles"), new MockHttpServletResponse(),
+                (request, response) -> RequestLogContext.capture("select ok"));
+        filter.doFilter(new MockHttpServletRequest("GET", "/usuarios/1"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    RequestLogContext.capture("select fallida");
+                    ((MockHttpServletResponse) response).setStatus(503);
+                });
+        assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest("POST", "/auth/login"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new ServletException("caída");
+                }));
+
+        assertFalse(output.getOut().contains("GET /roles"));
+        assertFalse(output.getOut().contains("select ok"));
+        assertTrue(output.getOut().contains("GET /usuarios/1 503"));
+        assertTrue(output.getOut().contains("select fallida"));
+        assertTrue(output.getOut().contains("POST /auth/login 500"));
+        assertTrue(output.getOut().contains("error=ServletException"));
+        assertFalse(RequestLogContext.capture("fuera de una solicitud"));
+    }
+
+    @Test
+    void sampledRequestsKeepABoundedNumberOfStatements(CapturedOutput output) throws Exception {
+        AccessLogFilter filter = new AccessLogFilter(1, 0, 2);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/usuarios"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    for (int i = 0; i < 5; i++) {
+                        RequestLogContext.capture("select " + i);
+                    }
+                });
+
+        assertTrue(output.getOut().contains("GET /usuarios 200"));
+        assertTrue(output.getOut().contains("sql=5"));
+        assertTrue(output.getOut().contains("select 1"));
+        assertFalse(output.getOut().contains("select 2"));
+        assertTrue(output.getOut().contains("... 3 más"));
+    }
+}
@@ -0,0 +1,129 @@
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.util.AdaptiveLimit;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga del límite de concurrencia contra un servidor simulado con {@value #WORKERS} hilos de trabajo y
+ * {@value #SERVICE_MILLIS} ms por solicitud: con más clientes que hilos, sin límite la cola crece y el p99 con
+ * ella; con límite el p99 de las solicitudes admitidas se mantiene cerca del de saturación y el resto recibe 503.
+ * Solo se ejecuta con {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ConcurrencyLimitBenchmarkTest {
+    private static final int WORKERS = 4;
+    private static final long SERVICE_MILLIS = 2;
+    private static final long RUN_MILLIS = 3_000;
+    private static final int[] CLIENTS = {4, 16, 64, 256};
+
+    private final Semaphore workers = new Semaphore(WORKERS, true);
+    private final FilterChain server = (request, response) -> {
+        try {
+            workers.acquire();
+            try {
+                Thread.sleep(SERVICE_MILLIS);
+            } finally {
+                workers.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @Test
+    void p99HoldsSteadyBeyondSaturation() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new AdaptiveLimit(16, 8, 256),
+                new AdaptiveLimit(32, 2, 1000), new ObjectMapper().findAndRegisterModules());
+
+        double[] limited = new double[CLIENTS.length];
+        double[] unlimited = new double[CLIENTS.length];
+        for (int i = 0; i < CLIENTS.length; i++) {
+            limited[i] = run("con límite", CLIENTS[i], filter);
+            unlimited[i] = run("sin límite", CLIENTS[i], null);
+        }
+
+        // Con 16 clientes el servidor ya está saturado; de ahí en adelante el p99 no debe crecer con la carga.
+        double saturated = limited[1];
+        double beyond = limited[CLIENTS.length - 1];
+        assertTrue(beyond < saturated * 3, () -> "p99 con límite: " + Arrays.toString(limited));
+        assertTrue(unlimited[CLIENTS.length - 1] > beyond * 5, () -> "p99 sin límite: " + Arrays.toString(unlimited));
+    }
+
+    /**
+     * Ejecuta clientes en bucle cerrado durante {@value #RUN_MILLIS} ms; un cliente rechazado espera 5 ms.
+     *
+     * @return El p99 en milisegundos de las solicitudes admitidas.
+     */
+    private double run(String label, int clients, ConcurrencyLimitFilter filter) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[4096];
+                    int count = 0;
+                    long rejected = 0;
+                    while (System.nanoTime() < deadline) {
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        long begin = System.nanoTime();
+                        if (filter != null) {
+                            filter.doFilter(new MockHttpServletRequest("GET", "/usuarios"), response, server);
+                        } else {
+                            server.doFilter(new MockHttpServletRequest("GET", "/usuarios"), response);
+                        }
+                        long latency = System.nanoTime() - begin;
+                        if (response.getStatus() == 503) {
+                            rejected++;
+                            Thread.sleep(5);
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = latency;
+                    }
+                    long[] result = Arrays.copyOf(latencies, count + 1);
+                    result[count] = rejected;
+                    return result;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            long rejected = 0;
+            for (Future<long[]> future : futures) {
+                long[] result = future.get();
+                for (int i = 0; i < result.length - 1; i++) {
+                    all.add(result[i]);
+                }
+                rejected += result[result.length - 1];
+            }
+            long[] sorted = all.stream().mapToLong(Long::longValue).sorted().toArray();
+            double p50 = sorted[sorted.length / 2] / 1e6;
+            double p99 = sorted[(int) (sorted.length * 0.99)] / 1e6;
+            System.out.printf("%-10s %4d clientes: %,7.0f sol/s  p50 %6.1f ms  p99 %6.1f ms  503 %5.1f %%  límite %s%n",
+                    label, clients, sorted.length * 1000.0 / RUN_MILLIS, p50, p99,
+                    100.0 * rejected / (rejected + sorted.length),
+                    filter != null ? filter.getApiLimit().getLimit() : "-");
+            return p99;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.util.AdaptiveLimit;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new AdaptiveLimit(1, 1, 1), new AdaptiveLimit(10, 5, 10), new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void rejectsWith503WhenTheRouteLimitIsFull() throws Exception {
+        assertTrue(filter.getAuthLimit().tryAcquire());
+
+        MockHttpServletResponse rejected = send("/auth/login", HttpServletResponse.SC_OK);
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"statusCode\":503"));
+        assertEquals(0, executions.get());
+
+        // Las rutas autenticadas tienen su propio límite.
+        assertEquals(200, send("/usuarios", HttpServletResponse.SC_OK).getStatus());
+        assertEquals(1, executions.get());
+
+        filter.getAuthLimit().release(1, false);
+        assertEquals(200, send("/auth/login", HttpServletResponse.SC_OK).getStatus());
+        assertEquals(0, filter.getAuthLimit().getInFlight());
+    }
+
+    @Test
+    void serverErrorsShrinkTheLimit() throws Exception {
+        send("/usuarios", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        send("/usuarios", HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+
+        assertEquals(8, filter.getApiLimit().getLimit());
+        assertEquals(0, filter.getApiLimit().getInFlight());
+    }
+
+    private MockHttpServletResponse send(String uri, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+        });
+        return response;
+    }
+}
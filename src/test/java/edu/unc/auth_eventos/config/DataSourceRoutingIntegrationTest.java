@@ -0,0 +1,108 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.service.RolService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Verifica el enrutamiento con el contexto completo: JPA, {@code JpaTransactionManager} y dos bases H2.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + DataSourceRoutingIntegrationTest.PRIMARY_URL,
+        "app.datasource.routing.enabled=true",
+        "app.datasource.replica.urls=" + DataSourceRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.primary.pool-size=2",
+        "app.datasource.replica.pool-size=2"})
+class DataSourceRoutingIntegrationTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_it_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_it_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private RolService rolService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        // Hibernate crea el esquema en la principal; se copia tal cual a la réplica.
+        Path script = Files.createTempFile("schema", ".sql");
+        primary.execute("SCRIPT NODATA TO '" + script + "'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM '" + script + "'");
+        Files.delete(script);
+
+        replica.update("INSERT INTO rol (nombre, version) VALUES ('Replica', 0)");
+        replica.update("INSERT INTO usuario (email, password, id_rol, version) "
+                + "SELECT 'replica@unc.edu.pe', 'x', id_rol, 0 FROM rol WHERE nombre = 'Replica'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationContext.clear();
+        primary.update("DELETE FROM rol");
+    }
+
+    @Test
+    void usesRoutingDataSource() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+    }
+
+    @Test
+    void readOnlyServiceMethodsReadFromReplica() {
+        assertEquals(List.of("Replica"), nombres(rolService.getAll()));
+    }
+
+    @Test
+    void jwtFilterLookupReadsFromReplica() {
+        assertEquals("replica@unc.edu.pe", userDetailsService.loadUserByUsername("replica@unc.edu.pe").getUsername());
+    }
+
+    @Test
+    void writesGoToPrimaryAndPinLaterReadsOfTheSameRequest() throws Exception {
+        Rol rol = new Rol();
+        rol.setNombre("Principal");
+        rolService.save(rol);
+
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM rol WHERE nombre = 'Principal'", Integer.class));
+        assertEquals(List.of("Principal"), nombres(rolService.getAll()));
+
+        ReplicationContext.clear();
+        assertEquals(List.of("Replica"), nombres(rolService.getAll()));
+        assertThrows(UsernameNotFoundException.class, () -> {
+            ReplicationContext.markWrite();
+            userDetailsService.loadUserByUsername("replica@unc.edu.pe");
+        });
+    }
+
+    private static List<String> nombres(List<Rol> roles) {
+        return roles.stream().map(Rol::getNombre).toList();
+    }
+}
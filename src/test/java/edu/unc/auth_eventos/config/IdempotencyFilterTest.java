@@ -0,0 +1,285 @@
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyFilterTest {
+    private static final long TTL = 60_000;
+    private static final long WAIT = 5_000;
+    private static final int MAX_BODY = 64;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final IdempotencyFilter filter = new IdempotencyFilter(List.of("/usuarios"), TTL, 3, WAIT, MAX_BODY,
+            new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void replaysStoredResponseWithoutExecutingAgain() throws Exception {
+        MockHttpServletResponse first = send("k1", "{\"a\":1}", created());
+        MockHttpServletResponse second = send("k1", "{\"a\":1}", created());
+
+        assertEquals(1, executions.get());
+        assertEquals(201, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("/usuarios/1", second.getHeader("Location"));
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void rejectsKeyReusedWithAnotherBody() throws Exception {
+        send("k1", "{\"a\":1}", created());
+        MockHttpServletResponse other = send("k1", "{\"a\":2}", created());
+
+        assertEquals(422, other.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void serverErrorsAndExceptionsAreNotStored() throws Exception {
+        send("k1", "{}", (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        });
+        assertThrows(ServletException.class, () -> send("k1", "{}", (request, response) -> {
+            executions.incrementAndGet();
+            throw new ServletException("caída");
+        }));
+        assertEquals(201, send("k1", "{}", created()).getStatus());
+        send("k1", "{}", created());
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void entriesExpireAndStayBounded() throws Exception {
+        MutableClock clock = new MutableClock();
+        filter.setClock(clock);
+        for (int i = 0; i < 5; i++) {
+            send("k" + i, "{}", created());
+        }
+        assertEquals(3, filter.size());
+        send("k4", "{}", created());
+        assertEquals(5, executions.get());
+
+        clock.millis += TTL;
+        send("k4", "{}", created());
+        assertEquals(6, executions.get());
+        assertEquals(1, filter.size());
+    }
+
+    @Test
+    void ignoresRequestsWithoutKeyOrOutsideConfiguredPaths() throws Exception {
+        send(null, "{}", created());
+        send(null, "{}", created());
+        MockHttpServletRequest roles = request("/roles", "k1", "{}");
+        filter.doFilter(roles, new MockHttpServletResponse(), created());
+        filter.doFilter(request("/roles", "k1", "{}"), new MockHttpServletResponse(), created());
+
+        assertEquals(4, executions.get());
+        assertEquals(0, filter.size());
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirstExecution() throws Exception {
+        int threads = 8;
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> send("k1", "{}", slow)));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < threads; i++) {
+                responses.add(executor.submit(() -> send("k1", "{}", slow)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<MockHttpServletResponse> response : responses) {
+                MockHttpServletResponse result = response.get(5, TimeUnit.SECONDS);
+                assertEquals(201, result.getStatus());
+                assertEquals("{\"id\":1}", result.getContentAsString());
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void duplicateGivesUpWith409WhenTheFirstExecutionTakesTooLong() throws Exception {
+        IdempotencyFilter impatient = new IdempotencyFilter(List.of("/usuarios"), TTL, 3, 50, MAX_BODY,
+                new ObjectMapper().findAndRegisterModules());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FilterChain slow = (request, response) -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                created().doFilter(request, response);
+            };
+            Future<?> first = executor.submit(() -> {
+                impatient.doFilter(request("/usuarios", "k1", "{}"), new MockHttpServletResponse(), slow);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse duplicate = new MockHttpServletResponse();
+            impatient.doFilter(request("/usuarios", "k1", "{}"), duplicate, created());
+            assertEquals(409, duplicate.getStatus());
+            assertEquals("1", duplicate.getHeader("Retry-After"));
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            assertEquals(1, executions.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsOversizedBodiesWith413() throws Exception {
+        String large = "{\"a\":\"" + "x".repeat(MAX_BODY) + "\"}";
+        assertEquals(413, send("k1", large, created()).getStatus());
+
+        // Sin Content-Length el límite se aplica al leer.
+        MockHttpServletRequest streamed = new MockHttpServletRequest("POST", "/usuarios") {
+            @Override
+            public ServletInputStream getInputStream() {
+                byte[] content = large.getBytes(StandardCharsets.UTF_8);
+                return new DelegatingServletInputStream(new ByteArrayInputStream(content));
+            }
+        };
+        streamed.addHeader(IdempotencyFilter.KEY_HEADER, "k2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(streamed, response, created());
+        assertEquals(413, response.getStatus());
+
+        assertEquals(0, executions.get());
+        assertEquals(0, filter.size());
+    }
+
+    @Test
+    void readListenerIsNotifiedOfTheBufferedBody() throws Exception {
+        List<String> events = new ArrayList<>();
+        send("k1", "{}", (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("datos:" + new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("fin");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        });
+
+        assertEquals(List.of("datos:{}", "fin"), events);
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            // El controlador lee el cuerpo que el filtro ya consumió para calcular su huella.
+            assertTrue(request.getInputStream().readAllBytes().length > 0);
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setHeader("Location", "/usuarios/1");
+            http.setContentType("application/json");
+            http.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/usuarios", key, body), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.KEY_HEADER, key);
+        }
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = 1_000_000;
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
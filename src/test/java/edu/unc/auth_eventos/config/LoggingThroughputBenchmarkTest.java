@@ -0,0 +1,118 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Mide solicitudes por segundo con el perfil {@code prod} sin logs, con el log muestreado y con el antiguo log
+ * {@code DEBUG} de cada sentencia; solo se ejecuta con {@code -Pbenchmark}.
+ */
+@Tag("benchmark")
+@ActiveProfiles("prod")
+@SpringBootTest(properties = {"logging.file.path=target/benchmark-logs", "app.logging.sample-rate=0.01"})
+@AutoConfigureMockMvc
+class LoggingThroughputBenchmarkTest {
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 4_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void throughputWithLoggingOnAndOff() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol rol = new Rol();
+        rol.setNombre("Bench-" + suffix);
+        rol = rolRepository.save(rol);
+        Usuario usuario = new Usuario();
+        usuario.setEmail("bench-" + suffix + "@unc.edu.pe");
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+        String path = "/usuarios/" + usuario.getIdUsuario();
+        String token = jwtService.getToken(new CustomUserDetails(usuario));
+
+        run(path, token, REQUESTS);
+        for (int round = 0; round < 2; round++) {
+            levels(LogLevel.OFF, LogLevel.OFF);
+            report("sin logs", path, token);
+            levels(LogLevel.INFO, LogLevel.OFF);
+            report("muestreado 1%", path, token);
+            levels(LogLevel.INFO, LogLevel.DEBUG);
+            report("SQL debug", path, token);
+        }
+        levels(LogLevel.INFO, LogLevel.OFF);
+    }
+
+    private void levels(LogLevel access, LogLevel hibernateSql) {
+        loggingSystem.setLogLevel("edu.unc.auth_eventos.access", access);
+        loggingSystem.setLogLevel("edu.unc.auth_eventos.sql", access);
+        loggingSystem.setLogLevel("org.hibernate.SQL", hibernateSql);
+    }
+
+    private void report(String label, String path, String token) throws Exception {
+        long begin = System.nanoTime();
+        run(path, token, REQUESTS);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("logs %-14s: %,8.0f solicitudes/s%n", label, REQUESTS / seconds);
+    }
+
+    private void run(String path, String token, int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requests / THREADS; i++) {
+                        mockMvc.perform(get(path)
+                                        .header("Api-Version", "1")
+                                        .header("Authorization", "Bearer " + token))
+                                .andExpect(status().isOk());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
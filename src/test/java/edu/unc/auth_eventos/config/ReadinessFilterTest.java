@@ -0,0 +1,42 @@
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadinessFilterTest {
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ApplicationAvailability availability = mock(ApplicationAvailability.class);
+    private final ReadinessFilter filter = new ReadinessFilter(availability, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void rejectsWith503UntilTheApplicationAcceptsTraffic() throws Exception {
+        when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+        MockHttpServletResponse rejected = send("/auth/login");
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"statusCode\":503"));
+        assertEquals(0, executions.get());
+
+        when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+        assertEquals(200, send("/auth/login").getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    private MockHttpServletResponse send(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> executions.incrementAndGet());
+        return response;
+    }
+}
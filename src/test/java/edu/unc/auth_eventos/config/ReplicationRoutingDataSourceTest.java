@@ -0,0 +1,74 @@
+package edu.unc.auth_eventos.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicationRoutingDataSourceTest {
+    private JdbcTemplate jdbc;
+    private TransactionTemplate write;
+    private TransactionTemplate read;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = embedded("primary");
+        DataSource replica = embedded("replica");
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, List.of(replica), true);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        write = new TransactionTemplate(txManager);
+        read = new TransactionTemplate(txManager);
+        read.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", read.execute(status -> currentNode()));
+    }
+
+    @Test
+    void writeTransactionsGoToPrimary() {
+        assertEquals("primary", write.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readAfterWriteIsPinnedToPrimary() {
+        write.execute(status -> currentNode());
+        assertEquals("primary", read.execute(status -> currentNode()));
+
+        ReplicationContext.clear();
+        assertEquals("replica", read.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return jdbc.queryForObject("SELECT nombre FROM nodo", String.class);
+    }
+
+    private static DataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS nodo (nombre VARCHAR(20))");
+        jdbc.execute("DELETE FROM nodo");
+        jdbc.update("INSERT INTO nodo VALUES (?)", name);
+        return dataSource;
+    }
+}
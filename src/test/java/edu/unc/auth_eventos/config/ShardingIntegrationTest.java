@@ -0,0 +1,198 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.CambioService;
+import edu.unc.auth_eventos.service.RolService;
+import edu.unc.auth_eventos.service.UsuarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica el particionado de usuarios con el contexto completo y tres bases H2.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardingIntegrationTest.URL + "0" + ShardingIntegrationTest.OPTIONS,
+        "app.sharding.enabled=true",
+        "app.sharding.urls=" + ShardingIntegrationTest.URL + "1" + ShardingIntegrationTest.OPTIONS + ","
+                + ShardingIntegrationTest.URL + "2" + ShardingIntegrationTest.OPTIONS,
+        "app.sharding.schema-update=true",
+        "app.sharding.pool-size=2"})
+class ShardingIntegrationTest {
+    static final String URL = "jdbc:h2:mem:sharding_it_";
+    static final String OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolService rolService;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private Rol rol;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            shards.add(new JdbcTemplate(new DriverManagerDataSource(URL + i + OPTIONS, "sa", "")));
+        }
+        rol = rolRepository.findByNombre("Particionado");
+        if (rol == null) {
+            rol = new Rol();
+            rol.setNombre("Particionado");
+            rol = rolService.save(rol);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate shard : shards) {
+            shard.update("DELETE FROM usuario");
+        }
+    }
+
+    @Test
+    void usersLiveInTheShardOfTheirEmailAndTheirIdsCarryIt() throws Exception {
+        List<Usuario> usuarios = crear(12);
+
+        for (int shard = 0; shard < 3; shard++) {
+            int target = shard;
+            assertTrue(usuarios.stream().anyMatch(u -> shardRouter.shardForEmail(u.getEmail()) == target),
+                    "ningún email de prueba cae en la partición " + shard);
+        }
+        for (Usuario usuario : usuarios) {
+            int shard = shardRouter.shardForEmail(usuario.getEmail());
+            assertEquals(shard, shardRouter.shardForId(usuario.getIdUsuario()));
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i == shard ? 1 : 0, shards.get(i).queryForObject(
+                        "SELECT COUNT(*) FROM usuario WHERE email = ?", Integer.class, usuario.getEmail()));
+            }
+            assertEquals(usuario.getEmail(), usuarioService.getById(usuario.getIdUsuario()).getEmail());
+            assertEquals(usuario.getVersion(), usuarioService.getVersion(usuario.getIdUsuario()));
+            assertEquals(usuario.getEmail(), userDetailsService.loadUserByUsername(usuario.getEmail()).getUsername());
+        }
+    }
+
+    @Test
+    void listingMergesEveryShardInIdOrder() throws Exception {
+        List<Usuario> usuarios = crear(9);
+
+        List<Long> ids = usuarioService.getAll().stream().map(Usuario::getIdUsuario).toList();
+
+        assertEquals(usuarios.stream().map(Usuario::getIdUsuario).sorted().toList(), ids);
+    }
+
+    @Test
+    void rolesAreReplicatedToEveryShard() {
+        for (JdbcTemplate shard : shards) {
+            assertEquals(rol.getIdRol(), shard.queryForObject(
+                    "SELECT id_rol FROM rol WHERE nombre = 'Particionado'", Long.class));
+        }
+    }
+
+    @Test
+    void changesAreRecordedInTheShardOfTheUser() throws Exception {
+        List<Usuario> usuarios = crear(6);
+
+        for (Usuario usuario : usuarios) {
+            int shard = shardRouter.shardForEmail(usuario.getEmail());
+            List<Cambio> cambios = cambioService.getDesde(shard, 0, 1000);
+            assertTrue(cambios.stream().anyMatch(c -> c.getIdEntidad().equals(usuario.getIdUsuario())));
+        }
+    }
+
+    @Test
+    void deleteAndUpdateRouteByIdAndRejectAnEmailFromAnotherShard() throws Exception {
+        Usuario usuario = crear(1).get(0);
+        String otroEmail = emailFueraDe(shardRouter.shardForId(usuario.getIdUsuario()));
+
+        Usuario cambio = new Usuario();
+        cambio.setEmail(otroEmail);
+        cambio.setPassword("password");
+        cambio.setRol(rol);
+        assertThrows(IllegalOperationException.class, () -> usuarioService.update(usuario.getIdUsuario(), cambio));
+
+        usuarioService.delete(usuario.getIdUsuario());
+        assertTrue(usuarioRepository.findById(usuario.getIdUsuario()).isEmpty());
+    }
+
+    @Test
+    void aTransactionCannotSpanShards() {
+        String a = emailEn(0);
+        String b = emailEn(1);
+
+        InvalidDataAccessApiUsageException e = assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    usuarioRepository.findByEmail(a);
+                    usuarioRepository.findByEmail(b);
+                }));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertNull(ShardContext.get());
+    }
+
+    private List<Usuario> crear(int count) throws IllegalOperationException {
+        List<Usuario> usuarios = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Usuario usuario = new Usuario();
+            usuario.setEmail("usuario" + i + "@shard.unc.edu.pe");
+            usuario.setPassword("password");
+            usuario.setRol(rol);
+            usuarios.add(usuarioService.save(usuario));
+        }
+        usuarios.sort(Comparator.comparing(Usuario::getIdUsuario));
+        return usuarios;
+    }
+
+    private String emailEn(int shard) {
+        for (int i = 0; ; i++) {
+            String email = "buscar" + i + "@shard.unc.edu.pe";
+            if (shardRouter.shardForEmail(email) == shard) {
+                return email;
+            }
+        }
+    }
+
+    private String emailFueraDe(int shard) {
+        return emailEn((shard + 1) % 3);
+    }
+}
@@ -0,0 +1,84 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.RolService;
+import edu.unc.auth_eventos.service.UsuarioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que la caché de usuarios del filtro JWT se invalida con las escrituras de los servicios, que publican en
+ * el bus al confirmar.
+ */
+@SpringBootTest(properties = "app.usuarios.cache.enabled=true")
+class UserDetailsCacheTest {
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private RolService rolService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Test
+    void serviceWritesInvalidateCachedUsers() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol rol = new Rol();
+        rol.setNombre("Cache" + suffix.replaceAll("[^a-f]", "x"));
+        rol = rolRepository.save(rol);
+        Usuario usuario = new Usuario();
+        usuario.setEmail("cache-" + suffix + "@unc.edu.pe");
+        usuario.setPassword("original");
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+        String email = usuario.getEmail();
+
+        assertEquals("original", userDetailsService.loadUserByUsername(email).getPassword());
+
+        // Un cambio que no pasa por los servicios no se publica: se sigue sirviendo la entrada guardada.
+        usuario.setPassword("directa");
+        usuario = usuarioRepository.save(usuario);
+        assertEquals("original", userDetailsService.loadUserByUsername(email).getPassword());
+
+        Usuario cambios = new Usuario();
+        cambios.setPassword("nueva");
+        usuarioService.patch(usuario.getIdUsuario(), cambios);
+        assertTrue(userDetailsService.loadUserByUsername(email).getPassword().startsWith("$2"));
+
+        Rol permisos = new Rol();
+        permisos.setNombre(rol.getNombre());
+        permisos.setPermisos(Permiso.VER_REPORTES.mask());
+        rolService.update(rol.getIdRol(), permisos);
+        assertTrue(((CustomUserDetails) userDetailsService.loadUserByUsername(email)).tiene(Permiso.VER_REPORTES));
+
+        String nuevoEmail = "movido-" + suffix + "@unc.edu.pe";
+        cambios = new Usuario();
+        cambios.setEmail(nuevoEmail);
+        usuarioService.patch(usuario.getIdUsuario(), cambios);
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(email));
+        assertEquals(nuevoEmail, userDetailsService.loadUserByUsername(nuevoEmail).getUsername());
+
+        usuarioService.delete(usuario.getIdUsuario());
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(nuevoEmail));
+    }
+}
@@ -0,0 +1,81 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifica que una ráfaga de búsquedas concurrentes del mismo usuario, como las del filtro JWT, hace una sola consulta.
+ */
+@SpringBootTest
+class UserLookupCoalescingTest {
+    private static final int REQUESTS = 32;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @SpyBean
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void concurrentLookupsOfSameEmailRunOneQuery() throws Exception {
+        Rol rol = new Rol();
+        rol.setNombre("Rol-" + UUID.randomUUID());
+        rol = rolRepository.save(rol);
+        Usuario usuario = new Usuario();
+        usuario.setEmail(UUID.randomUUID() + "@unc.edu.pe");
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        Usuario saved = usuarioRepository.save(usuario);
+
+        CountDownLatch ready = new CountDownLatch(REQUESTS);
+        doAnswer(invocation -> {
+            // La consulta se alarga hasta que todas las solicitudes llegaron, más un margen para que entren a esperar.
+            ready.await(5, TimeUnit.SECONDS);
+            Thread.sleep(200);
+            return saved;
+        }).when(usuarioRepository).findByEmail(anyString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        List<Future<UserDetails>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return userDetailsService.loadUserByUsername(usuario.getEmail());
+            }));
+        }
+        for (Future<UserDetails> result : results) {
+            assertEquals(usuario.getEmail(), result.get(10, TimeUnit.SECONDS).getUsername());
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        verify(usuarioRepository, times(1)).findByEmail(usuario.getEmail());
+    }
+}
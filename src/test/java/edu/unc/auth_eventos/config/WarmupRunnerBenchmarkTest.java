@@ -0,0 +1,53 @@
+package edu.unc.auth_eventos.config;
+
+import edu.unc.auth_eventos.entity.Usuario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara el p99 de la ruta de token en frío y tras el calentamiento.
+ * <p>
+ * Solo tiene sentido en una JVM donde ninguna otra prueba haya ejecutado antes esas rutas, por eso se excluye
+ * por defecto: {@code ./mvnw test -Pbenchmark -Dtest=WarmupRunnerBenchmarkTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class WarmupRunnerBenchmarkTest {
+    private static final int SAMPLES = 200;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Test
+    void warmUpLowersTokenPathP99() throws Exception {
+        WarmupRunner runner = beanFactory.createBean(WarmupRunner.class);
+        Usuario usuario = WarmupRunner.syntheticUser(null, "x");
+
+        long cold = p99(runner, usuario);
+        WarmupRunner.Report report = runner.warmUp(Duration.ofSeconds(3));
+        long warm = p99(runner, usuario);
+
+        System.out.printf("ruta de token: p99 en frio=%d us, tras calentar=%d us (%d vueltas en %d ms)%n",
+                cold / 1_000, warm / 1_000, report.iterations(), report.elapsed().toMillis());
+        assertTrue(warm < cold, "El calentamiento no redujo el p99 de la ruta de token");
+    }
+
+    private static long p99(WarmupRunner runner, Usuario usuario) throws Exception {
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long begin = System.nanoTime();
+            runner.tokenRound(usuario);
+            nanos[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(nanos);
+        return nanos[(int) (SAMPLES * 0.99)];
+    }
+}
@@ -0,0 +1,98 @@
+package edu.unc.auth_eventos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.unc.auth_eventos.controller.RolController;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.service.RolService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmupRunnerTest {
+    private final JwtService jwtService = mock(JwtService.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final RolService rolService = mock(RolService.class);
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private RolController rolController;
+    private WarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        Rol cliente = new Rol();
+        cliente.setIdRol(1L);
+        cliente.setNombre("Cliente");
+        Rol administrador = new Rol();
+        administrador.setIdRol(2L);
+        administrador.setNombre("Administrador");
+        when(rolService.getCatalogVersion()).thenReturn("7");
+        when(rolService.getAll()).thenReturn(List.of(cliente, administrador));
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        when(jwtService.getToken(any(UserDetails.class))).thenReturn("token");
+
+        rolController = new RolController();
+        ReflectionTestUtils.setField(rolController, "rolService", rolService);
+        ReflectionTestUtils.setField(rolController, "modelMapper", modelMapper);
+        ReflectionTestUtils.setField(rolController, "objectMapper", objectMapper);
+
+        runner = new WarmupRunner();
+        ReflectionTestUtils.setField(runner, "jwtService", jwtService);
+        ReflectionTestUtils.setField(runner, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(runner, "modelMapper", modelMapper);
+        ReflectionTestUtils.setField(runner, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(runner, "rolController", rolController);
+        ReflectionTestUtils.setField(runner, "durationMillis", 0L);
+        ReflectionTestUtils.setField(runner, "passwordRounds", 2);
+    }
+
+    @Test
+    void reportsTheWarmUpAndLeavesTheRoleCatalogCached() throws Exception {
+        WarmupRunner.Report report = runner.warmUp(Duration.ZERO);
+
+        assertEquals(2, report.roles());
+        assertEquals(2, report.passwordRounds());
+        assertEquals(1, report.iterations());
+        assertEquals(report.firstRoundNanos(), report.lastRoundNanos());
+        assertNotNull(report.elapsed());
+        verify(passwordEncoder, times(2)).matches("warmup-password", "hash");
+        verify(jwtService).isTokenValid(eq("token"), any(UserDetails.class));
+
+        // El primer GET /roles sirve los bytes precargados sin volver a cargar el catálogo.
+        ResponseEntity<?> response = rolController.getAll(new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/roles"), new MockHttpServletResponse()));
+        assertEquals("\"roles-7\"", response.getHeaders().getETag());
+        verify(rolService, times(1)).getAll();
+    }
+
+    @Test
+    void failedWarmUpIsLoggedAndDoesNotStopTheStartup() {
+        when(jwtService.getToken(any(UserDetails.class))).thenThrow(new IllegalStateException("sin clave"));
+
+        assertDoesNotThrow(() -> runner.run(null));
+        verify(rolService).getAll();
+        verify(jwtService, never()).isTokenValid(anyString(), any(UserDetails.class));
+    }
+}
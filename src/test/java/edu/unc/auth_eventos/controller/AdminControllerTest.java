@@ -0,0 +1,76 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que la actividad de usuarios solo la consulta el rol administrador.
+ */
+@SpringBootTest(properties = "app.admin.rol=Operador")
+@AutoConfigureMockMvc
+class AdminControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void onlyAdminRoleReadsActivity() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol operador = rolRepository.findAll().stream()
+                .filter(rol -> rol.getNombre().equals("Operador"))
+                .findFirst()
+                .orElseGet(() -> rolRepository.save(rol("Operador")));
+        Rol otro = rolRepository.save(rol("Lector" + suffix.replaceAll("[0-9]", "x")));
+
+        mockMvc.perform(get("/admin/actividad")
+                        .header("Api-Version", "1")
+                        .header("Authorization", "Bearer " + token("lector-" + suffix + "@unc.edu.pe", otro)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/admin/actividad")
+                        .header("Api-Version", "1")
+                        .header("Authorization", "Bearer " + token("admin-" + suffix + "@unc.edu.pe", operador)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.usuariosUltimaHora").value(greaterThan(0)))
+                .andExpect(jsonPath("$.data.masActivosUltimaHora[0].email").exists())
+                .andExpect(jsonPath("$.data.memoriaBytes").value(greaterThan(0)));
+    }
+
+    private String token(String email, Rol rol) {
+        Usuario usuario = new Usuario();
+        usuario.setEmail(email);
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        return jwtService.getToken(new CustomUserDetails(usuarioRepository.save(usuario)));
+    }
+
+    private static Rol rol(String nombre) {
+        Rol rol = new Rol();
+        rol.setNombre(nombre);
+        return rol;
+    }
+}
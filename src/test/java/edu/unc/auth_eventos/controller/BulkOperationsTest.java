@@ -0,0 +1,171 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.CambioRepository;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.service.LoginAttemptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la reasignación masiva de rol y la eliminación masiva de usuarios por bloques.
+ */
+@SpringBootTest(properties = "app.usuarios.bulk-chunk-size=3")
+@AutoConfigureMockMvc
+class BulkOperationsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private CambioRepository cambioRepository;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private Rol origen;
+    private Rol destino;
+    private List<Usuario> usuarios;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        origen = rolRepository.save(rol("Origen-" + suffix));
+        destino = rolRepository.save(rol("Destino-" + suffix));
+        Rol admin = rol("Admin-" + suffix);
+        admin.setPermisos(Permiso.GESTIONAR_USUARIOS.mask());
+        admin = rolRepository.save(admin);
+
+        usuarios = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            usuarios.add(usuarioRepository.save(usuario(i + "-" + suffix + "@unc.edu.pe", origen)));
+        }
+        token = jwtService.getToken(new CustomUserDetails(usuarioRepository.save(usuario("admin-" + suffix + "@unc.edu.pe", admin))));
+    }
+
+    @Test
+    void reassignsEveryUserInChunksAndBumpsVersions() throws Exception {
+        long inicio = ultimaSecuencia();
+
+        perform("/usuarios/reasignar-rol",
+                "{\"idRolOrigen\":" + origen.getIdRol() + ",\"idRolDestino\":" + destino.getIdRol() + "}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.filasAfectadas").value(7))
+                .andExpect(jsonPath("$.data.bloques").value(3));
+
+        for (Usuario usuario : usuarios) {
+            Usuario actual = usuarioRepository.findById(usuario.getIdUsuario()).orElseThrow();
+            assertEquals(destino.getIdRol(), actual.getRol().getIdRol());
+            assertEquals(usuario.getVersion() + 1, actual.getVersion());
+        }
+        List<Cambio> cambios = cambiosDesde(inicio);
+        assertEquals(ids(usuarios), cambios.stream().map(Cambio::getIdEntidad).collect(Collectors.toList()));
+        assertTrue(cambios.stream().allMatch(c -> c.getTipo() == TipoCambio.ACTUALIZADO));
+    }
+
+    @Test
+    void reassignRejectsSameOrUnknownRole() throws Exception {
+        perform("/usuarios/reasignar-rol",
+                "{\"idRolOrigen\":" + origen.getIdRol() + ",\"idRolDestino\":" + origen.getIdRol() + "}")
+                .andExpect(status().isBadRequest());
+        perform("/usuarios/reasignar-rol", "{\"idRolOrigen\":" + origen.getIdRol() + ",\"idRolDestino\":-1}")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deletesInChunksIgnoringUnknownIdsAndForgetsLoginState() throws Exception {
+        List<Usuario> eliminados = usuarios.subList(0, 4);
+        String email = eliminados.get(0).getEmail();
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.loginFailed(email, true);
+        }
+        assertTrue(loginAttemptService.getLockRemaining(email) > 0);
+        long inicio = ultimaSecuencia();
+
+        List<Long> ids = new ArrayList<>(ids(eliminados));
+        ids.add(Long.MAX_VALUE >>> 30);
+        perform("/usuarios/eliminar", "{\"ids\":" + ids + "}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.filasAfectadas").value(4))
+                .andExpect(jsonPath("$.data.bloques").value(2));
+
+        for (Usuario usuario : usuarios) {
+            assertEquals(!eliminados.contains(usuario), usuarioRepository.findById(usuario.getIdUsuario()).isPresent());
+        }
+        assertEquals(ids(eliminados), cambiosDesde(inicio).stream().map(Cambio::getIdEntidad).toList());
+        assertEquals(0, loginAttemptService.getLockRemaining(email));
+
+        perform("/usuarios/eliminar", "{\"ids\":[]}").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions perform(String path, String body) throws Exception {
+        return mockMvc.perform(post(path)
+                .header("Api-Version", "1")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private long ultimaSecuencia() {
+        return cambioRepository.findAll(Sort.by(Sort.Direction.DESC, "secuencia")).stream()
+                .findFirst().map(Cambio::getSecuencia).orElse(0L);
+    }
+
+    private List<Cambio> cambiosDesde(long secuencia) {
+        return cambioRepository.findAll(Sort.by("secuencia")).stream()
+                .filter(c -> c.getSecuencia() > secuencia)
+                .toList();
+    }
+
+    private static List<Long> ids(List<Usuario> usuarios) {
+        return usuarios.stream().map(Usuario::getIdUsuario).toList();
+    }
+
+    private static Rol rol(String nombre) {
+        Rol rol = new Rol();
+        rol.setNombre(nombre);
+        return rol;
+    }
+
+    private static Usuario usuario(String email, Rol rol) {
+        Usuario usuario = new Usuario();
+        usuario.setEmail(email);
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        return usuario;
+    }
+}
@@ -0,0 +1,241 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Cambio;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.TipoCambio;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.exception.IllegalOperationException;
+import edu.unc.auth_eventos.repository.CambioRepository;
+import edu.unc.auth_eventos.service.CambioService;
+import edu.unc.auth_eventos.service.CambioServiceImp;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.service.RolService;
+import edu.unc.auth_eventos.service.UsuarioService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la bandeja de salida de cambios, el endpoint de cambios desde una secuencia y el flujo SSE.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CambioControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolService rolService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private CambioService cambioService;
+
+    @Autowired
+    private CambioRepository cambioRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Rol rol;
+    private String token;
+    private long inicio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rol = new Rol();
+        rol.setNombre("Rol" + letras());
+        rol = rolService.save(rol);
+        // Secuencia anterior al alta del rol; no se usa el máximo previo porque otra prueba pudo dejar un hueco.
+        inicio = cambioRepository.findAll().stream()
+                .filter(cambio -> cambio.getEntidad().equals("rol") && cambio.getIdEntidad().equals(rol.getIdRol()))
+                .mapToLong(Cambio::getSecuencia)
+                .findFirst().orElseThrow() - 1;
+
+        Usuario usuario = new Usuario();
+        usuario.setEmail(UUID.randomUUID() + "@unc.edu.pe");
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        token = jwtService.getToken(new CustomUserDetails(usuarioService.save(usuario)));
+    }
+
+    @Test
+    void deltaListsEveryMutationInOrder() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setEmail(UUID.randomUUID() + "@unc.edu.pe");
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        usuario = usuarioService.save(usuario);
+        usuario.setPassword("y");
+        usuarioService.update(usuario.getIdUsuario(), usuario);
+        usuarioService.delete(usuario.getIdUsuario());
+
+        mockMvc.perform(authorized(get("/cambios").param("desde", String.valueOf(inicio))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(5)))
+                .andExpect(jsonPath("$.data[*].entidad", contains("rol", "usuario", "usuario", "usuario", "usuario")))
+                .andExpect(jsonPath("$.data[*].tipo", contains("CREADO", "CREADO", "CREADO", "ACTUALIZADO", "ELIMINADO")))
+                .andExpect(jsonPath("$.data[0].datos.nombre").value(rol.getNombre()))
+                .andExpect(jsonPath("$.data[4].datos.email").value(usuario.getEmail()))
+                .andExpect(jsonPath("$.data[4].datos.password").doesNotExist());
+
+        mockMvc.perform(authorized(get("/cambios").param("desde", String.valueOf(inicio + 4))))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].tipo").value("ELIMINADO"));
+    }
+
+    @Test
+    void rolledBackMutationsAreNotPublished() {
+        long antes = ultimaSecuencia();
+        Rol duplicado = new Rol();
+        duplicado.setNombre(rol.getNombre());
+        assertThrows(IllegalOperationException.class, () -> rolService.save(duplicado));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Rol otro = new Rol();
+            otro.setNombre("Rol" + letras());
+            try {
+                rolService.save(otro);
+            } catch (IllegalOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+
+        assertTrue(cambioService.getDesde(0, antes, 10).isEmpty());
+    }
+
+    @Test
+    void readingStopsAtRecentGapUntilItSettles() {
+        long antes = ultimaSecuencia();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cambioRepository.save(cambio(LocalDateTime.now()));
+            status.setRollbackOnly();
+        });
+        Cambio despues = cambioRepository.save(cambio(LocalDateTime.now()));
+
+        assertTrue(cambioService.getDesde(0, antes, 10).isEmpty());
+
+        despues.setFecha(LocalDateTime.now().minusMinutes(1));
+        cambioRepository.save(despues);
+        assertEquals(List.of(despues.getSecuencia()),
+                cambioService.getDesde(0, antes, 10).stream().map(Cambio::getSecuencia).toList());
+    }
+
+    @Test
+    void slowWriterThatCommitsAfterTheGapSettledIsRepublished() throws Exception {
+        long antes = ultimaSecuencia();
+        CountDownLatch insertado = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            Future<?> lento = executor.submit(() -> template.executeWithoutResult(status -> {
+                Cambio cambio = cambio(LocalDateTime.now());
+                cambio.setIdEntidad(-7L);
+                cambioRepository.save(cambio);
+                insertado.countDown();
+                try {
+                    assertTrue(confirmar.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(insertado.await(10, TimeUnit.SECONDS));
+            // El cambio siguiente ya supera settle-ms, así que el hueco del escritor lento se da por definitivo.
+            Cambio despues = cambioRepository.save(cambio(LocalDateTime.now().minusMinutes(1)));
+            assertEquals(List.of(despues.getSecuencia()),
+                    cambioService.getDesde(0, antes, 10).stream().map(Cambio::getSecuencia).toList());
+
+            confirmar.countDown();
+            lento.get(10, TimeUnit.SECONDS);
+            // El relé también lo hace en segundo plano; con varias revisiones solo una copia llega a la bandeja.
+            ((CambioServiceImp) cambioService).recheckGaps();
+            List<Cambio> tardios = cambioService.getDesde(0, despues.getSecuencia(), 10).stream()
+                    .filter(cambio -> cambio.getIdEntidad() == -7L)
+                    .toList();
+            assertEquals(1, tardios.size());
+            assertTrue(tardios.get(0).getSecuencia() > despues.getSecuencia());
+        } finally {
+            confirmar.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void streamResumesAfterLastEventId() throws Exception {
+        MvcResult result = mockMvc.perform(authorized(get("/cambios/stream"))
+                        .header("Last-Event-ID", String.valueOf(inicio + 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ((CambioServiceImp) cambioService).relay();
+
+        String body = result.getResponse().getContentAsString();
+        assertFalse(body.contains("id:" + (inicio + 1) + "\n"), body);
+        assertTrue(body.contains("id:" + (inicio + 2) + "\n"), body);
+        assertTrue(body.contains("event:usuario\n"), body);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Api-Version", "1").header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private long ultimaSecuencia() {
+        return cambioRepository.findAll().stream().mapToLong(Cambio::getSecuencia).max().orElse(0);
+    }
+
+    private static Cambio cambio(LocalDateTime fecha) {
+        Cambio cambio = new Cambio();
+        cambio.setEntidad("rol");
+        cambio.setIdEntidad(0L);
+        cambio.setTipo(TipoCambio.ACTUALIZADO);
+        cambio.setFecha(fecha);
+        return cambio;
+    }
+
+    /**
+     * Sufijo aleatorio de solo letras, porque el nombre del rol no admite dígitos.
+     */
+    private static String letras() {
+        StringBuilder sufijo = new StringBuilder();
+        for (char c : UUID.randomUUID().toString().replace("-", "").toCharArray()) {
+            sufijo.append(Character.isDigit(c) ? (char) ('g' + (c - '0')) : c);
+        }
+        return sufijo.substring(0, 12);
+    }
+}
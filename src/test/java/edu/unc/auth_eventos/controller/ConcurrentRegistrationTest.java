@@ -0,0 +1,83 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Verifica que los registros simultáneos con el mismo email crean un solo usuario y que los demás reciben el
+ * error de operación ilegal en lugar de un 500.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConcurrentRegistrationTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void parallelDuplicateRegistrationsCreateOneUser() throws Exception {
+        if (rolRepository.findByNombre("Cliente") == null) {
+            Rol rol = new Rol();
+            rol.setNombre("Cliente");
+            rolRepository.save(rol);
+        }
+        String email = "dup-" + UUID.randomUUID().toString().substring(0, 8) + "@unc.edu.pe";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"password\"}";
+        long before = usuarioRepository.count();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/auth/register")
+                                    .header("Api-Version", "1")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(1, results.stream().filter(s -> s == 200).count(), results::toString);
+            assertTrue(results.stream().allMatch(s -> s == 200 || s == 400), results::toString);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(before + 1, usuarioRepository.count());
+        assertEquals(email, usuarioRepository.findByEmail(email).getEmail());
+    }
+}
@@ -0,0 +1,161 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.dto.UsuarioRequestDTO;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import edu.unc.auth_eventos.service.RolService;
+import edu.unc.auth_eventos.service.UsuarioService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica las lecturas condicionales con {@code If-None-Match} sobre roles y usuarios.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolService rolService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @SpyBean
+    private UsuarioService usuarioService;
+
+    @SpyBean
+    private ModelMapper modelMapper;
+
+    private Rol rol;
+    private Usuario usuario;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        rol = new Rol();
+        rol.setNombre("Rol-" + suffix);
+        rol = rolRepository.save(rol);
+
+        usuario = new Usuario();
+        usuario.setEmail(suffix + "@unc.edu.pe");
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+        token = jwtService.getToken(new CustomUserDetails(usuario));
+    }
+
+    @Test
+    void rolesAnswerNotModifiedForCurrentEtag() throws Exception {
+        String etag = etagOf(authorized(get("/roles")));
+
+        mockMvc.perform(authorized(get("/roles")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void rolesEtagChangesAfterUpdate() throws Exception {
+        String before = etagOf(authorized(get("/roles")));
+
+        Rol cambios = new Rol();
+        cambios.setNombre(rol.getNombre() + "-editado");
+        rolService.update(rol.getIdRol(), cambios);
+
+        String after = mockMvc.perform(authorized(get("/roles")).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(cambios.getNombre())))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void userAnswersNotModifiedWithoutLoadingOrMapping() throws Exception {
+        String etag = etagOf(authorized(get("/usuarios/" + usuario.getIdUsuario())));
+        clearInvocations(usuarioService, modelMapper);
+
+        mockMvc.perform(authorized(get("/usuarios/" + usuario.getIdUsuario())).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(usuarioService).getVersion(usuario.getIdUsuario());
+        verify(usuarioService, never()).getById(anyLong());
+        verify(modelMapper, never()).map(any(), eq(UsuarioRequestDTO.class));
+    }
+
+    @Test
+    void userEtagChangesAfterUpdate() throws Exception {
+        String before = etagOf(authorized(get("/usuarios/" + usuario.getIdUsuario())));
+
+        Usuario actual = usuarioRepository.findById(usuario.getIdUsuario()).orElseThrow();
+        actual.setIntentosFallidos(1);
+        usuarioRepository.save(actual);
+
+        String after = mockMvc.perform(authorized(get("/usuarios/" + usuario.getIdUsuario()))
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void userEtagChangesWithRoleCatalog() throws Exception {
+        String before = etagOf(authorized(get("/usuarios/" + usuario.getIdUsuario())));
+
+        Rol otro = new Rol();
+        otro.setNombre(rol.getNombre() + "-otro");
+        rolService.save(otro);
+
+        assertNotEquals(before, etagOf(authorized(get("/usuarios/" + usuario.getIdUsuario()))));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Api-Version", "1").header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private String etagOf(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals('"', etag.charAt(0));
+        return etag;
+    }
+}
@@ -0,0 +1,74 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.IdempotencyFilter;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que un registro repetido con la misma clave de idempotencia devuelve la respuesta original.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void retriedRegistrationReplaysTheFirstResponse() throws Exception {
+        if (rolRepository.findByNombre("Cliente") == null) {
+            Rol rol = new Rol();
+            rol.setNombre("Cliente");
+            rolRepository.save(rol);
+        }
+        String key = UUID.randomUUID().toString();
+        String email = "retry-" + key.substring(0, 8) + "@unc.edu.pe";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"password\"}";
+
+        MvcResult first = mockMvc.perform(register(key, body))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult retry = mockMvc.perform(register(key, body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertNotNull(usuarioRepository.findByEmail(email));
+
+        // Sin la clave, el reintento vuelve a ejecutarse y choca con el email existente.
+        mockMvc.perform(register(null, body)).andExpect(status().isBadRequest());
+        mockMvc.perform(register(key, body.replace("password\"}", "otra\"}")))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private static MockHttpServletRequestBuilder register(String key, String body) {
+        MockHttpServletRequestBuilder request = post("/auth/register")
+                .header("Api-Version", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+        return key != null ? request.header(IdempotencyFilter.KEY_HEADER, key) : request;
+    }
+}
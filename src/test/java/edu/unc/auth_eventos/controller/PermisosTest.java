@@ -0,0 +1,175 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que los permisos de un rol se guardan como mapa de bits, viajan en el token y se comprueban sin
+ * recorrer autoridades.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PermisosTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void rolePermissionsRoundTripThroughApiAndToken() throws Exception {
+        String nombre = "Taquilla" + UUID.randomUUID().toString().replaceAll("[^a-f]", "").substring(0, 4);
+        Usuario admin = usuario("perm-" + UUID.randomUUID().toString().substring(0, 8) + "@unc.edu.pe",
+                rolRepository.save(rol(nombre + "x", Permiso.GESTIONAR_ROLES.mask())));
+        String token = "Bearer " + jwtService.getToken(new CustomUserDetails(admin));
+
+        String id = mockMvc.perform(post("/roles")
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"" + nombre + "\",\"permisos\":[\"VENDER_ENTRADAS\",\"CREAR_EVENTO\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.permisos", contains("CREAR_EVENTO", "VENDER_ENTRADAS")))
+                .andReturn().getResponse().getContentAsString().replaceAll(".*\"idRol\":(\\d+).*", "$1");
+
+        Rol rol = rolRepository.findById(Long.valueOf(id)).orElseThrow();
+        assertEquals(Permiso.CREAR_EVENTO.mask() | Permiso.VENDER_ENTRADAS.mask(), rol.getPermisos());
+
+        // Se pueden cambiar los permisos conservando el nombre.
+        mockMvc.perform(put("/roles/" + id)
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"" + nombre + "\",\"permisos\":[\"ESCANEAR_ENTRADAS\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.permisos", contains("ESCANEAR_ENTRADAS")));
+
+        Usuario cajero = usuario("caja-" + id + "@unc.edu.pe", rolRepository.findById(Long.valueOf(id)).orElseThrow());
+        CustomUserDetails details = new CustomUserDetails(cajero);
+        assertEquals(Permiso.ESCANEAR_ENTRADAS.mask(), jwtService.getPermisosFromToken(jwtService.getToken(details)));
+        assertTrue(details.tiene(Permiso.ESCANEAR_ENTRADAS));
+        assertFalse(details.tiene(Permiso.VENDER_ENTRADAS));
+        assertTrue(CustomUserDetails.tiene(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()), Permiso.ESCANEAR_ENTRADAS));
+
+        mockMvc.perform(get("/usuarios/" + cajero.getIdUsuario())
+                        .header("Api-Version", "1")
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rol.permisos", contains("ESCANEAR_ENTRADAS")));
+    }
+
+    @Test
+    void registeredClientCannotGrantItselfPermissions() throws Exception {
+        if (rolRepository.findByNombre("Cliente") == null) {
+            rolRepository.save(rol("Cliente", 0));
+        }
+        String email = "cliente-" + UUID.randomUUID().toString().substring(0, 8) + "@unc.edu.pe";
+        String body = mockMvc.perform(post("/auth/register")
+                        .header("Api-Version", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = "Bearer " + body.replaceAll(".*\"token\":\"([^\"]+)\".*", "$1");
+        Usuario cliente = usuarioRepository.findByEmail(email);
+        String sufijo = UUID.randomUUID().toString().replaceAll("[^a-f]", "").substring(0, 4);
+        Rol todos = rolRepository.save(rol("Todos" + sufijo, Permiso.toBits(EnumSet.allOf(Permiso.class))));
+        String permisos = "[\"GESTIONAR_ROLES\",\"GESTIONAR_USUARIOS\",\"VER_REPORTES\"]";
+
+        mockMvc.perform(post("/roles")
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Escalada\",\"permisos\":" + permisos + "}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/roles/" + cliente.getRol().getIdRol())
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Cliente\",\"permisos\":" + permisos + "}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/usuarios/" + cliente.getIdUsuario())
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rol\":{\"idRol\":" + todos.getIdRol() + "}}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/usuarios/reasignar-rol")
+                        .header("Api-Version", "1")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"idRolOrigen\":" + cliente.getRol().getIdRol() + ",\"idRolDestino\":"
+                                + todos.getIdRol() + "}"))
+                .andExpect(status().isForbidden());
+
+        Usuario actual = usuarioRepository.findByEmail(email);
+        assertEquals(cliente.getRol().getIdRol(), actual.getRol().getIdRol());
+        assertEquals(0, rolRepository.findByNombre("Cliente").getPermisos());
+    }
+
+    @Test
+    void authoritiesAreSharedBetweenUsersWithTheSameRole() {
+        Rol rol = rol("Organizador", Permiso.toBits(EnumSet.of(Permiso.CREAR_EVENTO, Permiso.VER_REPORTES)));
+        Usuario a = new Usuario();
+        a.setRol(rol);
+        Usuario b = new Usuario();
+        b.setRol(rol);
+
+        CustomUserDetails first = new CustomUserDetails(a);
+        assertSame(first.getAuthorities(), new CustomUserDetails(b).getAuthorities());
+        assertSame(first.getAuthorities(), first.getAuthorities());
+        assertEquals(List.of("Organizador", "PERM_CREAR_EVENTO", "PERM_VER_REPORTES"),
+                first.getAuthorities().stream().map(Object::toString).toList());
+        assertSame(Permiso.CREAR_EVENTO.authority(), first.getAuthorities().stream().skip(1).findFirst().orElseThrow());
+    }
+
+    private Usuario usuario(String email, Rol rol) {
+        Usuario usuario = new Usuario();
+        usuario.setEmail(email);
+        usuario.setPassword("x");
+        usuario.setRol(rol);
+        return usuarioRepository.save(usuario);
+    }
+
+    private static Rol rol(String nombre, long permisos) {
+        Rol rol = new Rol();
+        rol.setNombre(nombre);
+        rol.setPermisos(permisos);
+        return rol;
+    }
+}
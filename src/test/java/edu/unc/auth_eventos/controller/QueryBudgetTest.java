@@ -0,0 +1,179 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fija el número exacto de sentencias SQL de cada endpoint con varios tamaños de datos, para que un N+1
+ * (por ejemplo a través de {@code Rol.usuarios} o de la carga del rol de cada usuario) rompa la compilación.
+ * <p>
+ * Las sentencias se cuentan en el hilo de la solicitud con {@link StatementCounter}, incluida la búsqueda del
+ * usuario autenticado en el filtro JWT; el trabajo en segundo plano no entra en el presupuesto. Las operaciones
+ * masivas escriben una fila de la bandeja de salida por usuario afectado (la clave {@code IDENTITY} impide
+ * agruparlas), así que su presupuesto es una parte fija más una sentencia por fila.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "edu.unc.auth_eventos.controller.StatementCounter")
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String suffix;
+    private Rol rol;
+    private Rol otroRol;
+    private List<Usuario> usuarios;
+    private String token;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void authEndpointsStayWithinBudget(int size) throws Exception {
+        seed(size);
+        if (rolRepository.findByNombre("Cliente") == null) {
+            rolRepository.save(rol("Cliente"));
+        }
+
+        assertBudget(2, "POST /auth/login", null, post("/auth/login")
+                .content("{\"email\":\"" + usuarios.get(0).getEmail() + "\",\"password\":\"password\"}"));
+        assertBudget(3, "POST /auth/register", null, post("/auth/register")
+                .content("{\"email\":\"nuevo-" + suffix + "@unc.edu.pe\",\"password\":\"password\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void rolEndpointsStayWithinBudget(int size) throws Exception {
+        seed(size);
+
+        assertBudget(4, "GET /roles (catálogo nuevo)", token, get("/roles"));
+        assertBudget(2, "GET /roles (catálogo en caché)", token, get("/roles"));
+        assertBudget(2, "GET /roles/{id}", token, get("/roles/" + rol.getIdRol()));
+        assertBudget(4, "POST /roles", token, post("/roles")
+                .content("{\"nombre\":\"Nuevo " + letters(suffix) + "\"}"));
+        assertBudget(5, "PUT /roles/{id}", token, put("/roles/" + otroRol.getIdRol())
+                .content("{\"nombre\":\"Otro " + letters(suffix) + "\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void usuarioEndpointsStayWithinBudget(int size) throws Exception {
+        seed(size);
+        Usuario usuario = usuarios.get(0);
+
+        assertBudget(2, "GET /usuarios", token, get("/usuarios"));
+        assertBudget(4, "GET /usuarios/{id}", token, get("/usuarios/" + usuario.getIdUsuario()));
+        assertBudget(4, "POST /usuarios", token, post("/usuarios").content(
+                "{\"email\":\"alta-" + suffix + "@unc.edu.pe\",\"password\":\"password\",\"rol\":{\"idRol\":"
+                        + rol.getIdRol() + ",\"nombre\":\"" + rol.getNombre() + "\"}}"));
+        Usuario alta = usuarioRepository.findByEmail("alta-" + suffix + "@unc.edu.pe");
+        assertBudget(5, "PUT /usuarios/{id}", token, put("/usuarios/" + usuario.getIdUsuario()).content(
+                "{\"email\":\"" + usuario.getEmail() + "\",\"password\":\"password\",\"rol\":{\"idRol\":"
+                        + otroRol.getIdRol() + ",\"nombre\":\"" + otroRol.getNombre() + "\"}}"));
+        assertBudget(5, "PATCH /usuarios/{id}", token, patch("/usuarios/" + usuario.getIdUsuario())
+                .content("{\"rol\":{\"idRol\":" + rol.getIdRol() + "}}"));
+
+        // Usuarios de índice par más el dado de alta; cabe en un bloque y la última página sale vacía.
+        int reasignados = (size + 1) / 2 + 1;
+        assertBudget(7 + reasignados, "POST /usuarios/reasignar-rol", token, post("/usuarios/reasignar-rol")
+                .content("{\"idRolOrigen\":" + rol.getIdRol() + ",\"idRolDestino\":" + otroRol.getIdRol() + "}"));
+
+        List<Long> ids = new ArrayList<>(usuarios.subList(1, size).stream().map(Usuario::getIdUsuario).toList());
+        ids.add(alta.getIdUsuario());
+        assertBudget(3 + ids.size(), "POST /usuarios/eliminar", token, post("/usuarios/eliminar")
+                .content("{\"ids\":" + ids + "}"));
+        assertBudget(4, "DELETE /usuarios/{id}", token, delete("/usuarios/" + usuario.getIdUsuario()));
+    }
+
+    private void seed(int size) {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+        rol = rolRepository.save(rol("Presupuesto-" + suffix));
+        otroRol = rolRepository.save(rol("PresupuestoOtro-" + suffix));
+        String password = passwordEncoder.encode("password");
+        usuarios = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Usuario usuario = new Usuario();
+            usuario.setEmail(i + "-" + suffix + "@unc.edu.pe");
+            usuario.setPassword(password);
+            usuario.setRol(i % 2 == 0 ? rol : otroRol);
+            usuarios.add(usuarioRepository.save(usuario));
+        }
+        Usuario admin = new Usuario();
+        admin.setEmail("admin-" + suffix + "@unc.edu.pe");
+        admin.setPassword(password);
+        Rol gestion = rol("PresupuestoGestion-" + suffix);
+        gestion.setPermisos(Permiso.GESTIONAR_ROLES.mask() | Permiso.GESTIONAR_USUARIOS.mask());
+        admin.setRol(rolRepository.save(gestion));
+        token = jwtService.getToken(new CustomUserDetails(usuarioRepository.save(admin)));
+    }
+
+    private void assertBudget(int budget, String endpoint, String token, MockHttpServletRequestBuilder request)
+            throws Exception {
+        request.header("Api-Version", "1").contentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        StatementCounter.start();
+        List<String> statements;
+        try {
+            mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        } finally {
+            statements = StatementCounter.stop();
+        }
+        assertEquals(budget, statements.size(),
+                () -> endpoint + " no cumple su presupuesto de sentencias:\n" + String.join("\n", statements));
+    }
+
+    /**
+     * Convierte el sufijo aleatorio en letras, porque los nombres de rol solo admiten letras.
+     */
+    private static String letters(String value) {
+        StringBuilder letters = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            letters.append(Character.isDigit(c) ? (char) ('a' + c - '0') : c);
+        }
+        return letters.toString();
+    }
+
+    private static Rol rol(String nombre) {
+        Rol rol = new Rol();
+        rol.setNombre(nombre);
+        return rol;
+    }
+}
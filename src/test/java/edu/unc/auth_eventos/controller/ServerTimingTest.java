@@ -0,0 +1,97 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica el encabezado {@code Server-Timing} con la medición por fases activada.
+ */
+@SpringBootTest(properties = "app.timing.enabled=true")
+@AutoConfigureMockMvc
+class ServerTimingTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol rol = new Rol();
+        rol.setNombre("Timing-" + suffix);
+        rol = rolRepository.save(rol);
+
+        usuario = new Usuario();
+        usuario.setEmail("timing-" + suffix + "@unc.edu.pe");
+        usuario.setPassword(passwordEncoder.encode("password"));
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    void authenticatedReadReportsDbJwtMapAndSerializePhases() throws Exception {
+        mockMvc.perform(get("/usuarios/" + usuario.getIdUsuario())
+                        .header("Api-Version", "1")
+                        .header("Authorization", "Bearer " + jwtService.getToken(new CustomUserDetails(usuario))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("db;dur="), containsString("jwt;dur="), containsString("map;dur="),
+                        containsString("serialize;dur="), not(containsString("hash;")),
+                        matchesPattern(".*total;dur=\\d+\\.\\d$"))));
+    }
+
+    @Test
+    void loginReportsTheHashPhase() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .header("Api-Version", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + usuario.getEmail() + "\",\"password\":\"password\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("hash;dur="), containsString("jwt;dur="))));
+    }
+
+    @Test
+    void changeStreamIsNotBuffered() throws Exception {
+        mockMvc.perform(get("/cambios/stream")
+                        .header("Api-Version", "1")
+                        .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .header("Authorization", "Bearer " + jwtService.getToken(new CustomUserDetails(usuario))))
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+}
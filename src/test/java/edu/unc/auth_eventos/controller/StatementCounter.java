@@ -0,0 +1,39 @@
+package edu.unc.auth_eventos.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registra las sentencias que Hibernate prepara en el hilo que lo pidió, sin contar las de otros hilos
+ * (bandeja de salida, volcado de intentos, particiones en paralelo).
+ */
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Empieza a registrar las sentencias del hilo actual.
+     */
+    static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * Deja de registrar y devuelve las sentencias del hilo actual.
+     */
+    static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
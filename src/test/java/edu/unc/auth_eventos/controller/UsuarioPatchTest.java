@@ -0,0 +1,149 @@
+package edu.unc.auth_eventos.controller;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Permiso;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la actualización parcial de usuarios con {@code PATCH /usuarios/{id}}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UsuarioPatchTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    private Rol rol;
+    private Rol otroRol;
+    private Usuario usuario;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        rol = rolRepository.save(rol("Patch-" + suffix));
+        otroRol = rolRepository.save(rol("PatchOtro-" + suffix));
+
+        usuario = new Usuario();
+        usuario.setEmail(suffix.substring(0, 8) + "@unc.edu.pe");
+        usuario.setPassword(passwordEncoder.encode("password"));
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+        Usuario admin = new Usuario();
+        admin.setEmail("admin-" + suffix.substring(0, 8) + "@unc.edu.pe");
+        admin.setPassword("x");
+        admin.setRol(rolRepository.save(rol("PatchAdmin-" + suffix, Permiso.GESTIONAR_USUARIOS.mask())));
+        token = jwtService.getToken(new CustomUserDetails(usuarioRepository.save(admin)));
+        clearInvocations(passwordEncoder);
+    }
+
+    @Test
+    void roleOnlyChangeKeepsThePasswordHash() throws Exception {
+        patchUser("{\"rol\":{\"idRol\":" + otroRol.getIdRol() + "}}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.camposModificados", contains("rol")))
+                .andExpect(jsonPath("$.data.usuario.rol.idRol").value(otroRol.getIdRol()));
+
+        Usuario actual = usuarioRepository.findById(usuario.getIdUsuario()).orElseThrow();
+        assertEquals(usuario.getPassword(), actual.getPassword());
+        assertEquals(otroRol.getIdRol(), actual.getRol().getIdRol());
+        assertEquals(usuario.getVersion() + 1, actual.getVersion());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void newPasswordIsHashed() throws Exception {
+        patchUser("{\"password\":\"nueva-clave\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.camposModificados", contains("password")));
+
+        Usuario actual = usuarioRepository.findById(usuario.getIdUsuario()).orElseThrow();
+        assertTrue(passwordEncoder.matches("nueva-clave", actual.getPassword()));
+        assertEquals(rol.getIdRol(), actual.getRol().getIdRol());
+    }
+
+    @Test
+    void unchangedFieldsAreNotWritten() throws Exception {
+        patchUser("{\"email\":\"" + usuario.getEmail() + "\",\"rol\":{\"idRol\":" + rol.getIdRol() + "}}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Usuario sin cambios"))
+                .andExpect(jsonPath("$.data.camposModificados", empty()));
+
+        assertEquals(usuario.getVersion(), usuarioRepository.findVersionById(usuario.getIdUsuario()));
+    }
+
+    @Test
+    void emailInUseIsRejected() throws Exception {
+        Usuario otro = new Usuario();
+        otro.setEmail("o" + usuario.getEmail());
+        otro.setPassword("x");
+        otro.setRol(rol);
+        usuarioRepository.save(otro);
+
+        // Sin búsqueda previa: lo rechaza el índice único al vaciar y la transacción se revierte.
+        patchUser("{\"email\":\"" + otro.getEmail() + "\"}")
+                .andExpect(status().isBadRequest());
+        assertEquals(usuario.getVersion(), usuarioRepository.findVersionById(usuario.getIdUsuario()));
+        patchUser("{\"password\":\"123\"}")
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions patchUser(String body) throws Exception {
+        return mockMvc.perform(patch("/usuarios/" + usuario.getIdUsuario())
+                .header("Api-Version", "1")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private static Rol rol(String nombre) {
+        return rol(nombre, 0);
+    }
+
+    private static Rol rol(String nombre, long permisos) {
+        Rol rol = new Rol();
+        rol.setNombre(nombre);
+        rol.setPermisos(permisos);
+        return rol;
+    }
+}
@@ -0,0 +1,148 @@
+package edu.unc.auth_eventos.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvalidationBusTest {
+    private static final long NEVER = 3_600_000;
+
+    private final InMemoryTransport.Hub hub = new InMemoryTransport.Hub();
+    private final List<byte[]> datagrams = new ArrayList<>();
+    private InvalidationBus sender;
+    private InvalidationBus receiver;
+    private RecordingListener remote;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sender = new InvalidationBus(new InMemoryTransport(hub) {
+            @Override
+            public void send(byte[] datagram) {
+                datagrams.add(datagram);
+                super.send(datagram);
+            }
+        }, NEVER, 0);
+        receiver = new InvalidationBus(new InMemoryTransport(hub), NEVER, NEVER);
+        remote = new RecordingListener();
+        receiver.subscribe(InvalidationBus.REGION_USUARIOS, remote);
+        sender.start();
+        receiver.start();
+        // El primer latido presenta al emisor.
+        sender.flush();
+        datagrams.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.close();
+        receiver.close();
+    }
+
+    @Test
+    void deliversLocallyAtOnceAndRemotelyOnFlush() {
+        RecordingListener local = new RecordingListener();
+        sender.subscribe(InvalidationBus.REGION_USUARIOS, local);
+
+        sender.publish(InvalidationBus.REGION_USUARIOS, "a@unc.edu.pe", 3);
+        assertEquals(List.of("a@unc.edu.pe:3"), local.events);
+        assertTrue(remote.events.isEmpty());
+
+        sender.flush();
+        assertEquals(List.of("a@unc.edu.pe:3"), remote.events);
+        assertEquals(List.of("a@unc.edu.pe:3"), local.events);
+    }
+
+    @Test
+    void coalescesRepeatedKeysKeepingTheHighestVersion() {
+        sender.publish(InvalidationBus.REGION_USUARIOS, "a@unc.edu.pe", 1);
+        sender.publish(InvalidationBus.REGION_USUARIOS, "b@unc.edu.pe", 7);
+        sender.publish(InvalidationBus.REGION_USUARIOS, "a@unc.edu.pe", 3);
+        sender.publish(InvalidationBus.REGION_USUARIOS, "a@unc.edu.pe", 2);
+        sender.flush();
+
+        assertEquals(1, datagrams.size());
+        assertEquals(List.of("a@unc.edu.pe:3", "b@unc.edu.pe:7"), remote.events);
+    }
+
+    @Test
+    void splitsLargeBatchesIntoSmallDatagrams() {
+        for (int i = 0; i < 500; i++) {
+            sender.publish(InvalidationBus.REGION_USUARIOS, "usuario" + i + "@unc.edu.pe", i);
+        }
+        sender.flush();
+
+        assertTrue(datagrams.size() > 1);
+        datagrams.forEach(d -> assertTrue(d.length <= InvalidationBus.MAX_DATAGRAM_BYTES));
+        assertEquals(500, remote.events.size());
+        assertEquals(0, receiver.getGapCount());
+    }
+
+    @Test
+    void lostDatagramResetsReceiverOnNextMessage() {
+        hub.dropNext(1);
+        sender.publish(InvalidationBus.REGION_USUARIOS, "perdido@unc.edu.pe", 1);
+        sender.flush();
+        assertTrue(remote.events.isEmpty());
+
+        sender.publish(InvalidationBus.REGION_USUARIOS, "b@unc.edu.pe", 2);
+        sender.flush();
+
+        assertEquals(List.of("reset", "b@unc.edu.pe:2"), remote.events);
+        assertEquals(1, receiver.getGapCount());
+    }
+
+    @Test
+    void heartbeatRevealsLossAtTheEndOfABurst() {
+        hub.dropNext(1);
+        sender.publish(InvalidationBus.REGION_USUARIOS, "perdido@unc.edu.pe", 1);
+        sender.flush();
+
+        sender.flush();
+
+        assertEquals(List.of("reset"), remote.events);
+    }
+
+    @Test
+    void regionResetReplacesPendingKeysOfTheRegion() {
+        RecordingListener roles = new RecordingListener();
+        receiver.subscribe(InvalidationBus.REGION_ROLES, roles);
+
+        sender.publish(InvalidationBus.REGION_USUARIOS, "a@unc.edu.pe", 1);
+        sender.publish(InvalidationBus.REGION_ROLES, "4", 2);
+        sender.publishReset(InvalidationBus.REGION_USUARIOS);
+        sender.flush();
+
+        assertEquals(List.of("reset"), remote.events);
+        assertEquals(List.of("4:2"), roles.events);
+    }
+
+    @Test
+    void ignoresMalformedDatagrams() {
+        long received = receiver.getReceivedCount();
+        receiver.receive(new byte[]{1, 2, 3});
+
+        assertTrue(remote.events.isEmpty());
+        assertEquals(received, receiver.getReceivedCount());
+    }
+
+    private static final class RecordingListener implements InvalidationListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void invalidate(String key, long version) {
+            events.add(key + ":" + version);
+        }
+
+        @Override
+        public void reset() {
+            events.add("reset");
+        }
+    }
+}
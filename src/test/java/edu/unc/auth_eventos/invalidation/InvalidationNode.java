@@ -0,0 +1,54 @@
+package edu.unc.auth_eventos.invalidation;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Instancia mínima para {@link MulticastInvalidationTest}: une un bus multicast a una {@link VersionedCache},
+ * escribe en la salida estándar lo que recibe y publica las invalidaciones que le llegan por la entrada estándar.
+ * Termina al cerrarse la entrada.
+ */
+public final class InvalidationNode {
+    private InvalidationNode() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        MulticastTransport transport = new MulticastTransport(InetAddress.getByName(args[0]),
+                Integer.parseInt(args[1]), NetworkInterface.getByName(args[2]), 1);
+        InvalidationBus bus = new InvalidationBus(transport, 10, 100);
+        VersionedCache<String> cache = new VersionedCache<>(100, 60_000);
+        cache.get("a@unc.edu.pe", key -> "v1", value -> 1);
+        bus.subscribe(InvalidationBus.REGION_USUARIOS, cache);
+        bus.subscribe(InvalidationBus.REGION_USUARIOS, new InvalidationListener() {
+            @Override
+            public void invalidate(String key, long version) {
+                print("INVALIDATED " + key + " " + version + " size=" + cache.size());
+            }
+
+            @Override
+            public void reset() {
+                print("RESET");
+            }
+        });
+        bus.start();
+        print("READY");
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            String[] command = line.split(" ");
+            if (command[0].equals("publish")) {
+                bus.publish(InvalidationBus.REGION_USUARIOS, command[1], Long.parseLong(command[2]));
+            }
+        }
+        bus.close();
+    }
+
+    private static synchronized void print(String line) {
+        System.out.println(line);
+        System.out.flush();
+    }
+}
@@ -0,0 +1,198 @@
+package edu.unc.auth_eventos.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Levanta varias JVM en la misma máquina, cada una con su bus multicast y su caché, y comprueba que las
+ * invalidaciones de una llegan a las demás y que una pérdida vacía las cachés de los receptores.
+ */
+class MulticastInvalidationTest {
+    private static final String GROUP = "239.255.27.1";
+    private static final int NODES = 3;
+    private static final long TIMEOUT_MILLIS = 20_000;
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(Node::stop);
+    }
+
+    @Test
+    void invalidationsReachEveryJvmAndLossTriggersReset() throws Exception {
+        NetworkInterface loopback = loopback();
+        assumeTrue(loopback != null && multicastWorks(loopback), "Multicast no disponible en esta máquina.");
+        int port = freePort();
+
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(Node.start(port, loopback.getName()));
+        }
+        for (Node node : nodes) {
+            node.await("READY");
+        }
+
+        // Una JVM publica y las demás (y ella misma, en local) reciben la invalidación.
+        nodes.get(0).send("publish a@unc.edu.pe 2");
+        for (Node node : nodes) {
+            node.await("INVALIDATED a@unc.edu.pe 2 size=1");
+        }
+
+        // Un emisor en esta JVM pierde un datagrama: los receptores ven el hueco y vacían sus cachés.
+        AtomicInteger dropNext = new AtomicInteger();
+        MulticastTransport multicast = new MulticastTransport(InetAddress.getByName(GROUP), port, loopback, 1);
+        InvalidationBus bus = new InvalidationBus(new InvalidationTransport() {
+            @Override
+            public void start(Consumer<byte[]> receiver) throws IOException {
+                multicast.start(receiver);
+            }
+
+            @Override
+            public void send(byte[] datagram) throws IOException {
+                if (dropNext.getAndUpdate(n -> Math.max(0, n - 1)) == 0) {
+                    multicast.send(datagram);
+                }
+            }
+
+            @Override
+            public void close() {
+                multicast.close();
+            }
+        }, TimeUnit.HOURS.toMillis(1), 0);
+        try {
+            bus.start();
+            bus.flush();
+            bus.publish(InvalidationBus.REGION_USUARIOS, "saludo@unc.edu.pe", 1);
+            bus.flush();
+            for (Node node : nodes) {
+                node.await("INVALIDATED saludo@unc.edu.pe 1 size=2");
+            }
+
+            dropNext.set(1);
+            bus.publish(InvalidationBus.REGION_USUARIOS, "perdido@unc.edu.pe", 5);
+            bus.flush();
+            bus.publish(InvalidationBus.REGION_USUARIOS, "b@unc.edu.pe", 6);
+            bus.flush();
+            for (Node node : nodes) {
+                node.await("RESET");
+                node.await("INVALIDATED b@unc.edu.pe 6 size=1");
+                assertFalse(node.lines.stream().anyMatch(line -> line.contains("perdido")));
+            }
+        } finally {
+            bus.close();
+        }
+    }
+
+    private static NetworkInterface loopback() throws IOException {
+        NetworkInterface byName = NetworkInterface.getByName("lo");
+        return byName != null ? byName : NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+    }
+
+    private static boolean multicastWorks(NetworkInterface loopback) {
+        InetSocketAddress group = new InetSocketAddress(GROUP, freePort());
+        try (MulticastSocket socket = new MulticastSocket(group.getPort())) {
+            socket.setNetworkInterface(loopback);
+            socket.joinGroup(group, loopback);
+            socket.setSoTimeout(2000);
+            socket.send(new DatagramPacket(new byte[]{42}, 1, group));
+            DatagramPacket packet = new DatagramPacket(new byte[1], 1);
+            socket.receive(packet);
+            return packet.getData()[0] == 42;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * JVM hija que ejecuta {@link InvalidationNode}.
+     */
+    private static final class Node {
+        private final Process process;
+        private final PrintWriter stdin;
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+
+        private Node(Process process) {
+            this.process = process;
+            this.stdin = new PrintWriter(process.getOutputStream(), true, StandardCharsets.UTF_8);
+            Thread reader = new Thread(() -> {
+                try (BufferedReader out = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = out.readLine()) != null) {
+                        lines.add(line);
+                    }
+                } catch (IOException ignored) {
+                    // El proceso terminó.
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private static Node start(int port, String networkInterface) throws IOException {
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            return new Node(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    InvalidationNode.class.getName(), GROUP, String.valueOf(port), networkInterface)
+                    .redirectErrorStream(true)
+                    .start());
+        }
+
+        private void send(String command) {
+            stdin.println(command);
+        }
+
+        private void await(String line) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!lines.contains(line) && System.currentTimeMillis() < deadline && process.isAlive()) {
+                Thread.sleep(20);
+            }
+            assertTrue(lines.contains(line), () -> "No se recibió \"" + line + "\". Salida:\n" + String.join("\n", lines));
+        }
+
+        private void stop() {
+            stdin.close();
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package edu.unc.auth_eventos.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VersionedCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesCachedValueUntilInvalidated() {
+        VersionedCache<Valor> cache = new VersionedCache<>(100, 60_000);
+
+        assertEquals("v1", get(cache, new Valor("v1", 1)).texto());
+        assertEquals("v1", get(cache, new Valor("v2", 2)).texto());
+        assertEquals(1, loads.get());
+
+        cache.invalidate("k", 2);
+        assertEquals("v2", get(cache, new Valor("v2", 2)).texto());
+        assertEquals("v2", get(cache, new Valor("v3", 3)).texto());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadThatStartedBeforeAnInvalidationIsNotCached() {
+        VersionedCache<Valor> cache = new VersionedCache<>(100, 60_000);
+
+        // La carga lee la versión 1 mientras otra instancia confirma la 2 y llega su invalidación.
+        Valor viejo = cache.get("k", key -> {
+            cache.invalidate("k", 2);
+            return new Valor("v1", 1);
+        }, Valor::version);
+        assertEquals("v1", viejo.texto());
+
+        assertEquals("v2", get(cache, new Valor("v2", 2)).texto());
+        assertEquals("v2", get(cache, new Valor("v3", 3)).texto());
+    }
+
+    @Test
+    void loadThatStartedBeforeAResetIsNotCached() {
+        VersionedCache<Valor> cache = new VersionedCache<>(100, 60_000);
+
+        cache.get("k", key -> {
+            cache.reset();
+            return new Valor("v1", 1);
+        }, Valor::version);
+
+        assertEquals(0, cache.size());
+        assertEquals("v1", get(cache, new Valor("v1", 1)).texto());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void olderInvalidationDoesNotEvictNewerValue() {
+        VersionedCache<Valor> cache = new VersionedCache<>(100, 60_000);
+        get(cache, new Valor("v5", 5));
+
+        cache.invalidate("k", 4);
+
+        assertEquals("v5", get(cache, new Valor("otro", 6)).texto());
+    }
+
+    @Test
+    void entriesAndTombstonesExpire() {
+        VersionedCache<Valor> cache = new VersionedCache<>(100, 1000);
+        long[] now = {0};
+        cache.setClock(new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now[0]);
+            }
+        });
+        get(cache, new Valor("v1", 1));
+        now[0] = 1001;
+        assertEquals("v2", get(cache, new Valor("v2", 1)).texto());
+
+        cache.invalidate("k", 9);
+        get(cache, new Valor("v3", 3));
+        now[0] = 2002;
+        get(cache, new Valor("v3", 3));
+        assertEquals("v3", get(cache, new Valor("v4", 4)).texto());
+    }
+
+    @Test
+    void doesNotCacheMissingValuesAndEvictsLeastRecentlyUsed() {
+        VersionedCache<Valor> cache = new VersionedCache<>(2, 60_000);
+        assertNull(cache.get("nadie", key -> null, Valor::version));
+        assertEquals(0, cache.size());
+
+        cache.get("a", key -> new Valor("a", 1), Valor::version);
+        cache.get("b", key -> new Valor("b", 1), Valor::version);
+        cache.get("a", key -> new Valor("a2", 2), Valor::version);
+        cache.get("c", key -> new Valor("c", 1), Valor::version);
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get("a", key -> new Valor("a3", 3), Valor::version).texto());
+        assertEquals("b2", cache.get("b", key -> new Valor("b2", 2), Valor::version).texto());
+    }
+
+    private Valor get(VersionedCache<Valor> cache, Valor cargado) {
+        return cache.get("k", key -> {
+            loads.incrementAndGet();
+            return cargado;
+        }, Valor::version);
+    }
+
+    private record Valor(String texto, long version) {
+    }
+}
@@ -0,0 +1,110 @@
+package edu.unc.auth_eventos.jfr;
+
+import edu.unc.auth_eventos.config.CustomUserDetails;
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import edu.unc.auth_eventos.service.JwtService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que el inicio de sesión y el filtro JWT emiten sus eventos de JFR con el perfil de
+ * {@code scripts/auth-eventos.jfc}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthEventsRecordingTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void loginAndAuthenticatedRequestEmitEvents() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol rol = new Rol();
+        rol.setNombre("Jfr-" + suffix);
+        rol = rolRepository.save(rol);
+        Usuario usuario = new Usuario();
+        usuario.setEmail("jfr-" + suffix + "@unc.edu.pe");
+        usuario.setPassword(passwordEncoder.encode("password"));
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+
+        Path file = directory.resolve("auth.jfr");
+        try (Recording recording = new Recording(Configuration.create(Path.of("scripts/auth-eventos.jfc")))) {
+            recording.start();
+            login(usuario.getEmail(), "password");
+            login(usuario.getEmail(), "incorrecta");
+            mockMvc.perform(get("/usuarios/" + usuario.getIdUsuario())
+                            .header("Api-Version", "1")
+                            .header("Authorization", "Bearer " + jwtService.getToken(new CustomUserDetails(usuario))))
+                    .andExpect(status().isOk());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> logins = events.stream()
+                .filter(event -> event.getEventType().getName().equals("edu.unc.auth_eventos.Login"))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+        assertEquals(List.of(LoginEvent.EXITOSO, LoginEvent.CREDENCIALES_INVALIDAS),
+                logins.stream().map(event -> event.getString("resultado")).toList());
+        assertTrue(logins.get(0).getDuration("hash").toNanos() > 0);
+        assertTrue(logins.get(0).getDuration("db").toNanos() > 0);
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("edu.unc.auth_eventos.UserLookup")
+                && UserLookupEvent.LOGIN.equals(event.getString("origen"))
+                && UserLookupEvent.BASE_DE_DATOS.equals(event.getString("fuente"))
+                && event.getBoolean("encontrado")));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("edu.unc.auth_eventos.UserLookup")
+                && UserLookupEvent.FILTRO.equals(event.getString("origen"))
+                && !event.getBoolean("acierto")));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("edu.unc.auth_eventos.TokenVerification")
+                && TokenVerificationEvent.VALIDO.equals(event.getString("resultado"))));
+    }
+
+    private void login(String email, String password) throws Exception {
+        mockMvc.perform(post("/auth/login")
+                .header("Api-Version", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+}
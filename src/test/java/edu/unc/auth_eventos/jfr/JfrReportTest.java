@@ -0,0 +1,63 @@
+package edu.unc.auth_eventos.jfr;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrReportTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void summarizesEventsRecordedWithTheShippedProfile() throws Exception {
+        Path file = directory.resolve("auth.jfr");
+        try (Recording recording = new Recording(Configuration.create(Path.of("scripts/auth-eventos.jfc")))) {
+            recording.start();
+            for (int i = 0; i < 10; i++) {
+                LoginEvent login = new LoginEvent();
+                login.begin();
+                login.addDb(login.mark());
+                login.addHash(login.mark());
+                login.finish(i < 8 ? LoginEvent.EXITOSO : LoginEvent.CREDENCIALES_INVALIDAS);
+            }
+            TokenVerificationEvent token = new TokenVerificationEvent();
+            token.begin();
+            token.finish(new ExpiredJwtException(null, null, "expirado"));
+
+            UserLookupEvent lookup = UserLookupEvent.start(UserLookupEvent.FILTRO);
+            UserLookupEvent.servedBy(UserLookupEvent.CACHE);
+            lookup.finish(true);
+            // Fuera de una búsqueda en curso la anotación no hace nada.
+            UserLookupEvent.servedBy(UserLookupEvent.INDICE);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        String report = JfrReport.summarize(file);
+
+        assertTrue(report.lines().anyMatch(line -> line.matches("Login\\s+EXITOSO\\s+8 .*bd media .*")), report);
+        assertTrue(report.lines().anyMatch(line -> line.matches("Login\\s+CREDENCIALES_INVALIDAS\\s+2 .*")), report);
+        assertTrue(report.lines().anyMatch(line -> line.matches("TokenVerification\\s+EXPIRADO\\s+1 .*")), report);
+        assertTrue(report.lines().anyMatch(line -> line.matches("UserLookup\\s+FILTRO/CACHE\\s+1 .*")), report);
+        assertEquals(5, report.lines().count(), report);
+    }
+
+    @Test
+    void eventsOutsideARecordingAreNotTimed() {
+        LoginEvent login = new LoginEvent();
+        login.begin();
+        assertEquals(0, login.mark());
+        login.finish(LoginEvent.EXITOSO);
+
+        UserLookupEvent lookup = UserLookupEvent.start(UserLookupEvent.LOGIN);
+        UserLookupEvent.servedBy(UserLookupEvent.CACHE);
+        lookup.finish(true);
+    }
+}
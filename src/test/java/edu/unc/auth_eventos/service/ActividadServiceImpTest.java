@@ -0,0 +1,120 @@
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.util.HeavyHitters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ActividadServiceImpTest {
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final MutableClock clock = new MutableClock(TimeUnit.DAYS.toMillis(100));
+    private ActividadServiceImp service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ActividadServiceImp();
+        ReflectionTestUtils.setField(service, "precision", 12);
+        ReflectionTestUtils.setField(service, "width", 1024);
+        ReflectionTestUtils.setField(service, "depth", 4);
+        ReflectionTestUtils.setField(service, "clock", clock);
+        service.init();
+    }
+
+    @Test
+    void countsDistinctUsersIgnoringCase() {
+        for (int i = 0; i < 100; i++) {
+            service.registrar("user" + i + "@unc.edu.pe");
+            service.registrar("USER" + i + "@UNC.EDU.PE");
+        }
+        ActividadService.ResumenActividad resumen = service.getResumen();
+        assertEquals(100, resumen.usuariosUltimaHora(), 2);
+        assertEquals(100, resumen.usuariosUltimoDia(), 2);
+    }
+
+    @Test
+    void hourWindowExpiresBeforeDayWindow() {
+        for (int i = 0; i < 100; i++) {
+            service.registrar("user" + i + "@unc.edu.pe");
+        }
+        clock.advance(30 * MINUTE);
+        for (int i = 0; i < 10; i++) {
+            service.registrar("late" + i + "@unc.edu.pe");
+        }
+        assertEquals(110, service.getResumen().usuariosUltimaHora(), 2);
+
+        clock.advance(45 * MINUTE);
+        ActividadService.ResumenActividad resumen = service.getResumen();
+        assertEquals(10, resumen.usuariosUltimaHora(), 1);
+        assertEquals(110, resumen.usuariosUltimoDia(), 2);
+
+        clock.advance(TimeUnit.HOURS.toMillis(24));
+        resumen = service.getResumen();
+        assertEquals(0, resumen.usuariosUltimaHora());
+        assertEquals(0, resumen.usuariosUltimoDia());
+        assertEquals(0, resumen.masActivosUltimoDia().size());
+    }
+
+    @Test
+    void sumsActivityAcrossSlotsForTopAccounts() {
+        for (int slot = 0; slot < 6; slot++) {
+            for (int i = 0; i < 10; i++) {
+                service.registrar("hot@unc.edu.pe");
+            }
+            service.registrar("cold" + slot + "@unc.edu.pe");
+            clock.advance(5 * MINUTE);
+        }
+        HeavyHitters.Entry first = service.getResumen().masActivosUltimaHora().get(0);
+        assertEquals("hot@unc.edu.pe", first.key());
+        assertEquals(60, first.count());
+    }
+
+    @Test
+    void memoryDoesNotGrowWithUsers() {
+        long before = service.getResumen().memoriaBytes();
+        for (int i = 0; i < 50_000; i++) {
+            service.registrar("user" + i + "@unc.edu.pe");
+        }
+        assertEquals(before, service.getResumen().memoriaBytes());
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.audit.AuditEvent;
+import edu.unc.auth_eventos.audit.AuditEventType;
+import edu.unc.auth_eventos.audit.AuditRingBuffer;
+import edu.unc.auth_eventos.audit.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AuditServiceImpTest {
+    @TempDir
+    Path directory;
+
+    private final AuditServiceImp service = new AuditServiceImp();
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void dropPolicyCountsEventsThatDoNotFit() {
+        AuditRingBuffer<AuditEvent> buffer = withoutConsumer(OverflowPolicy.DROP);
+
+        for (int i = 0; i < 5; i++) {
+            service.publish(AuditEventType.LOGIN_FALLIDO, "user@unc.edu.pe", null);
+        }
+
+        assertEquals(4, buffer.size());
+        assertEquals(1, service.getDroppedCount());
+    }
+
+    @Test
+    void blockPolicyWaitsForSpaceInsteadOfDropping() throws Exception {
+        AuditRingBuffer<AuditEvent> buffer = withoutConsumer(OverflowPolicy.BLOCK);
+        for (int i = 0; i < 4; i++) {
+            service.publish(AuditEventType.LOGIN_FALLIDO, "user@unc.edu.pe", null);
+        }
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+                () -> service.publish(AuditEventType.LOGIN_EXITOSO, "user@unc.edu.pe", null));
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+
+        List<AuditEvent> drained = new ArrayList<>();
+        buffer.drainTo(drained, 1);
+        blocked.get(5, TimeUnit.SECONDS);
+
+        assertEquals(4, buffer.size());
+        assertEquals(0, service.getDroppedCount());
+    }
+
+    @Test
+    void blockPolicyDropsWhenServiceStops() throws Exception {
+        withoutConsumer(OverflowPolicy.BLOCK);
+        for (int i = 0; i < 4; i++) {
+            service.publish(AuditEventType.LOGIN_FALLIDO, "user@unc.edu.pe", null);
+        }
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+                () -> service.publish(AuditEventType.LOGIN_EXITOSO, "user@unc.edu.pe", null));
+        Thread.sleep(100);
+        ReflectionTestUtils.setField(service, "running", false);
+        blocked.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, service.getDroppedCount());
+    }
+
+    @Test
+    void afterCommitPublishesOnlyCommittedTransactions() throws Exception {
+        AuditRingBuffer<AuditEvent> buffer = withoutConsumer(OverflowPolicy.DROP);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:audit_tx", "sa", "")));
+
+        transaction.executeWithoutResult(status -> {
+            service.publishAfterCommit(AuditEventType.USUARIO_CREADO, "rollback@unc.edu.pe", null);
+            assertEquals(0, buffer.size());
+            status.setRollbackOnly();
+        });
+        assertEquals(0, buffer.size());
+
+        transaction.executeWithoutResult(status -> {
+            service.publishAfterCommit(AuditEventType.USUARIO_CREADO, "commit@unc.edu.pe", null);
+            assertEquals(0, buffer.size());
+        });
+        List<AuditEvent> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        assertEquals(List.of("commit@unc.edu.pe"), drained.stream().map(AuditEvent::getEmail).toList());
+
+        service.publishAfterCommit(AuditEventType.USUARIO_CREADO, "notx@unc.edu.pe", null);
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void stopFlushesPendingEvents() throws Exception {
+        configure(OverflowPolicy.BLOCK, 1024);
+        service.start();
+        for (int i = 0; i < 1000; i++) {
+            service.publish(AuditEventType.LOGIN_EXITOSO, "user" + i + "@unc.edu.pe", null);
+        }
+        service.stop();
+
+        long lines = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                lines += Files.readAllLines(file).size();
+            }
+        }
+        assertEquals(1000, lines);
+        assertEquals(0, service.getDroppedCount());
+    }
+
+    private void configure(OverflowPolicy policy, int capacity) {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "capacity", capacity);
+        ReflectionTestUtils.setField(service, "batchSize", 64);
+        ReflectionTestUtils.setField(service, "overflowPolicy", policy);
+        ReflectionTestUtils.setField(service, "directory", directory.toString());
+        ReflectionTestUtils.setField(service, "maxFileSize", 10_485_760L);
+    }
+
+    /**
+     * Prepara el servicio con un buffer de 4 eventos y sin hilo consumidor, para llenar el buffer de forma determinista.
+     */
+    private AuditRingBuffer<AuditEvent> withoutConsumer(OverflowPolicy policy) {
+        configure(policy, 4);
+        AuditRingBuffer<AuditEvent> buffer = new AuditRingBuffer<>(4);
+        ReflectionTestUtils.setField(service, "buffer", buffer);
+        ReflectionTestUtils.setField(service, "running", true);
+        return buffer;
+    }
+}
@@ -0,0 +1,87 @@
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.entity.Rol;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.RolRepository;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que el índice de credenciales atiende la búsqueda del filtro JWT y que las escrituras de los servicios
+ * lo mantienen al día.
+ */
+@SpringBootTest(properties = {
+        "app.credential-index.enabled=true",
+        "app.credential-index.file=target/credential-index/index-test.bin",
+        "app.credential-index.capacity=4096"})
+class CredentialIndexServiceImpTest {
+    @Autowired
+    private CredentialIndexService credentialIndexService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private RolRepository rolRepository;
+
+    @Test
+    void serviceWritesKeepTheIndexCurrent() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!credentialIndexService.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(credentialIndexService.isReady());
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Rol rol = new Rol();
+        rol.setNombre("Indice" + suffix.replaceAll("[^a-f]", "x"));
+        rol = rolRepository.save(rol);
+        Usuario usuario = new Usuario();
+        usuario.setEmail("indice-" + suffix + "@unc.edu.pe");
+        usuario.setPassword("original");
+        usuario.setRol(rol);
+        usuario = usuarioRepository.save(usuario);
+        String email = usuario.getEmail();
+        long size = credentialIndexService.size();
+
+        assertEquals("original", userDetailsService.loadUserByUsername(email).getPassword());
+        assertEquals(size + 1, credentialIndexService.size());
+
+        // Un cambio que no pasa por los servicios no se publica: se sigue sirviendo la entrada del índice.
+        usuario.setPassword("directa");
+        usuario = usuarioRepository.save(usuario);
+        assertEquals("original", userDetailsService.loadUserByUsername(email).getPassword());
+
+        Usuario cambios = new Usuario();
+        cambios.setPassword("nueva");
+        usuarioService.patch(usuario.getIdUsuario(), cambios);
+        assertTrue(userDetailsService.loadUserByUsername(email).getPassword().startsWith("$2"));
+
+        String nuevoEmail = "movido-" + suffix + "@unc.edu.pe";
+        cambios = new Usuario();
+        cambios.setEmail(nuevoEmail);
+        usuarioService.patch(usuario.getIdUsuario(), cambios);
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(email));
+        assertEquals(nuevoEmail, userDetailsService.loadUserByUsername(nuevoEmail).getUsername());
+
+        usuarioService.delete(usuario.getIdUsuario());
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(nuevoEmail));
+    }
+}
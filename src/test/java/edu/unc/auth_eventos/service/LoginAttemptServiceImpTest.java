@@ -0,0 +1,228 @@
+package edu.unc.auth_eventos.service;
+
+import edu.unc.auth_eventos.config.ShardRouter;
+import edu.unc.auth_eventos.entity.Usuario;
+import edu.unc.auth_eventos.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LoginAttemptServiceImpTest {
+    private static final long WINDOW = 60_000;
+    private static final long LOCK = 1_000;
+    private static final String EMAIL = "user@unc.edu.pe";
+
+    private final MutableClock clock = new MutableClock(10 * WINDOW);
+    private final UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+    private LoginAttemptServiceImp service;
+
+    @BeforeEach
+    void setUp() {
+        service = create(200_000, 100_000);
+    }
+
+    @Test
+    void locksWhenThresholdIsReachedWithinWindow() {
+        fail(EMAIL, 4);
+        assertEquals(0, service.getLockRemaining(EMAIL));
+
+        fail(EMAIL, 1);
+        assertEquals(LOCK, service.getLockRemaining(EMAIL));
+
+        clock.advance(LOCK);
+        assertEquals(0, service.getLockRemaining(EMAIL));
+    }
+
+    @Test
+    void previousWindowIsWeightedByOverlap() {
+        fail(EMAIL, 4);
+        // A mitad de la ventana siguiente los 4 fallos anteriores pesan 2: 2 + 2 no llega a 5.
+        clock.advance(WINDOW + WINDOW / 2);
+        fail(EMAIL, 2);
+        assertEquals(0, service.getLockRemaining(EMAIL));
+        // Uno más alcanza el umbral: 2 + 3 = 5.
+        fail(EMAIL, 1);
+        assertTrue(service.getLockRemaining(EMAIL) > 0);
+    }
+
+    @Test
+    void failuresOutsideTwoWindowsAreForgotten() {
+        fail(EMAIL, 4);
+        clock.advance(2 * WINDOW);
+        fail(EMAIL, 4);
+        assertEquals(0, service.getLockRemaining(EMAIL));
+    }
+
+    @Test
+    void lockDurationDoublesAndIsCapped() {
+        long[] expected = {LOCK, 2 * LOCK, 4 * LOCK, 8 * LOCK, 8 * LOCK};
+        for (long lock : expected) {
+            fail(EMAIL, 5);
+            assertEquals(lock, service.getLockRemaining(EMAIL));
+            clock.advance(lock);
+        }
+    }
+
+    @Test
+    void successResetsCountersAndPersistsReset() {
+        fail(EMAIL, 4);
+        service.loginSucceeded(EMAIL);
+        fail(EMAIL, 4);
+        assertEquals(0, service.getLockRemaining(EMAIL));
+
+        service.loginSucceeded(EMAIL);
+        service.flush();
+        verify(usuarioRepository, times(2)).updateIntentosFallidos(EMAIL, 0, null);
+    }
+
+    @Test
+    void flushPersistsOnlyKnownAccounts() {
+        fail(EMAIL, 5);
+        service.loginFailed("nadie@unc.edu.pe", false);
+        service.flush();
+
+        verify(usuarioRepository).updateIntentosFallidos(eq(EMAIL), eq(5), any(LocalDateTime.class));
+        verify(usuarioRepository, never()).updateIntentosFallidos(eq("nadie@unc.edu.pe"), anyInt(), any());
+    }
+
+    @Test
+    void seedsLockAndTotalFromDatabase() {
+        Usuario usuario = new Usuario();
+        usuario.setIntentosFallidos(10);
+        usuario.setBloqueadoHasta(LocalDateTime.ofInstant(Instant.ofEpochMilli(clock.millis() + 500), ZoneId.systemDefault()));
+
+        assertEquals(500, service.getLockRemaining(EMAIL, usuario));
+        assertEquals(500, service.getLockRemaining(EMAIL));
+
+        // Dos bloqueos previos: el siguiente dura 4 veces el base.
+        clock.advance(500);
+        fail(EMAIL, 5);
+        assertEquals(4 * LOCK, service.getLockRemaining(EMAIL));
+        service.flush();
+        verify(usuarioRepository).updateIntentosFallidos(eq(EMAIL), eq(15), any(LocalDateTime.class));
+    }
+
+    @Test
+    void seedsTotalWhenLockExpired() {
+        Usuario usuario = new Usuario();
+        usuario.setIntentosFallidos(3);
+
+        assertEquals(0, service.getLockRemaining(EMAIL, usuario));
+        fail(EMAIL, 1);
+        service.flush();
+        verify(usuarioRepository).updateIntentosFallidos(EMAIL, 4, null);
+    }
+
+    @Test
+    void unknownEmailsDoNotEvictKnownAccounts() {
+        service = create(16, 16);
+        fail(EMAIL, 4);
+        for (int i = 0; i < 1_000; i++) {
+            service.loginFailed("spray" + i + "@unc.edu.pe", false);
+        }
+        fail(EMAIL, 1);
+        assertEquals(LOCK, service.getLockRemaining(EMAIL));
+    }
+
+    @Test
+    void evictedDirtyEntriesAreStillPersisted() {
+        service = create(16, 16);
+        for (int i = 0; i < 100; i++) {
+            service.loginFailed("user" + i + "@unc.edu.pe", true);
+        }
+        service.flush();
+        for (int i = 0; i < 100; i++) {
+            verify(usuarioRepository).updateIntentosFallidos("user" + i + "@unc.edu.pe", 1, null);
+        }
+        assertEquals(0, service.getLostUpdates());
+    }
+
+    @Test
+    void countsEvictionsThatDoNotFitInQueue() {
+        service = create(16, 16);
+        for (int i = 0; i < 2_000; i++) {
+            service.loginFailed("user" + i + "@unc.edu.pe", true);
+        }
+        // Dos segmentos de 16 en memoria y 1024 en la cola; el resto se cuenta como perdido.
+        assertEquals(2_000 - 32 - 1_024, service.getLostUpdates());
+        service.flush();
+        verify(usuarioRepository, never()).updateIntentosFallidos(eq("user1500@unc.edu.pe"), anyInt(), isNull());
+    }
+
+    private void fail(String email, int times) {
+        for (int i = 0; i < times; i++) {
+            service.loginFailed(email, true);
+        }
+    }
+
+    private LoginAttemptServiceImp create(int maxEntries, int maxUnknownEntries) {
+        LoginAttemptServiceImp created = new LoginAttemptServiceImp();
+        ReflectionTestUtils.setField(created, "usuarioRepository", usuarioRepository);
+        ReflectionTestUtils.setField(created, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(created, "shardRouter", new ShardRouter(List.of(), null));
+        ReflectionTestUtils.setField(created, "credentialIndexService", mock(CredentialIndexService.class));
+        ReflectionTestUtils.setField(created, "clock", clock);
+        ReflectionTestUtils.setField(created, "maxFailures", 5);
+        ReflectionTestUtils.setField(created, "windowMillis", WINDOW);
+        ReflectionTestUtils.setField(created, "baseLockMillis", LOCK);
+        ReflectionTestUtils.setField(created, "maxLockMillis", 8 * LOCK);
+        ReflectionTestUtils.setField(created, "shardCount", 1);
+        ReflectionTestUtils.setField(created, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(created, "maxUnknownEntries", maxUnknownEntries);
+        created.init();
+        return created;
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
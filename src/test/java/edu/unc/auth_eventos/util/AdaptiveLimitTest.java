@@ -0,0 +1,87 @@
+package edu.unc.auth_eventos.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLimitTest {
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void rejectsBeyondTheLimit() {
+        AdaptiveLimit limit = new AdaptiveLimit(2, 1, 10);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(1, limit.getRejectedCount());
+
+        limit.release(MILLI, false);
+        assertTrue(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void growsWhileLatencyStaysFlat() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 4, 100);
+
+        saturate(limit, MILLI, 40 * 20);
+
+        assertTrue(limit.getLimit() > 20, () -> "límite " + limit.getLimit());
+    }
+
+    @Test
+    void shrinksWhenQueueingRaisesLatencyButNotBelowMinimum() {
+        AdaptiveLimit limit = new AdaptiveLimit(60, 10, 100);
+        saturate(limit, MILLI, 5 * 20);
+        int saturated = limit.getLimit();
+
+        saturate(limit, 10 * MILLI, 10 * 20);
+        assertTrue(limit.getLimit() < saturated * 0.7, () -> saturated + " -> " + limit.getLimit());
+
+        saturate(limit, 100 * MILLI, 40 * 20);
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void ignoresWindowsThatDoNotUseTheLimit() {
+        AdaptiveLimit limit = new AdaptiveLimit(40, 4, 100);
+        for (int i = 0; i < 200; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(i < 100 ? MILLI : 50 * MILLI, false);
+        }
+
+        assertEquals(40, limit.getLimit());
+    }
+
+    @Test
+    void failuresBackOffImmediately() {
+        AdaptiveLimit limit = new AdaptiveLimit(50, 10, 100);
+
+        assertTrue(limit.tryAcquire());
+        limit.release(MILLI, true);
+
+        assertEquals(45, limit.getLimit());
+    }
+
+    /**
+     * Ocupa todo el límite y libera cada lugar con la latencia dada hasta sumar las muestras pedidas.
+     */
+    private static void saturate(AdaptiveLimit limit, long latency, int samples) {
+        int done = 0;
+        while (done < samples) {
+            int acquired = 0;
+            while (acquired < samples - done && limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(latency, false);
+            }
+            done += acquired;
+        }
+    }
+}
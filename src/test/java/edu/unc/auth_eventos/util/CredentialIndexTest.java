@@ -0,0 +1,122 @@
+package edu.unc.auth_eventos.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CredentialIndexTest {
+    private static final String HASH = "$2a$10$abcdefghijklmnopqrstuuCVHkwzWq3YKm7xn3h1DcNd3jPzTtr0.";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void storesFindsAndRemovesCredentials() throws Exception {
+        try (CredentialIndex index = CredentialIndex.open(directory.resolve("index.bin"), 1024)) {
+            assertTrue(index.put("ana@unc.edu.pe", 7, 2, 3, 1, 1_000L, HASH));
+            CredentialIndex.Credencial credencial = new CredentialIndex.Credencial();
+
+            assertTrue(index.find("ana@unc.edu.pe", credencial));
+            assertEquals(7, credencial.getIdUsuario());
+            assertEquals(2, credencial.getIdRol());
+            assertEquals(3, credencial.getVersion());
+            assertEquals(1, credencial.getIntentos());
+            assertEquals(1_000L, credencial.getBloqueadoHasta());
+            assertEquals(HASH, credencial.getPassword());
+            assertFalse(index.find("otra@unc.edu.pe", credencial));
+
+            index.updateLock("ana@unc.edu.pe", 0, 0);
+            assertTrue(index.find("ana@unc.edu.pe", credencial));
+            assertEquals(0, credencial.getIntentos());
+
+            assertTrue(index.remove("ana@unc.edu.pe"));
+            assertFalse(index.find("ana@unc.edu.pe", credencial));
+            assertEquals(0, index.size());
+        }
+    }
+
+    @Test
+    void newerVersionOrEmailReplacesTheUserEntry() throws Exception {
+        try (CredentialIndex index = CredentialIndex.open(directory.resolve("index.bin"), 1024)) {
+            CredentialIndex.Credencial credencial = new CredentialIndex.Credencial();
+            index.put("ana@unc.edu.pe", 7, 2, 3, 0, 0, HASH);
+
+            assertFalse(index.put("ana@unc.edu.pe", 7, 5, 2, 0, 0, HASH));
+            index.find("ana@unc.edu.pe", credencial);
+            assertEquals(2, credencial.getIdRol());
+
+            assertTrue(index.put("ana.nueva@unc.edu.pe", 7, 2, 4, 0, 0, HASH));
+            assertFalse(index.find("ana@unc.edu.pe", credencial));
+            assertTrue(index.find("ana.nueva@unc.edu.pe", credencial));
+            assertEquals(1, index.size());
+
+            assertTrue(index.removeUser(7));
+            assertFalse(index.find("ana.nueva@unc.edu.pe", credencial));
+        }
+    }
+
+    @Test
+    void rejectsOversizedPasswordsAndStopsAtMaximumLoad() throws Exception {
+        try (CredentialIndex index = CredentialIndex.open(directory.resolve("index.bin"), 1024)) {
+            assertFalse(index.put("largo@unc.edu.pe", 1, 0, 0, 0, 0, "x".repeat(CredentialIndex.MAX_PASSWORD_BYTES + 1)));
+
+            int stored = 0;
+            for (int i = 0; i < 1024; i++) {
+                if (index.put(i + "@unc.edu.pe", i + 1, 0, 0, 0, 0, HASH)) {
+                    stored++;
+                }
+            }
+            assertEquals(768, stored);
+            assertTrue(index.find("767@unc.edu.pe", new CredentialIndex.Credencial()));
+        }
+    }
+
+    @Test
+    void reusesCleanlyClosedFilesOnly() throws Exception {
+        Path file = directory.resolve("index.bin");
+        try (CredentialIndex index = CredentialIndex.open(file, 1024)) {
+            assertFalse(index.isReused());
+            index.put("ana@unc.edu.pe", 7, 2, 3, 0, 0, HASH);
+            index.setSequence(1, 42);
+            index.markComplete();
+        }
+
+        CredentialIndex reopened = CredentialIndex.open(file, 1024);
+        assertTrue(reopened.isReused());
+        assertTrue(reopened.isComplete());
+        assertEquals(42, reopened.getSequence(1));
+        assertTrue(reopened.find("ana@unc.edu.pe", new CredentialIndex.Credencial()));
+
+        // Sin cerrar, como si el proceso hubiera muerto: el siguiente arranque descarta el contenido.
+        try (CredentialIndex afterCrash = CredentialIndex.open(file, 1024)) {
+            assertFalse(afterCrash.isReused());
+            assertFalse(afterCrash.isComplete());
+            assertEquals(0, afterCrash.size());
+        }
+        try (CredentialIndex otherCapacity = CredentialIndex.open(file, 4096)) {
+            assertFalse(otherCapacity.isReused());
+        }
+    }
+
+    @Test
+    void createsTheFileForTheOwnerOnlyAndTightensBroaderPermissions() throws Exception {
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path file = directory.resolve("index.bin");
+        try (CredentialIndex index = CredentialIndex.open(file, 1024)) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+        }
+
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+        try (CredentialIndex index = CredentialIndex.open(file, 1024)) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+        }
+    }
+}
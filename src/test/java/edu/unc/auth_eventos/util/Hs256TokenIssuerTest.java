@@ -0,0 +1,108 @@
+package edu.unc.auth_eventos.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Hs256TokenIssuerTest {
+    private static final Key KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET_KEY));
+
+    private final Hs256TokenIssuer issuer = new Hs256TokenIssuer(KEY.getEncoded());
+
+    @Test
+    void producesTheSameTokenAsTheJjwtBuilder() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        long expiration = now + JwtUtil.EXPIRE_ACCESS_TOKEN;
+
+        for (String subject : List.of("ana@unc.edu.pe", "josé.núñez@unc.edu.pe", "a\"b\\c\td\n\u0001@unc.edu.pe", "😀@unc.edu.pe", "€\uD800@unc.edu.pe")) {
+            assertEquals(jjwt(subject, 0, now, expiration), issuer.issue(subject, 0, now / 1000, expiration / 1000), subject);
+        }
+        for (long permisos : new long[]{1, 0b1011, Long.MAX_VALUE, -1}) {
+            assertEquals(jjwt("ana@unc.edu.pe", permisos, now, expiration),
+                    issuer.issue("ana@unc.edu.pe", permisos, now / 1000, expiration / 1000));
+        }
+    }
+
+    @Test
+    void tokensAreAcceptedByTheJjwtParserFromManyThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String subject = "usuario" + thread + "-" + i + "@unc.edu.pe".repeat(i % 20);
+                        long now = System.currentTimeMillis() / 1000;
+                        Claims claims = Jwts.parser().setSigningKey(KEY).build()
+                                .parseClaimsJws(issuer.issue(subject, i, now, now + 600)).getBody();
+                        assertEquals(subject, claims.getSubject());
+                        assertEquals(i, claims.get("perm", Number.class).longValue());
+                        assertEquals(now + 600, claims.getExpiration().getTime() / 1000);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Compara el costo por token con el builder de jjwt; solo se ejecuta con {@code -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkIssuance() {
+        for (int round = 0; round < 3; round++) {
+            report("jjwt", 200_000, () -> {
+                long now = System.currentTimeMillis();
+                return jjwt("ana@unc.edu.pe", 5, now, now + JwtUtil.EXPIRE_ACCESS_TOKEN);
+            });
+            report("hs256", 200_000, () -> {
+                long now = System.currentTimeMillis();
+                return issuer.issue("ana@unc.edu.pe", 5, now / 1000, (now + JwtUtil.EXPIRE_ACCESS_TOKEN) / 1000);
+            });
+        }
+    }
+
+    private static void report(String label, int iterations, Supplier<String> issue) {
+        int length = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            length += issue.get().length();
+        }
+        long nanos = (System.nanoTime() - begin) / iterations;
+        System.out.printf("token %-6s: %,6d ns/token (%d)%n", label, nanos, length / iterations);
+    }
+
+    private static String jjwt(String subject, long permisos, long issuedAtMillis, long expirationMillis) {
+        return Jwts.builder()
+                .setClaims(new HashMap<>())
+                .setSubject(subject)
+                .claim("perm", permisos)
+                .setIssuedAt(new Date(issuedAtMillis))
+                .setExpiration(new Date(expirationMillis))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
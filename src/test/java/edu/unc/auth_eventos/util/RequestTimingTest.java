@@ -0,0 +1,39 @@
+package edu.unc.auth_eventos.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestTimingTest {
+    @Test
+    void phasesAreIgnoredOutsideAMeasuredRequest() {
+        RequestTiming.start().stop();
+
+        long begin = RequestTiming.begin();
+        RequestTiming.end(RequestTiming.Phase.DB, begin);
+
+        assertEquals(0, begin);
+        RequestTiming timing = RequestTiming.start();
+        assertEquals(0, timing.count(RequestTiming.Phase.DB));
+        timing.stop();
+    }
+
+    @Test
+    void phasesAccumulateAndOnlyMeasuredOnesAreReported() throws Exception {
+        RequestTiming timing = RequestTiming.start();
+        for (int i = 0; i < 2; i++) {
+            long begin = RequestTiming.begin();
+            Thread.sleep(2);
+            RequestTiming.end(RequestTiming.Phase.DB, begin);
+        }
+        RequestTiming.beginSerialize();
+        long total = timing.stop();
+
+        assertEquals(2, timing.count(RequestTiming.Phase.DB));
+        assertTrue(timing.nanos(RequestTiming.Phase.DB) >= 4_000_000);
+        assertEquals(1, timing.count(RequestTiming.Phase.SERIALIZE));
+        String header = timing.toServerTiming(total);
+        assertTrue(header.matches("db;dur=\\d+\\.\\d, serialize;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d"), header);
+    }
+}
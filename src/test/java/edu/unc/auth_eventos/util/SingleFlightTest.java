@@ -0,0 +1,109 @@
+package edu.unc.auth_eventos.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    private static final int THREADS = 64;
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+
+        List<Future<Object>> results = spike(() -> singleFlight.execute("ana@unc.edu.pe", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return value;
+        }), release);
+
+        for (Future<Object> result : results) {
+            assertSame(value, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void failurePropagatesToEveryWaiter() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("sin conexión");
+
+        List<Future<Object>> results = spike(() -> singleFlight.execute("ana@unc.edu.pe", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw failure;
+        }), release);
+
+        for (Future<Object> result : results) {
+            Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void laterCallsAndOtherKeysLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        singleFlight.execute("a", loads::incrementAndGet);
+        singleFlight.execute("a", loads::incrementAndGet);
+        singleFlight.execute("b", loads::incrementAndGet);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void nullResultsAreShared() {
+        assertNull(singleFlight.execute("a", () -> null));
+    }
+
+    /**
+     * Lanza {@link #THREADS} llamadas a la vez y libera la carga cuando todas salvo la primera están esperando.
+     */
+    private List<Future<Object>> spike(Callable<Object> call, CountDownLatch release)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return call.call();
+            }));
+        }
+        assertTrue(ready.await(5, TimeUnit.SECONDS));
+        // Los hilos que esperan no se pueden observar; se deja margen para que todos entren antes de liberar.
+        Thread.sleep(200);
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package edu.unc.auth_eventos.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica la precisión de {@link HyperLogLog} y de {@link HeavyHitters}, también con escrituras concurrentes.
+ */
+class SketchesTest {
+    @Test
+    void hyperLogLogEstimatesWithinFivePercent() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            hll.add(HyperLogLog.hash("user" + i + "@unc.edu.pe"));
+            hll.add(HyperLogLog.hash("user" + i + "@unc.edu.pe"));
+        }
+        assertEquals(100_000, hll.estimate(), 5_000);
+    }
+
+    @Test
+    void hyperLogLogIsExactForSmallCardinalities() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 50; i++) {
+            hll.add(HyperLogLog.hash("user" + i));
+        }
+        assertEquals(50, hll.estimate(), 1);
+    }
+
+    @Test
+    void mergeEqualsUnion() {
+        HyperLogLog a = new HyperLogLog(12);
+        HyperLogLog b = new HyperLogLog(12);
+        for (int i = 0; i < 20_000; i++) {
+            a.add(HyperLogLog.hash("user" + i));
+            b.add(HyperLogLog.hash("user" + (i + 10_000)));
+        }
+        a.merge(b);
+        assertEquals(30_000, a.estimate(), 1_500);
+
+        a.clear();
+        assertEquals(0, a.estimate());
+    }
+
+    @Test
+    void heavyHittersFindsTheMostActiveKeys() {
+        HeavyHitters hitters = new HeavyHitters(4, 1024, 5);
+        for (int i = 0; i < 20_000; i++) {
+            String key = "user" + i;
+            hitters.add(key, HyperLogLog.hash(key));
+        }
+        for (int hot = 0; hot < 5; hot++) {
+            String key = "hot" + hot;
+            for (int i = 0; i < 1_000 * (hot + 1); i++) {
+                hitters.add(key, HyperLogLog.hash(key));
+            }
+        }
+
+        List<HeavyHitters.Entry> top = hitters.top();
+        assertEquals(List.of("hot4", "hot3", "hot2", "hot1", "hot0"), top.stream().map(HeavyHitters.Entry::key).toList());
+        for (HeavyHitters.Entry entry : top) {
+            long real = 1_000L * (entry.key().charAt(3) - '0' + 1);
+            // Count-min nunca subestima y con este ancho el exceso es pequeño.
+            assertTrue(entry.count() >= real && entry.count() < real + 200, entry.toString());
+        }
+    }
+
+    @Test
+    void concurrentWritersLoseNoUpdates() throws Exception {
+        HyperLogLog hll = new HyperLogLog(12);
+        HeavyHitters hitters = new HeavyHitters(4, 1024, 5);
+        long hot = HyperLogLog.hash("hot");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int base = thread * 10_000;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        hll.add(HyperLogLog.hash("user" + (base + i)));
+                        hitters.add("hot", hot);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80_000, hll.estimate(), 4_000);
+        assertEquals(80_000, hitters.estimate(hot));
+        assertEquals(List.of("hot"), hitters.top().stream().map(HeavyHitters.Entry::key).toList());
+    }
+}